@@ -0,0 +1,17 @@
+package manageezpz.benchmark;
+
+/**
+ * Runs all the micro-benchmarks. Invoked by the {@code benchmark} Gradle task, which {@code check} does not run.
+ */
+public class BenchmarkRunner {
+
+    /**
+     * Runs every benchmark in turn and prints their results.
+     */
+    public static void main(String[] args) {
+        new UniquenessBenchmark().run();
+        new LoadBenchmark().run();
+        new TemporalBenchmark().run();
+        new ValidationBenchmark().run();
+    }
+}
@@ -0,0 +1,42 @@
+package manageezpz.benchmark;
+
+/**
+ * Helper functions shared by the micro-benchmarks.
+ */
+public class BenchmarkUtil {
+
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURED_RUNS = 5;
+
+    private BenchmarkUtil() {} // prevents instantiation
+
+    /**
+     * Runs {@code operation} a few times to warm up the JIT, then returns the best of several measured runs.
+     * @param operation the operation to be measured.
+     * @return the fastest measured running time in nanoseconds.
+     */
+    public static long bestTimeNanos(Runnable operation) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            operation.run();
+        }
+
+        long bestTime = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            long start = System.nanoTime();
+            operation.run();
+            bestTime = Math.min(bestTime, System.nanoTime() - start);
+        }
+        return bestTime;
+    }
+
+    /**
+     * Prints one row of benchmark results.
+     * @param name the name of the measured operation.
+     * @param size the number of elements the operation worked on.
+     * @param nanos the measured running time in nanoseconds.
+     */
+    public static void report(String name, int size, long nanos) {
+        System.out.println(String.format("%-40s n=%-8d %10.3f ms %10.1f ns/element",
+                name, size, nanos / 1e6, (double) nanos / size));
+    }
+}
@@ -0,0 +1,80 @@
+package manageezpz.benchmark;
+
+import static manageezpz.benchmark.BenchmarkUtil.bestTimeNanos;
+import static manageezpz.benchmark.BenchmarkUtil.report;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.Todo;
+import manageezpz.storage.JsonAddressBookStorage;
+
+/**
+ * Measures how loading an address book file with {@code JsonAddressBookStorage#readAddressBook()} scales with
+ * the number of tasks, up to 100k tasks assigned to 5k employees.
+ * The time per task should stay roughly constant as the number of tasks grows.
+ */
+public class LoadBenchmark {
+
+    private static final int NUM_OF_PERSONS = 5_000;
+    private static final int ASSIGNEES_PER_TASK = 3;
+    private static final int[] NUM_OF_TASKS = {10_000, 50_000, 100_000};
+
+    /**
+     * Runs the benchmark for every number of tasks in {@code NUM_OF_TASKS}.
+     */
+    public void run() {
+        try {
+            Path folder = Files.createTempDirectory("load-benchmark");
+            for (int numOfTasks : NUM_OF_TASKS) {
+                Path filePath = folder.resolve("addressbook-" + numOfTasks + ".json");
+                JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+                storage.saveAddressBook(createAddressBook(numOfTasks));
+
+                report("JsonAddressBookStorage#readAddressBook", numOfTasks, bestTimeNanos(() -> {
+                    try {
+                        storage.readAddressBook();
+                    } catch (DataConversionException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }));
+            }
+        } catch (IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private static AddressBook createAddressBook(int numOfTasks) {
+        List<Person> persons = new ArrayList<>(NUM_OF_PERSONS);
+        for (int i = 0; i < NUM_OF_PERSONS; i++) {
+            persons.add(new Person(i + 1, new Name("Employee " + i), new Phone(String.valueOf(10_000_000 + i)),
+                    new Email("employee" + i + "@example.com"), 0));
+        }
+
+        List<Task> tasks = new ArrayList<>(numOfTasks);
+        for (int i = 0; i < numOfTasks; i++) {
+            Task task = new Todo(new Description("Task " + i));
+            for (int j = 0; j < ASSIGNEES_PER_TASK; j++) {
+                task = task.withAssignee(persons.get((i + j * 997) % NUM_OF_PERSONS).getId());
+            }
+            tasks.add(task);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setTasks(tasks);
+        return addressBook;
+    }
+}
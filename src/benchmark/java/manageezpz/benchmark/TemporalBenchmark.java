@@ -0,0 +1,96 @@
+package manageezpz.benchmark;
+
+import static manageezpz.benchmark.BenchmarkUtil.bestTimeNanos;
+import static manageezpz.benchmark.BenchmarkUtil.report;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Time;
+
+/**
+ * Compares comparing, sorting and displaying the dates and times of deadlines through the values that
+ * {@code Date} and {@code Time} parse once, against parsing and formatting them on every use with new formatters
+ * as was done before.
+ * The cached operations should be several times faster.
+ */
+public class TemporalBenchmark {
+
+    private static final int NUM_OF_DEADLINES = 100_000;
+
+    private long sink;
+
+    /**
+     * Runs every comparison on {@code NUM_OF_DEADLINES} deadlines.
+     */
+    public void run() {
+        List<Deadline> deadlines = createDeadlines();
+
+        report("Date#getParsedDate, reparsed", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            for (Deadline deadline : deadlines) {
+                sink += reparseDate(deadline.getDate()).getDayOfMonth();
+            }
+        }));
+        report("Date#getParsedDate, cached", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            for (Deadline deadline : deadlines) {
+                sink += deadline.getDate().getParsedDate().getDayOfMonth();
+            }
+        }));
+
+        report("sort by date and time, reparsed", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            List<Deadline> sorted = new ArrayList<>(deadlines);
+            sorted.sort(Comparator.comparing((Deadline deadline) -> reparseDate(deadline.getDate()))
+                    .thenComparing(deadline -> reparseTime(deadline.getTime())));
+            sink += sorted.size();
+        }));
+        report("sort by date and time, cached", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            List<Deadline> sorted = new ArrayList<>(deadlines);
+            sorted.sort(Comparator.comparing(Deadline::getDate).thenComparing(Deadline::getTime));
+            sink += sorted.size();
+        }));
+
+        report("Deadline#getDateTime, reformatted", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            for (Deadline deadline : deadlines) {
+                sink += ("by " + reparseDate(deadline.getDate()).format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
+                        + " " + reparseTime(deadline.getTime()).format(DateTimeFormatter.ofPattern("h:mm a")))
+                        .length();
+            }
+        }));
+        report("Deadline#getDateTime, cached", NUM_OF_DEADLINES, bestTimeNanos(() -> {
+            for (Deadline deadline : deadlines) {
+                sink += deadline.getDateTime().length();
+            }
+        }));
+
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private static LocalDate reparseDate(Date date) {
+        return LocalDate.parse(date.getDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+    }
+
+    private static LocalTime reparseTime(Time time) {
+        return LocalTime.parse(time.getTime(), DateTimeFormatter.ofPattern("HHmm"));
+    }
+
+    private static List<Deadline> createDeadlines() {
+        LocalDate firstDate = LocalDate.of(2022, 1, 1);
+        List<Deadline> deadlines = new ArrayList<>(NUM_OF_DEADLINES);
+        for (int i = 0; i < NUM_OF_DEADLINES; i++) {
+            // Spreads the deadlines over about three years, in an order unrelated to their dates
+            int day = (int) ((i * 7919L) % 1096);
+            int minuteOfDay = (int) ((i * 104_729L) % (24 * 60));
+            String time = String.format("%02d%02d", minuteOfDay / 60, minuteOfDay % 60);
+            deadlines.add(new Deadline(new Description("Deadline " + i),
+                    new Date(firstDate.plusDays(day).toString()), new Time(time)));
+        }
+        return deadlines;
+    }
+}
@@ -0,0 +1,76 @@
+package manageezpz.benchmark;
+
+import static manageezpz.benchmark.BenchmarkUtil.bestTimeNanos;
+import static manageezpz.benchmark.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.person.UniquePersonList;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.Todo;
+import manageezpz.model.task.UniqueTaskList;
+
+/**
+ * Measures how the uniqueness validation of {@code UniqueTaskList#setTasks(List)} and
+ * {@code UniquePersonList#setPersons(List)}, and of the duplicate check of {@code UniquePersonList#contains(Person)},
+ * scales with the size of the data.
+ * The time per element should stay roughly constant as the size grows.
+ */
+public class UniquenessBenchmark {
+
+    private static final int[] SIZES = {1_000, 10_000, 50_000, 100_000};
+
+    /**
+     * Runs the benchmark for every size in {@code SIZES}.
+     */
+    public void run() {
+        for (int size : SIZES) {
+            List<Task> tasks = createTasks(size);
+            UniqueTaskList taskList = new UniqueTaskList();
+            report("UniqueTaskList#setTasks", size, bestTimeNanos(() -> taskList.setTasks(tasks)));
+        }
+
+        for (int size : SIZES) {
+            List<Person> persons = createPersons(size);
+            UniquePersonList personList = new UniquePersonList();
+            report("UniquePersonList#setPersons", size, bestTimeNanos(() -> personList.setPersons(persons)));
+
+            // Only the emails clash, which is the last field that Person#isSamePerson compares
+            List<Person> newPersons = new ArrayList<>(size);
+            for (Person person : persons) {
+                newPersons.add(new Person(new Name("New " + person.getName()), new Phone("9" + person.getPhone()),
+                        person.getEmail(), 0));
+            }
+            report("UniquePersonList#contains", size, bestTimeNanos(() -> {
+                for (Person person : newPersons) {
+                    if (!personList.contains(person)) {
+                        throw new AssertionError();
+                    }
+                }
+            }));
+        }
+    }
+
+    private static List<Task> createTasks(int size) {
+        List<Task> tasks = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tasks.add(new Todo(new Description("Task " + i)));
+        }
+        return tasks;
+    }
+
+    private static List<Person> createPersons(int size) {
+        List<Person> persons = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            persons.add(new Person(new Name("Employee " + i), new Phone(String.valueOf(10_000_000 + i)),
+                    new Email("employee" + i + "@example.com"), 0));
+        }
+        return persons;
+    }
+}
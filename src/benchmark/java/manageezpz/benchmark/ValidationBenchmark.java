@@ -0,0 +1,67 @@
+package manageezpz.benchmark;
+
+import static manageezpz.benchmark.BenchmarkUtil.bestTimeNanos;
+import static manageezpz.benchmark.BenchmarkUtil.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Phone;
+import manageezpz.model.task.Date;
+import manageezpz.model.task.Time;
+import manageezpz.model.tasktag.Tag;
+
+/**
+ * Compares validating dates, times, emails, phones and tags with the scanning validators against matching their
+ * {@code VALIDATION_REGEX} with {@code String#matches} as was done before, which compiles the regex on every call.
+ * Every value is valid, as are almost all values read from a data file.
+ * The scanning validators should be an order of magnitude faster and allocate nothing.
+ */
+public class ValidationBenchmark {
+
+    private static final int NUM_OF_VALUES = 100_000;
+
+    private int sink;
+
+    /**
+     * Runs every comparison on {@code NUM_OF_VALUES} values of each kind.
+     */
+    public void run() {
+        List<String> dates = new ArrayList<>(NUM_OF_VALUES);
+        List<String> times = new ArrayList<>(NUM_OF_VALUES);
+        List<String> emails = new ArrayList<>(NUM_OF_VALUES);
+        List<String> phones = new ArrayList<>(NUM_OF_VALUES);
+        List<String> tags = new ArrayList<>(NUM_OF_VALUES);
+        for (int i = 0; i < NUM_OF_VALUES; i++) {
+            dates.add(String.format("%04d-%02d-%02d", 2000 + i % 30, 1 + i % 12, 1 + i % 28));
+            times.add(String.format("%02d%02d", i % 24, i % 60));
+            emails.add("employee." + i + "@example-" + (i % 50) + ".com");
+            phones.add(String.valueOf(80_000_000 + i));
+            tags.add("team" + (i % 100));
+        }
+
+        compare("Date#isValidDate", dates, date -> date.matches(Date.VALIDATION_REGEX) && Date.validCheckDate(date),
+                Date::isValidDate);
+        compare("Time#isValidTime", times, time -> time.matches(Time.VALIDATION_REGEX)
+                && time.matches("([01]?[0-9]|2[0-3])[0-5][0-9]"), Time::isValidTime);
+        compare("Email#isValidEmail", emails, email -> email.matches(Email.VALIDATION_REGEX), Email::isValidEmail);
+        compare("Phone#isValidPhone", phones, phone -> phone.matches(Phone.VALIDATION_REGEX), Phone::isValidPhone);
+        compare("Tag#isValidTagName", tags, tag -> tag.matches(Tag.VALIDATION_REGEX), Tag::isValidTagName);
+
+        System.out.println("(checksum " + sink + ")");
+    }
+
+    private void compare(String name, List<String> values, Predicate<String> regexValidator,
+                         Predicate<String> scanningValidator) {
+        report(name + ", regex", values.size(), bestTimeNanos(() -> validateAll(values, regexValidator)));
+        report(name + ", scanned", values.size(), bestTimeNanos(() -> validateAll(values, scanningValidator)));
+    }
+
+    private void validateAll(List<String> values, Predicate<String> validator) {
+        for (String value : values) {
+            sink += validator.test(value) ? 1 : 0;
+        }
+    }
+}
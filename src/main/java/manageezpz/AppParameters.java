@@ -9,6 +9,7 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import manageezpz.commons.core.LogsCenter;
 import manageezpz.commons.util.FileUtil;
+import manageezpz.commons.util.StringUtil;
 
 /**
  * Represents the parsed command-line parameters given to the application.
@@ -16,7 +17,10 @@ import manageezpz.commons.util.FileUtil;
 public class AppParameters {
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
+    private static final int MAX_PORT = 65535;
+
     private Path configPath;
+    private Integer apiPort;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,6 +30,17 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    /**
+     * Returns the port of the local API server, or null if the server should not be started.
+     */
+    public Integer getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(Integer apiPort) {
+        this.apiPort = apiPort;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
@@ -40,9 +55,20 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String apiPortParameter = namedParameters.get("api-port");
+        if (apiPortParameter != null && !isValidPort(apiPortParameter)) {
+            logger.warning("Invalid API port " + apiPortParameter + ". The API server will not be started.");
+            apiPortParameter = null;
+        }
+        appParameters.setApiPort(apiPortParameter != null ? Integer.valueOf(apiPortParameter) : null);
+
         return appParameters;
     }
 
+    private static boolean isValidPort(String port) {
+        return StringUtil.isNonZeroUnsignedInteger(port) && Integer.parseInt(port) <= MAX_PORT;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,11 +80,12 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && Objects.equals(getApiPort(), otherAppParameters.getApiPort());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, apiPort);
     }
 }
@@ -0,0 +1,266 @@
+package manageezpz;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Set;
+import java.util.logging.Level;
+
+import manageezpz.commons.core.Config;
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.commons.util.StringUtil;
+import manageezpz.logic.Logic;
+import manageezpz.logic.LogicManager;
+import manageezpz.logic.commands.CommandResult;
+import manageezpz.logic.commands.exceptions.CommandException;
+import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ModelManager;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.UserPrefs;
+import manageezpz.storage.DeferredSaveStorage;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
+import manageezpz.storage.JsonUserPrefsStorage;
+import manageezpz.storage.StorageManager;
+
+/**
+ * Runs a script of commands against the data file without starting the GUI.
+ *
+ * Each line of the script is a command as it would be entered in the command box. Blank lines and lines starting
+ * with {@code #} are skipped. The feedback of each command is printed to the output, and the error of each command
+ * that fails is printed to the error output without stopping the script. The script stops early at an
+ * {@code exit} command.
+ *
+ * Saves are held back by a {@link DeferredSaveStorage}, so the address book is written once after the last command,
+ * or once every given number of commands, instead of after every command that changes it.
+ */
+public class BatchRunner {
+
+    public static final String OPTION_BATCH = "--batch";
+    public static final String OPTION_SAVE_EVERY = "--save-every";
+    public static final String STANDARD_INPUT = "-";
+
+    public static final String MESSAGE_USAGE = "Usage: " + OPTION_BATCH + "=SCRIPT_FILE [" + OPTION_SAVE_EVERY
+            + "=NUMBER_OF_COMMANDS] [" + CommandLineOptions.OPTION_CONFIG + "=CONFIG_FILE]\n"
+            + "Runs the commands in SCRIPT_FILE, or in the standard input if SCRIPT_FILE is " + STANDARD_INPUT + ".";
+    public static final String MESSAGE_INVALID_SCRIPT_PATH = "Invalid script file path %1$s";
+    public static final String MESSAGE_INVALID_SAVE_EVERY = "The number of commands between saves must be a "
+            + "positive integer: %1$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d: %2$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read the data file %1$s: %2$s";
+    public static final String MESSAGE_RUN_FAILED = "Stopped as the script could not be read or the data could not "
+            + "be saved: %1$s";
+    public static final String MESSAGE_SUMMARY = "Executed %1$d commands (%2$d failed) in %3$.3f s, "
+            + "%4$.0f commands/s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private static final Set<String> VALUE_OPTIONS = Set.of(OPTION_BATCH, OPTION_SAVE_EVERY);
+    private static final String COMMENT_PREFIX = "#";
+
+    private final Logic logic;
+    private final DeferredSaveStorage storage;
+    private final int saveInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands with {@code logic}, which saves to {@code storage}.
+     * @param saveInterval the number of commands after which the held back saves are written, or 0 to only write
+     *     them after the last command.
+     */
+    public BatchRunner(Logic logic, DeferredSaveStorage storage, int saveInterval) {
+        requireNonNull(logic);
+        requireNonNull(storage);
+        assert saveInterval >= 0 : "The save interval should not be negative";
+        this.logic = logic;
+        this.storage = storage;
+        this.saveInterval = saveInterval;
+    }
+
+    /**
+     * Runs the script given by {@code args} and exits with the status of the run.
+     * The feedback of the commands is buffered, as it is meant to be read by other programs.
+     */
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)),
+                false, StandardCharsets.UTF_8);
+        int status = run(args, System.in, out, System.err);
+        out.flush();
+        System.exit(status);
+    }
+
+    /**
+     * Returns true if {@code args} ask for a script to be run without the GUI.
+     */
+    public static boolean isBatchMode(String[] args) {
+        return CommandLineOptions.contains(args, OPTION_BATCH);
+    }
+
+    /**
+     * Runs the script given by {@code args} against the data file given by the config and user prefs files.
+     * The script is read from {@code in} if the script file is {@link #STANDARD_INPUT}.
+     * @return the exit status, {@link #EXIT_COMMAND_FAILED} if any command failed, or {@link #EXIT_ERROR} if the
+     *     arguments are invalid, the data file cannot be read, or the run stopped before the end of the script.
+     */
+    public static int run(String[] args, InputStream in, PrintStream out, PrintStream err) {
+        CommandLineOptions options;
+        String scriptFile;
+        int saveInterval;
+        try {
+            options = CommandLineOptions.parse(args, VALUE_OPTIONS, Set.of());
+            scriptFile = parseScriptFile(options.getValue(OPTION_BATCH).orElse(""));
+            saveInterval = options.getValue(OPTION_SAVE_EVERY).map(BatchRunner::parseSaveInterval).orElse(0);
+        } catch (IllegalArgumentException iae) {
+            err.println(iae.getMessage());
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = options.readConfig();
+        // The runner reports on its own output, so only problems are logged to the console
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        UserPrefs userPrefs = CommandLineOptions.readUserPrefs(config);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        DeferredSaveStorage storage = new DeferredSaveStorage(new StorageManager(
+                new JsonChangeLogAddressBookStorage(userPrefs.getAddressBookFilePath()), userPrefsStorage));
+
+        ReadOnlyAddressBook initialData;
+        try {
+            initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataConversionException | IOException e) {
+            // The data file is left untouched rather than replaced by an empty address book
+            err.println(String.format(MESSAGE_READ_FAILED, storage.getAddressBookFilePath(), e.getMessage()));
+            return EXIT_ERROR;
+        }
+
+        BatchRunner runner = new BatchRunner(new LogicManager(new ModelManager(initialData, userPrefs), storage),
+                storage, saveInterval);
+        try (BufferedReader script = scriptFile.equals(STANDARD_INPUT)
+                ? new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptFile), StandardCharsets.UTF_8)) {
+            Summary summary = runner.run(script, out, err);
+            err.println(summary);
+            return summary.getFailedCount() == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (IOException e) {
+            err.println(String.format(MESSAGE_RUN_FAILED, e.getMessage()));
+            return EXIT_ERROR;
+        }
+    }
+
+    /**
+     * Executes each command of {@code script}, printing the feedback to {@code out} and the errors to {@code err},
+     * then writes the held back save.
+     * @return the summary of the run.
+     * @throws IOException if the script could not be read or the address book could not be saved.
+     */
+    public Summary run(BufferedReader script, PrintStream out, PrintStream err) throws IOException {
+        long startTime = System.nanoTime();
+        int executedCount = 0;
+        int failedCount = 0;
+
+        String line;
+        for (int lineNumber = 1; (line = script.readLine()) != null; lineNumber++) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            executedCount++;
+            boolean isExit = false;
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                out.println(commandResult.getFeedbackToUser());
+                isExit = commandResult.isExit();
+            } catch (CommandException | ParseException e) {
+                failedCount++;
+                err.println(String.format(MESSAGE_COMMAND_FAILED, lineNumber, e.getMessage()));
+            }
+
+            if (isExit) {
+                break;
+            }
+            if (saveInterval > 0 && executedCount % saveInterval == 0) {
+                storage.flush();
+            }
+        }
+
+        storage.flush();
+        return new Summary(executedCount, failedCount, System.nanoTime() - startTime);
+    }
+
+    private static String parseScriptFile(String scriptFile) {
+        if (scriptFile.isEmpty()) {
+            throw new IllegalArgumentException(MESSAGE_USAGE);
+        }
+        if (!scriptFile.equals(STANDARD_INPUT) && !FileUtil.isValidPath(scriptFile)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_SCRIPT_PATH, scriptFile));
+        }
+        return scriptFile;
+    }
+
+    private static int parseSaveInterval(String saveInterval) {
+        if (!StringUtil.isNonZeroUnsignedInteger(saveInterval)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_SAVE_EVERY, saveInterval));
+        }
+        return Integer.parseInt(saveInterval);
+    }
+
+    /**
+     * Counts the commands executed by a run and how long the run took.
+     */
+    public static class Summary {
+        private final int executedCount;
+        private final int failedCount;
+        private final long elapsedNanos;
+
+        /**
+         * Creates a {@code Summary} of a run that executed {@code executedCount} commands, of which
+         * {@code failedCount} failed, in {@code elapsedNanos} nanoseconds.
+         */
+        public Summary(int executedCount, int failedCount, long elapsedNanos) {
+            this.executedCount = executedCount;
+            this.failedCount = failedCount;
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getExecutedCount() {
+            return executedCount;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getCommandsPerSecond() {
+            return elapsedNanos == 0 ? 0 : executedCount * 1e9 / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_SUMMARY, executedCount, failedCount, elapsedNanos / 1e9,
+                    getCommandsPerSecond());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package manageezpz;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import manageezpz.commons.core.Config;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.util.ConfigUtil;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.model.UserPrefs;
+import manageezpz.storage.JsonUserPrefsStorage;
+
+/**
+ * Represents the command-line options given to the application when it runs without the GUI.
+ *
+ * Each option with a value is given as {@code --name=value} or {@code --name value}, and each flag as
+ * {@code --name}. Unlike {@link MainApp}, the config and user prefs files are only read, never created or updated.
+ */
+public class CommandLineOptions {
+
+    public static final String OPTION_CONFIG = "--config";
+
+    public static final String MESSAGE_INVALID_OPTION = "Unknown option %1$s";
+    public static final String MESSAGE_MISSING_VALUE = "Missing value for option %1$s";
+    public static final String MESSAGE_INVALID_CONFIG_PATH = "Invalid config file path %1$s";
+
+    private static final String VALUE_SEPARATOR = "=";
+
+    private final Map<String, String> values;
+    private final Set<String> flags;
+
+    private CommandLineOptions(Map<String, String> values, Set<String> flags) {
+        this.values = values;
+        this.flags = flags;
+    }
+
+    /**
+     * Parses {@code args}, which may contain {@code valueOptions} with their values, {@code flagOptions} and
+     * {@link #OPTION_CONFIG}.
+     * @throws IllegalArgumentException if an option is unknown, an option is missing its value, or the config file
+     *     path is invalid.
+     */
+    public static CommandLineOptions parse(String[] args, Set<String> valueOptions, Set<String> flagOptions) {
+        requireNonNull(args);
+        Map<String, String> values = new HashMap<>();
+        Set<String> flags = new HashSet<>();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            int separator = arg.indexOf(VALUE_SEPARATOR);
+            String option = separator == -1 ? arg : arg.substring(0, separator);
+
+            if (flagOptions.contains(option) && separator == -1) {
+                flags.add(option);
+            } else if (!valueOptions.contains(option) && !option.equals(OPTION_CONFIG)) {
+                throw new IllegalArgumentException(String.format(MESSAGE_INVALID_OPTION, arg));
+            } else if (separator != -1) {
+                values.put(option, arg.substring(separator + VALUE_SEPARATOR.length()));
+            } else if (i + 1 < args.length) {
+                values.put(option, args[++i]);
+            } else {
+                throw new IllegalArgumentException(String.format(MESSAGE_MISSING_VALUE, option));
+            }
+        }
+
+        String configPath = values.get(OPTION_CONFIG);
+        if (configPath != null && !FileUtil.isValidPath(configPath)) {
+            throw new IllegalArgumentException(String.format(MESSAGE_INVALID_CONFIG_PATH, configPath));
+        }
+        return new CommandLineOptions(values, flags);
+    }
+
+    /**
+     * Returns true if {@code args} contain {@code option}, with or without a value.
+     */
+    public static boolean contains(String[] args, String option) {
+        for (String arg : args) {
+            if (arg.equals(option) || arg.startsWith(option + VALUE_SEPARATOR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Optional<String> getValue(String option) {
+        return Optional.ofNullable(values.get(option));
+    }
+
+    public boolean hasFlag(String flag) {
+        return flags.contains(flag);
+    }
+
+    /**
+     * Returns the {@code Config} in the file given by {@link #OPTION_CONFIG}, or in the default config file if none
+     * is given. The default config is returned instead if the file is missing or not in the correct format.
+     */
+    public Config readConfig() {
+        try {
+            return ConfigUtil.readConfig(getValue(OPTION_CONFIG).map(Paths::get).orElse(Config.DEFAULT_CONFIG_FILE))
+                    .orElseGet(Config::new);
+        } catch (DataConversionException e) {
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the {@code UserPrefs} in the user prefs file of {@code config}, or the default user prefs if the file
+     * is missing or not in the correct format.
+     */
+    public static UserPrefs readUserPrefs(Config config) {
+        try {
+            return new JsonUserPrefsStorage(config.getUserPrefsFilePath()).readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataConversionException e) {
+            return new UserPrefs();
+        }
+    }
+}
@@ -17,9 +17,24 @@ import javafx.application.Application;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * A script of commands given with {@code --batch=SCRIPT_FILE} is run by {@link BatchRunner} instead, and a single
+ * query given with {@code --exec=COMMAND} by {@link QueryRunner}, both without starting JavaFX.
  */
 public class Main {
+    /**
+     * Runs the script given with {@code --batch=SCRIPT_FILE} or the query given with {@code --exec=COMMAND} if any,
+     * or launches the GUI otherwise.
+     */
     public static void main(String[] args) {
+        if (BatchRunner.isBatchMode(args)) {
+            BatchRunner.main(args);
+            return;
+        }
+        if (QueryRunner.isQueryMode(args)) {
+            QueryRunner.main(args);
+            return;
+        }
         Application.launch(MainApp.class, args);
     }
 }
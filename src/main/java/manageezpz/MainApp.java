@@ -6,12 +6,15 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import manageezpz.api.ApiServer;
 import manageezpz.commons.core.Config;
 import manageezpz.commons.core.LogsCenter;
 import manageezpz.commons.core.Version;
 import manageezpz.commons.exceptions.DataConversionException;
 import manageezpz.commons.util.ConfigUtil;
+import manageezpz.commons.util.FileUtil;
 import manageezpz.commons.util.StringUtil;
 import manageezpz.logic.Logic;
 import manageezpz.logic.LogicManager;
@@ -23,11 +26,12 @@ import manageezpz.model.ReadOnlyUserPrefs;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.util.SampleDataUtil;
 import manageezpz.storage.AddressBookStorage;
-import manageezpz.storage.JsonAddressBookStorage;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
 import manageezpz.storage.JsonUserPrefsStorage;
 import manageezpz.storage.Storage;
 import manageezpz.storage.StorageManager;
 import manageezpz.storage.UserPrefsStorage;
+import manageezpz.storage.WriteBehindStorage;
 import manageezpz.ui.Ui;
 import manageezpz.ui.UiManager;
 
@@ -40,11 +44,14 @@ public class MainApp extends Application {
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
+    private static final String API_TOKEN_FILE_NAME = "api-token";
+
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
@@ -56,8 +63,9 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage =
+                new JsonChangeLogAddressBookStorage(userPrefs.getAddressBookFilePath());
+        storage = new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
 
         initLogging(config);
 
@@ -66,6 +74,36 @@ public class MainApp extends Application {
         logic = new LogicManager(model, storage);
 
         ui = new UiManager(logic);
+
+        if (appParameters.getApiPort() != null) {
+            apiServer = initApiServer(logic, appParameters.getApiPort(),
+                    userPrefs.getAddressBookFilePath().resolveSibling(API_TOKEN_FILE_NAME));
+        }
+    }
+
+    /**
+     * Returns an {@code ApiServer} that serves {@code logic} on {@code port}, executing commands on the JavaFX
+     * application thread so that the GUI is updated on it, and writes its token to {@code tokenFile} for other
+     * programs to read. Returns null if the server could not listen on the port or its token could not be written.
+     */
+    private ApiServer initApiServer(Logic logic, int port, Path tokenFile) {
+        ApiServer server;
+        try {
+            server = new ApiServer(logic, port, Platform::runLater);
+        } catch (IOException e) {
+            logger.warning("Could not start the API server on port " + port + ": " + StringUtil.getDetails(e));
+            return null;
+        }
+
+        try {
+            FileUtil.createParentDirsOfFile(tokenFile);
+            FileUtil.writeToFile(tokenFile, server.getToken());
+        } catch (IOException e) {
+            logger.warning("Could not write the API token to " + tokenFile + ": " + StringUtil.getDetails(e));
+            server.stop();
+            return null;
+        }
+        return server;
     }
 
     /**
@@ -77,7 +115,7 @@ public class MainApp extends Application {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = readAddressBookOrBackup(storage);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with sample data in ManageEZPZ");
             }
@@ -95,6 +133,39 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Reads {@code storage}'s address book, restoring the backup of the previous save in its place if the
+     * address book is not in the correct format. A missing address book is not restored, as it may have been
+     * deleted on purpose.
+     */
+    private Optional<ReadOnlyAddressBook> readAddressBookOrBackup(Storage storage)
+            throws DataConversionException, IOException {
+        Path filePath = storage.getAddressBookFilePath();
+        try {
+            return storage.readAddressBook();
+        } catch (DataConversionException e) {
+            if (!restoreBackup(filePath)) {
+                throw e;
+            }
+            logger.warning("Data file not in the correct format. Restored the backup data file "
+                    + FileUtil.getBackupFilePath(filePath));
+        }
+        return storage.readAddressBook();
+    }
+
+    /**
+     * Restores the backup of the data file at {@code filePath} together with the backup of its change log, if any.
+     *
+     * @return false if there is no backup of the data file.
+     */
+    private boolean restoreBackup(Path filePath) throws IOException {
+        if (!FileUtil.restoreBackup(filePath)) {
+            return false;
+        }
+        FileUtil.restoreBackup(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath));
+        return true;
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -171,15 +242,26 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting ManageEZPZ " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (apiServer != null) {
+            apiServer.start();
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.saveAddressBookSnapshot(model.getAddressBook());
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,174 @@
+package manageezpz;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+
+import manageezpz.commons.core.Config;
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.logic.commands.Command;
+import manageezpz.logic.commands.CommandResult;
+import manageezpz.logic.commands.FindEmployeeCommand;
+import manageezpz.logic.commands.FindTaskCommand;
+import manageezpz.logic.commands.ListEmployeeCommand;
+import manageezpz.logic.commands.ListTaskCommand;
+import manageezpz.logic.commands.exceptions.CommandException;
+import manageezpz.logic.parser.AddressBookParser;
+import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.Model;
+import manageezpz.model.ModelManager;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.UserPrefs;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
+import manageezpz.storage.JsonRecordWriter;
+
+/**
+ * Runs a single query command against the data file without starting the GUI, and prints the persons or tasks
+ * it finds.
+ *
+ * Only commands that do not change the data can be run, so the data file is read but never written, and no
+ * sample data is added when it is missing. With {@code --json}, the found records are printed in the format of
+ * the data file, one at a time, along with the assignees of any found tasks; otherwise the feedback of the command
+ * is printed, followed by one found record per line.
+ */
+public class QueryRunner {
+
+    public static final String OPTION_EXEC = "--exec";
+    public static final String OPTION_JSON = "--json";
+
+    public static final String MESSAGE_USAGE = "Usage: " + OPTION_EXEC + "=COMMAND [" + OPTION_JSON + "] ["
+            + CommandLineOptions.OPTION_CONFIG + "=CONFIG_FILE]\n"
+            + "Runs a single " + FindTaskCommand.COMMAND_WORD + ", " + FindEmployeeCommand.COMMAND_WORD + ", "
+            + ListTaskCommand.COMMAND_WORD + " or " + ListEmployeeCommand.COMMAND_WORD
+            + " COMMAND and prints what it finds.";
+    public static final String MESSAGE_NOT_A_QUERY = "Only commands that find or list records can be run with "
+            + OPTION_EXEC + ": %1$s";
+    public static final String MESSAGE_READ_FAILED = "Could not read the data file %1$s: %2$s";
+    public static final String MESSAGE_WRITE_FAILED = "Could not write the results: %1$s";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    private QueryRunner() {}
+
+    /**
+     * Runs the query given by {@code args} and exits with the status of the run.
+     */
+    public static void main(String[] args) {
+        PrintStream out = new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out)),
+                false, StandardCharsets.UTF_8);
+        int status = run(args, out, System.err);
+        out.flush();
+        System.exit(status);
+    }
+
+    /**
+     * Returns true if {@code args} ask for a single query to be run without the GUI.
+     */
+    public static boolean isQueryMode(String[] args) {
+        return CommandLineOptions.contains(args, OPTION_EXEC);
+    }
+
+    /**
+     * Runs the query given by {@code args} against the data file given by the config and user prefs files,
+     * printing the results to {@code out}, which is closed afterwards in JSON mode.
+     * @return the exit status, {@link #EXIT_COMMAND_FAILED} if the query is invalid or fails, or
+     *     {@link #EXIT_ERROR} if the arguments are invalid or the data file cannot be read.
+     */
+    public static int run(String[] args, PrintStream out, PrintStream err) {
+        CommandLineOptions options;
+        String commandText;
+        try {
+            options = CommandLineOptions.parse(args, Set.of(OPTION_EXEC), Set.of(OPTION_JSON));
+            commandText = options.getValue(OPTION_EXEC).filter(text -> !text.isBlank())
+                    .orElseThrow(() -> new IllegalArgumentException(MESSAGE_USAGE));
+        } catch (IllegalArgumentException iae) {
+            err.println(iae.getMessage());
+            err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = options.readConfig();
+        // Only problems are logged to the console, so that the results can be read from the output
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        // The query is parsed before the data file is read, so that an invalid query fails fast
+        Command command;
+        try {
+            command = new AddressBookParser().parseCommand(commandText);
+        } catch (ParseException pe) {
+            err.println(pe.getMessage());
+            return EXIT_COMMAND_FAILED;
+        }
+        if (!isQuery(command)) {
+            err.println(String.format(MESSAGE_NOT_A_QUERY, commandText));
+            return EXIT_COMMAND_FAILED;
+        }
+
+        UserPrefs userPrefs = CommandLineOptions.readUserPrefs(config);
+        JsonChangeLogAddressBookStorage storage =
+                new JsonChangeLogAddressBookStorage(userPrefs.getAddressBookFilePath());
+        ReadOnlyAddressBook data;
+        // The snapshot is loaded one record at a time and the change log is applied to the loaded records, so the
+        // data file is never held as JSON in full
+        try {
+            data = storage.readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataConversionException e) {
+            err.println(String.format(MESSAGE_READ_FAILED, storage.getAddressBookFilePath(), e.getMessage()));
+            return EXIT_ERROR;
+        }
+
+        Model model = new ModelManager(data, userPrefs);
+        try {
+            CommandResult commandResult = command.execute(model);
+            printResults(command, commandResult, model, options.hasFlag(OPTION_JSON), out);
+        } catch (CommandException ce) {
+            err.println(ce.getMessage());
+            return EXIT_COMMAND_FAILED;
+        } catch (IOException ioe) {
+            err.println(String.format(MESSAGE_WRITE_FAILED, ioe.getMessage()));
+            return EXIT_ERROR;
+        }
+        return EXIT_SUCCESS;
+    }
+
+    private static boolean isQuery(Command command) {
+        return isTaskQuery(command) || command instanceof FindEmployeeCommand
+                || command instanceof ListEmployeeCommand;
+    }
+
+    private static boolean isTaskQuery(Command command) {
+        return command instanceof FindTaskCommand || command instanceof ListTaskCommand;
+    }
+
+    /**
+     * Prints the records that {@code command} found in {@code model}.
+     */
+    private static void printResults(Command command, CommandResult commandResult, Model model, boolean isJson,
+            PrintStream out) throws IOException {
+        if (isJson) {
+            if (isTaskQuery(command)) {
+                JsonRecordWriter.writeTasks(out, model.getFilteredTaskList(), model.getAddressBook().getPersonList());
+            } else {
+                JsonRecordWriter.writePersons(out, model.getFilteredPersonList());
+            }
+            return;
+        }
+
+        out.println(commandResult.getFeedbackToUser());
+        List<?> records = isTaskQuery(command) ? model.getFilteredTaskList() : model.getFilteredPersonList();
+        for (Object record : records) {
+            out.println(record);
+        }
+    }
+}
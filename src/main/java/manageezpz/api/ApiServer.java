@@ -0,0 +1,351 @@
+package manageezpz.api;
+
+import static java.util.Objects.requireNonNull;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_ASSIGNEES;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.commons.util.StringUtil;
+import manageezpz.logic.FoundTasks;
+import manageezpz.logic.Logic;
+import manageezpz.logic.commands.CommandResult;
+import manageezpz.logic.commands.exceptions.CommandException;
+import manageezpz.logic.parser.Prefix;
+import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.person.Person;
+import manageezpz.storage.JsonRecordWriter;
+
+/**
+ * Serves the address book to other programs on the same computer through a local HTTP API.
+ *
+ * The API has the following endpoints, which all respond with JSON:
+ * <ul>
+ *     <li>{@code POST /api/commands} executes the command in the request body, as it would be entered in the
+ *     command box, and responds with its feedback.</li>
+ *     <li>{@code GET /api/tasks} responds with the tasks found with the findTask options given as query parameters,
+ *     such as {@code ?desc=report&priority=HIGH}, together with their assignees.</li>
+ *     <li>{@code GET /api/employees} responds with the employees found with the findEmployee options given as
+ *     query parameters, such as {@code ?n=Alex}.</li>
+ * </ul>
+ * Tasks and employees are given in the format of the data file, and errors as an object with an {@code error}.
+ *
+ * As any web page open in a browser on the same computer can send requests to the loopback address, every request
+ * must carry the token of the server, which is generated anew for each server, in the {@code X-ManageEZPZ-Token}
+ * header. Requests with an {@code Origin} header, which browsers add to the requests of web pages, and requests for
+ * a {@code Host} other than the loopback address, which a web page may make by rebinding its own host name to it,
+ * are rejected before the token is checked.
+ *
+ * Requests are served by a pool of threads. Finds read the copy of the address book published by the {@code Logic},
+ * so they run at the same time as each other and as commands. Commands are handed to the command executor and
+ * executed one at a time by the {@code Logic}, so that the GUI can have them executed on the JavaFX application
+ * thread, which its lists are updated on. A command that is not executed in time is responded to as unavailable.
+ */
+public class ApiServer {
+
+    public static final String COMMANDS_PATH = "/api/commands";
+    public static final String TASKS_PATH = "/api/tasks";
+    public static final String EMPLOYEES_PATH = "/api/employees";
+    public static final String TOKEN_HEADER = "X-ManageEZPZ-Token";
+
+    public static final String MESSAGE_CROSS_ORIGIN = "Requests from web pages are not allowed";
+    public static final String MESSAGE_NOT_LOOPBACK_HOST = "Requests must be made to the loopback address, not %1$s";
+    public static final String MESSAGE_INVALID_TOKEN = "The token of the API must be given in the "
+            + TOKEN_HEADER + " header";
+    public static final String MESSAGE_NOT_FOUND = "There is no endpoint at %1$s";
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s requests are not allowed, use %2$s";
+    public static final String MESSAGE_UNKNOWN_PARAMETER = "Unknown query parameter %1$s";
+    public static final String MESSAGE_INTERRUPTED = "Interrupted while waiting for the command to be executed";
+    public static final String MESSAGE_TIMED_OUT = "The command was not executed within %1$d seconds";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be served: %1$s";
+
+    private static final Set<Prefix> TASK_OPTIONS = Set.of(PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT, PREFIX_DATE,
+            PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_ASSIGNEES, PREFIX_IS_MARKED);
+    private static final Set<Prefix> EMPLOYEE_OPTIONS = Set.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL);
+    private static final String PREFIX_END = "/";
+    private static final Set<String> LOOPBACK_HOSTS = Set.of("localhost", "127.0.0.1", "[::1]");
+    private static final int TOKEN_BYTES = 32;
+
+    private static final String METHOD_GET = "GET";
+    private static final String METHOD_POST = "POST";
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final int THREAD_COUNT = 4;
+    private static final long DEFAULT_COMMAND_TIMEOUT_SECONDS = 30;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final long commandTimeoutSeconds;
+    private final String token = generateToken();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "api-server");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates an {@code ApiServer} that serves {@code logic} on {@code port} of the loopback address.
+     * @param port the port to listen on, or 0 to listen on any free port.
+     * @param commandExecutor the executor that commands are executed on.
+     * @throws IOException if the server could not listen on the port.
+     */
+    public ApiServer(Logic logic, int port, Executor commandExecutor) throws IOException {
+        this(logic, port, commandExecutor, DEFAULT_COMMAND_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * Creates an {@code ApiServer} that serves {@code logic} on {@code port} of the loopback address, and responds
+     * to a command that is not executed within {@code commandTimeoutSeconds} with an error.
+     * @param port the port to listen on, or 0 to listen on any free port.
+     * @param commandExecutor the executor that commands are executed on.
+     * @param commandTimeoutSeconds the number of seconds to wait for a command to be executed.
+     * @throws IOException if the server could not listen on the port.
+     */
+    public ApiServer(Logic logic, int port, Executor commandExecutor, long commandTimeoutSeconds) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.commandTimeoutSeconds = commandTimeoutSeconds;
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext(COMMANDS_PATH, exchange -> serve(exchange, METHOD_POST, this::executeCommand));
+        server.createContext(TASKS_PATH, exchange -> serve(exchange, METHOD_GET, this::findTasks));
+        server.createContext(EMPLOYEES_PATH, exchange -> serve(exchange, METHOD_GET, this::findEmployees));
+        server.setExecutor(executor);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the token that every request must carry in the {@code TOKEN_HEADER} header.
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Starts serving requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the API at http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + getPort());
+    }
+
+    /**
+     * Stops serving requests, closing the connections that are still open.
+     */
+    public void stop() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    /**
+     * Serves {@code exchange} with {@code handler} if it is a {@code method} request with the token of the server
+     * for the exact path of its endpoint, responding with an error otherwise.
+     */
+    private void serve(HttpExchange exchange, String method, HttpHandler handler) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String host = exchange.getRequestHeaders().getFirst("Host");
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN, MESSAGE_CROSS_ORIGIN);
+            } else if (!isLoopbackHost(host)) {
+                sendError(exchange, HttpURLConnection.HTTP_FORBIDDEN, String.format(MESSAGE_NOT_LOOPBACK_HOST, host));
+            } else if (!hasToken(exchange)) {
+                sendError(exchange, HttpURLConnection.HTTP_UNAUTHORIZED, MESSAGE_INVALID_TOKEN);
+            } else if (!path.equals(exchange.getHttpContext().getPath())) {
+                sendError(exchange, HttpURLConnection.HTTP_NOT_FOUND, String.format(MESSAGE_NOT_FOUND, path));
+            } else if (!exchange.getRequestMethod().equals(method)) {
+                exchange.getResponseHeaders().set("Allow", method);
+                sendError(exchange, HttpURLConnection.HTTP_BAD_METHOD,
+                        String.format(MESSAGE_METHOD_NOT_ALLOWED, exchange.getRequestMethod(), method));
+            } else {
+                handler.handle(exchange);
+            }
+        } catch (RuntimeException e) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            throw e;
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Executes the command in the request body on the command executor. If the command is not executed in time, it
+     * is cancelled, so that it is not executed if it has not been started yet, and the request is responded to as
+     * unavailable, so that the worker threads are not held up by a busy or stopped command executor.
+     */
+    private void executeCommand(HttpExchange exchange) throws IOException {
+        String commandText = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8).strip();
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            if (result.isCancelled()) {
+                return;
+            }
+            try {
+                result.complete(logic.execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+
+        try {
+            CommandResult commandResult = result.get(commandTimeoutSeconds, TimeUnit.SECONDS);
+            sendJson(exchange, HttpURLConnection.HTTP_OK, Map.of("feedback", commandResult.getFeedbackToUser()));
+        } catch (InterruptedException ie) {
+            result.cancel(false);
+            Thread.currentThread().interrupt();
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE, MESSAGE_INTERRUPTED);
+        } catch (TimeoutException | CancellationException e) {
+            result.cancel(false);
+            logger.warning("Timed out waiting for " + commandText + " to be executed");
+            sendError(exchange, HttpURLConnection.HTTP_UNAVAILABLE,
+                    String.format(MESSAGE_TIMED_OUT, commandTimeoutSeconds));
+        } catch (ExecutionException ee) {
+            Throwable cause = ee.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, cause.getMessage());
+            } else {
+                logger.warning("Failed to execute " + commandText + ": " + StringUtil.getDetails(cause));
+                sendError(exchange, HttpURLConnection.HTTP_INTERNAL_ERROR,
+                        String.format(MESSAGE_INTERNAL_ERROR, cause.getMessage()));
+            }
+        }
+    }
+
+    private void findTasks(HttpExchange exchange) throws IOException {
+        FoundTasks found;
+        try {
+            found = logic.findTasks(toOptions(exchange.getRequestURI().getRawQuery(), TASK_OPTIONS));
+        } catch (ParseException pe) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, pe.getMessage());
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, 0);
+        JsonRecordWriter.writeTasks(exchange.getResponseBody(), found.getTasks(), found.getAssignees());
+    }
+
+    private void findEmployees(HttpExchange exchange) throws IOException {
+        List<Person> found;
+        try {
+            found = logic.findPersons(toOptions(exchange.getRequestURI().getRawQuery(), EMPLOYEE_OPTIONS));
+        } catch (ParseException pe) {
+            sendError(exchange, HttpURLConnection.HTTP_BAD_REQUEST, pe.getMessage());
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, 0);
+        JsonRecordWriter.writePersons(exchange.getResponseBody(), found);
+    }
+
+    /**
+     * Returns true if {@code host}, the value of a {@code Host} header, names the loopback address.
+     * Host names other than {@code localhost} are not resolved, as a web page may control what they resolve to.
+     */
+    private static boolean isLoopbackHost(String host) {
+        if (host == null) {
+            return false;
+        }
+        int portStart = host.lastIndexOf(':');
+        String hostName = portStart > host.lastIndexOf(']') ? host.substring(0, portStart) : host;
+        return LOOPBACK_HOSTS.contains(hostName.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns true if {@code exchange} carries the token of the server, comparing it in constant time.
+     */
+    private boolean hasToken(HttpExchange exchange) {
+        String givenToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+        return givenToken != null && MessageDigest.isEqual(givenToken.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns the options of a find command given by the query parameters in {@code rawQuery}, each of which is
+     * named after the prefix of an option in {@code validOptions}, without its ending {@code /}.
+     * @throws ParseException if a query parameter is not a valid option.
+     */
+    private static String toOptions(String rawQuery, Set<Prefix> validOptions) throws ParseException {
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return "";
+        }
+
+        StringBuilder options = new StringBuilder();
+        for (String parameter : rawQuery.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            String name = URLDecoder.decode(nameAndValue[0], StandardCharsets.UTF_8);
+            Prefix option = new Prefix(name + PREFIX_END);
+            if (!validOptions.contains(option)) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_PARAMETER, name));
+            }
+            String value = nameAndValue.length == 1 ? "" : URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8);
+            options.append(' ').append(option.getPrefix()).append(value);
+        }
+        return options.toString();
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String message) throws IOException {
+        sendJson(exchange, status, Map.of("error", message));
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -1,17 +1,35 @@
 package manageezpz.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    public static final String BACKUP_SUFFIX = ".bak";
+
     private static final String CHARSET = "UTF-8";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    /**
+     * Writes content to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -80,4 +98,108 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Returns the path of the backup that {@link #writeToFileAtomically} keeps of the previous version of {@code file}.
+     */
+    public static Path getBackupFilePath(Path file) {
+        return file.resolveSibling(file.getFileName() + BACKUP_SUFFIX);
+    }
+
+    /**
+     * Moves {@code file}, if it exists, to {@link #getBackupFilePath}, replacing the previous backup.
+     * The file is renamed rather than copied, so backing it up takes the same time whatever its size.
+     */
+    public static void backUpFile(Path file) throws IOException {
+        if (Files.exists(file)) {
+            moveAtomically(file, getBackupFilePath(file));
+        }
+    }
+
+    /**
+     * Replaces the content of {@code file} with the content written by {@code writer}, so that a crash never leaves
+     * a partially written or missing file behind.
+     * The content is written to a temporary file in the same directory and synced to the disk before it is renamed
+     * over {@code file}. The previous version of {@code file}, if any, is first moved to {@link #getBackupFilePath}.
+     * Only a crash between the two renames can leave {@code file} missing, with both versions still on the disk.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        Path absoluteFile = file.toAbsolutePath();
+        Path dir = absoluteFile.getParent();
+        Files.createDirectories(dir);
+
+        Path tempFile = Files.createTempFile(dir, absoluteFile.getFileName().toString(), TEMP_SUFFIX);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.writeTo(out);
+            }
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                channel.force(true);
+            }
+
+            backUpFile(absoluteFile);
+            moveAtomically(tempFile, absoluteFile);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        syncDirectory(dir);
+    }
+
+    /**
+     * Writes given string to a file with {@link #writeToFileAtomically}.
+     */
+    public static void writeToFileAtomically(Path file, String content) throws IOException {
+        writeToFileAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Replaces {@code file} with the backup kept by {@link #writeToFileAtomically}.
+     *
+     * @return false if there is no backup of {@code file}.
+     */
+    public static boolean restoreBackup(Path file) throws IOException {
+        Path backupFile = getBackupFilePath(file);
+        if (!isFileExists(backupFile)) {
+            return false;
+        }
+        moveAtomically(backupFile, file);
+        return true;
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException amnse) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Syncs the entries of {@code dir} to the disk, so that renames within it survive a crash.
+     * Does nothing on platforms where directories cannot be opened.
+     */
+    private static void syncDirectory(Path dir) {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ioe) {
+            // Not supported on this platform, e.g. Windows
+        }
+    }
+
+    /**
+     * Appends given string to the end of a file and syncs it to the disk, so that the appended content survives a
+     * crash once this returns.
+     * Will create the file if it does not exist yet.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
 }
@@ -38,6 +38,30 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code word} with its case folded, such that two words are equal ignoring case, in the sense of
+     * {@link String#equalsIgnoreCase(String)}, exactly when their folded forms are equal.
+     * @param word cannot be null
+     */
+    public static String foldCase(String word) {
+        requireNonNull(word);
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (foldCase(c) != c) {
+                char[] folded = word.toCharArray();
+                for (int j = i; j < folded.length; j++) {
+                    folded[j] = foldCase(folded[j]);
+                }
+                return new String(folded);
+            }
+        }
+        return word;
+    }
+
+    private static char foldCase(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -65,4 +89,59 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits 0 to 9, which is what {@code \\d} matches in a regex.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, which is what {@code \\p{Alnum}} matches in a regex.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code s} is at least {@code minLength} characters long and every character satisfies
+     * {@code isAllowed}.
+     * @throws NullPointerException if {@code s} is null.
+     */
+    public static boolean isAllChars(String s, int minLength, CharPredicate isAllowed) {
+        if (s.length() < minLength) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAllowed.test(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value of the ASCII digits of {@code s} from {@code start} inclusive to {@code end} exclusive,
+     * or -1 if any of them is not an ASCII digit. The digits must fit in an {@code int}.
+     */
+    public static int parseAsciiDigits(String s, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (!isAsciiDigit(c)) {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Tests a single character, without boxing it.
+     */
+    @FunctionalInterface
+    public interface CharPredicate {
+        boolean test(char c);
+    }
 }
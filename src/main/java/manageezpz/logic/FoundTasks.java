@@ -0,0 +1,33 @@
+package manageezpz.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * Represents the tasks found by a find, together with the persons assigned to them as they are in the address book.
+ */
+public class FoundTasks {
+
+    private final List<Task> tasks;
+    private final List<Person> assignees;
+
+    /**
+     * Constructs a {@code FoundTasks} with the specified tasks and their assignees.
+     */
+    public FoundTasks(List<Task> tasks, List<Person> assignees) {
+        this.tasks = List.copyOf(requireNonNull(tasks));
+        this.assignees = List.copyOf(requireNonNull(assignees));
+    }
+
+    public List<Task> getTasks() {
+        return tasks;
+    }
+
+    public List<Person> getAssignees() {
+        return assignees;
+    }
+}
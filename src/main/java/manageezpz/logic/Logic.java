@@ -1,6 +1,7 @@
 package manageezpz.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
@@ -24,6 +25,35 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Completes the employee name being typed at the end of a findEmployee command from the names of the employees.
+     * @param commandText The command as entered by the user so far.
+     * @return the command with the last name keyword completed, or {@code commandText} if there is nothing to complete.
+     */
+    String completeCommand(String commandText);
+
+    /**
+     * Returns the tasks found by a findTask command with {@code arguments}, or all the tasks if {@code arguments} is
+     * blank, together with the persons assigned to them. The filtered task list is not changed.
+     * Finds can run from any thread without waiting for the command being executed, in which case they read the
+     * address book as of a command completed before it.
+     * @param arguments The options of the findTask command.
+     * @return the tasks found, in the order of the task list, and their assignees as they are in the address book.
+     * @throws ParseException If {@code arguments} are not valid options.
+     */
+    FoundTasks findTasks(String arguments) throws ParseException;
+
+    /**
+     * Returns the persons found by a findEmployee command with {@code arguments}, or all the persons if
+     * {@code arguments} is blank. The filtered person list is not changed.
+     * Finds can run from any thread without waiting for the command being executed, in which case they read the
+     * address book as of a command completed before it.
+     * @param arguments The options of the findEmployee command.
+     * @return the persons found, in the order of the person list.
+     * @throws ParseException If {@code arguments} are not valid options.
+     */
+    List<Person> findPersons(String arguments) throws ParseException;
+
     /**
      * Returns the AddressBook.
      *
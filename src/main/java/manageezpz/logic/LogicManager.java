@@ -1,38 +1,68 @@
 package manageezpz.logic;
 
+import static java.util.Objects.requireNonNull;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
+
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.util.StringUtil;
 import manageezpz.logic.commands.Command;
 import manageezpz.logic.commands.CommandResult;
+import manageezpz.logic.commands.FindEmployeeCommand;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.logic.parser.AddressBookParser;
+import manageezpz.logic.parser.FindEmployeeCommandParser;
+import manageezpz.logic.parser.FindTaskCommandParser;
 import manageezpz.logic.parser.exceptions.ParseException;
+import manageezpz.model.AddressBook;
 import manageezpz.model.Model;
 import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
+import manageezpz.model.person.PersonMultiplePredicate;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskMultiplePredicate;
 import manageezpz.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands are executed one at a time. Finds read a copy of the address book, with its own indexes, that is never
+ * changed once it is published. A find publishes a new copy if the address book has changed since the last one and
+ * no command is being executed; otherwise it reads the last copy published. So finds never wait for a command, and a
+ * command only waits for the copy of the changes before it, never for the finds reading it.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
 
     public static final String INPUT_CONTAINS_SPECIAL_CHARACTERS = "Please do not use invisible characters!";
 
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Lock commandLock = new ReentrantLock();
+    private long savedAddressBookVersion;
+    private long publishedAddressBookVersion;
+    private volatile AddressBook publishedAddressBook;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -41,6 +71,8 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        savedAddressBookVersion = model.getAddressBookVersion();
+        publishAddressBook();
     }
 
     @Override
@@ -59,19 +91,132 @@ public class LogicManager implements Logic {
             throw new ParseException(INPUT_CONTAINS_SPECIAL_CHARACTERS);
         }
 
-        CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        commandLock.lock();
+        try {
+            return executeCommand(command);
+        } finally {
+            commandLock.unlock();
+        }
+    }
 
+    private CommandResult executeCommand(Command command) throws CommandException {
+        CommandResult commandResult = command.execute(model);
+
+        // Only commands that changed the address book need to be saved
+        long addressBookVersion = model.getAddressBookVersion();
         try {
-            storage.saveAddressBook(model.getAddressBook());
+            if (addressBookVersion != savedAddressBookVersion) {
+                storage.saveAddressBook(model.getAddressBook());
+                savedAddressBookVersion = addressBookVersion;
+            }
+            storage.throwIfSaveFailed();
         } catch (IOException ioe) {
+            // Make sure the next command saves the address book again
+            savedAddressBookVersion = UNSAVED_VERSION;
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public FoundTasks findTasks(String arguments) throws ParseException {
+        requireNonNull(arguments);
+        TaskMultiplePredicate predicate = arguments.isBlank() ? null
+                : new FindTaskCommandParser().parse(" " + arguments.strip()).getPredicate();
+
+        AddressBook addressBook = getPublishedAddressBook();
+        Predicate<Task> plan = predicate == null ? task -> true : addressBook.planTaskQuery(predicate);
+        List<Task> foundTasks = addressBook.getTaskList().stream().filter(plan).collect(Collectors.toList());
+        Set<Integer> assigneeIds = foundTasks.stream().flatMapToInt(task -> task.getAssignees().stream())
+                .boxed().collect(Collectors.toSet());
+        List<Person> assignees = addressBook.getPersonList().stream()
+                .filter(person -> assigneeIds.contains(person.getId())).collect(Collectors.toList());
+        return new FoundTasks(foundTasks, assignees);
+    }
+
+    @Override
+    public List<Person> findPersons(String arguments) throws ParseException {
+        requireNonNull(arguments);
+        PersonMultiplePredicate predicate = arguments.isBlank() ? null
+                : new FindEmployeeCommandParser().parse(" " + arguments.strip()).getPredicate();
+
+        AddressBook addressBook = getPublishedAddressBook();
+        Predicate<Person> matcher = predicate == null ? person -> true
+                : predicate.withNameIndex(addressBook::getPersonNamesWithWord);
+        return addressBook.getPersonList().stream().filter(matcher).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the latest copy of the address book published for finds, first publishing a new copy if the address
+     * book has changed since and no command is being executed.
+     */
+    private AddressBook getPublishedAddressBook() {
+        if (commandLock.tryLock()) {
+            try {
+                if (model.getAddressBookVersion() != publishedAddressBookVersion) {
+                    publishAddressBook();
+                }
+            } finally {
+                commandLock.unlock();
+            }
+        }
+        return publishedAddressBook;
+    }
+
+    /**
+     * Publishes a copy of the address book for finds. Must be called while no command is being executed.
+     */
+    private void publishAddressBook() {
+        publishedAddressBookVersion = model.getAddressBookVersion();
+        publishedAddressBook = new AddressBook(model.getAddressBook());
+    }
+
+    @Override
+    public String completeCommand(String commandText) {
+        requireNonNull(commandText);
+        if (!commandText.startsWith(FindEmployeeCommand.COMMAND_WORD + " ")) {
+            return commandText;
+        }
+
+        // Only the name keywords are completed, so the last option entered has to be the names
+        int namesStart = commandText.lastIndexOf(" " + PREFIX_NAME);
+        if (namesStart == -1 || commandText.indexOf(" " + PREFIX_PHONE, namesStart) != -1
+                || commandText.indexOf(" " + PREFIX_EMAIL, namesStart) != -1) {
+            return commandText;
+        }
+
+        int wordStart = Math.max(commandText.lastIndexOf(' '), namesStart + PREFIX_NAME.getPrefix().length()) + 1;
+        String prefix = commandText.substring(wordStart);
+        if (prefix.isEmpty()) {
+            return commandText;
+        }
+
+        List<Name> suggestedNames = model.getPersonNamesWithWordPrefix(prefix, 1);
+        if (suggestedNames.isEmpty()) {
+            return commandText;
+        }
+        return commandText.substring(0, wordStart) + getFirstWordWithPrefix(suggestedNames.get(0), prefix);
+    }
+
+    /**
+     * Returns the word of {@code name} starting with {@code prefix}, ignoring case, that comes first when case-folded.
+     */
+    private static String getFirstWordWithPrefix(Name name, String prefix) {
+        String foldedPrefix = StringUtil.foldCase(prefix);
+        String firstWord = null;
+        for (String word : name.fullName.split("\\s+")) {
+            String foldedWord = StringUtil.foldCase(word);
+            if (foldedWord.startsWith(foldedPrefix)
+                    && (firstWord == null || foldedWord.compareTo(StringUtil.foldCase(firstWord)) < 0)) {
+                firstWord = word;
+            }
+        }
+        assert firstWord != null : "A suggested name should have a word starting with the prefix";
+        return firstWord;
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -1,7 +1,14 @@
 package manageezpz.logic.commands;
 
+import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.Model;
+import manageezpz.model.task.Task;
 
 /**
  * Represents a command with hidden internal logic and the ability to be executed.
@@ -17,4 +24,26 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns the tasks at {@code targetIndexes} of the displayed task list, in the same order.
+     * All the indexes are checked before any task is returned, so that a command can leave the model unchanged
+     * when one of them is invalid.
+     *
+     * @param lastShownTaskList the displayed task list.
+     * @param targetIndexes the indexes of the tasks in the displayed task list.
+     * @param messageUsage the usage message of the command, shown if an index is invalid.
+     * @throws CommandException If any of the indexes is outside the displayed task list.
+     */
+    protected static List<Task> getTargetTasks(List<Task> lastShownTaskList, List<Index> targetIndexes,
+            String messageUsage) throws CommandException {
+        List<Task> targetTasks = new ArrayList<>(targetIndexes.size());
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= lastShownTaskList.size()) {
+                throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, messageUsage));
+            }
+            targetTasks.add(lastShownTaskList.get(targetIndex.getZeroBased()));
+        }
+        return targetTasks;
+    }
+
 }
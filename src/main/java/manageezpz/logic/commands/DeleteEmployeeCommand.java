@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.exceptions.CommandException;
@@ -46,7 +45,6 @@ public class DeleteEmployeeCommand extends Command {
         requireNonNull(model);
 
         List<Person> lastShownPersonList = model.getFilteredPersonList();
-        List<Task> fullTaskList = model.getAddressBook().getTaskList();
 
         if (targetIndex.getZeroBased() >= lastShownPersonList.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, MESSAGE_USAGE));
@@ -54,9 +52,7 @@ public class DeleteEmployeeCommand extends Command {
 
         Person personToDelete = lastShownPersonList.get(targetIndex.getZeroBased());
 
-        List<Task> affectedTaskList = fullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToDelete))
-                .collect(Collectors.toList());
+        List<Task> affectedTaskList = model.getTasksAssignedTo(personToDelete);
 
         for (Task task : affectedTaskList) {
             model.untagEmployeeFromTask(task, personToDelete);
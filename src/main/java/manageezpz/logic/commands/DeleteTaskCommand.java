@@ -1,14 +1,12 @@
 package manageezpz.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 
 import java.util.List;
 
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.Model;
-import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
 
 /**
@@ -19,13 +17,15 @@ public class DeleteTaskCommand extends Command {
     public static final String COMMAND_WORD = "deleteTask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Deletes the task identified by the index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + ": Deletes the tasks identified by the index numbers used in the displayed task list.\n"
+            + "Parameters: INDEX (a positive integer, a range like 1-300 or a list like 4,9,12)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_DELETE_TASK_SUCCESS = "Deleted Task: %1$s";
 
-    private final Index targetIndex;
+    public static final String MESSAGE_DELETE_TASKS_SUCCESS = "Deleted %1$d tasks.";
+
+    private final List<Index> targetIndexes;
 
     /**
      * Constructor to initialize an instance of DeleteTaskCommand class
@@ -34,7 +34,19 @@ public class DeleteTaskCommand extends Command {
      * @param targetIndex Index of the Task to be deleted
      */
     public DeleteTaskCommand(Index targetIndex) {
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Constructor to initialize an instance of DeleteTaskCommand class
+     * with the given targetIndexes.
+     *
+     * @param targetIndexes Indexes of the Tasks to be deleted
+     */
+    public DeleteTaskCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "At least one task should be deleted";
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     /**
@@ -44,30 +56,22 @@ public class DeleteTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Task> lastShownTaskList = model.getFilteredTaskList();
-        List<Person> fullPersonList = model.getAddressBook().getPersonList();
-
-        if (targetIndex.getZeroBased() >= lastShownTaskList.size()) {
-            throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
-        }
-
-        Task taskToDelete = lastShownTaskList.get(targetIndex.getZeroBased());
-
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
+        List<Task> tasksToDelete = getTargetTasks(model.getFilteredTaskList(), targetIndexes, MESSAGE_USAGE);
 
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = fullPersonList.get(fullPersonList.indexOf(person));
-            model.decreaseNumOfTasks(personToUpdate);
+        if (tasksToDelete.size() == 1) {
+            Task taskToDelete = tasksToDelete.get(0);
+            model.deleteTask(taskToDelete);
+            return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
         }
 
-        model.deleteTask(taskToDelete);
-        return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
+        model.deleteTasks(tasksToDelete);
+        return new CommandResult(String.format(MESSAGE_DELETE_TASKS_SUCCESS, tasksToDelete.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof DeleteTaskCommand // instanceof handles nulls
-                && targetIndex.equals(((DeleteTaskCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((DeleteTaskCommand) other).targetIndexes)); // state check
     }
 }
@@ -9,7 +9,6 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_PHONE;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 import manageezpz.commons.core.index.Index;
 import manageezpz.commons.util.CollectionUtil;
@@ -19,7 +18,6 @@ import manageezpz.model.person.Email;
 import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
 import manageezpz.model.person.Phone;
-import manageezpz.model.task.Task;
 
 /**
  * Edits the details of an existing employee in the address book.
@@ -68,8 +66,6 @@ public class EditEmployeeCommand extends Command {
         requireNonNull(model);
 
         List<Person> lastShownPersonList = model.getFilteredPersonList();
-        List<Person> fullPersonList = model.getAddressBook().getPersonList();
-        List<Task> fullTaskList = model.getAddressBook().getTaskList();
 
         if (index.getZeroBased() >= lastShownPersonList.size()) {
             throw new CommandException(String.format(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, MESSAGE_USAGE));
@@ -79,29 +75,13 @@ public class EditEmployeeCommand extends Command {
         Person editedPerson = createEditedEmployee(personToEdit, editEmployeeDescriptor);
 
         // Check for same person (i.e., name, phone or email already exists)
-        for (Person person : fullPersonList) {
-            if (!person.equals(personToEdit) && person.isSamePerson(editedPerson)) {
-                throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, MESSAGE_USAGE));
-            }
+        if (model.hasPersonOtherThan(editedPerson, personToEdit)) {
+            throw new CommandException(String.format(MESSAGE_DUPLICATE_PERSON, MESSAGE_USAGE));
         }
 
+        // Tasks refer to the person by id, which the edited person keeps, so no task has to be updated
         model.setPerson(personToEdit, editedPerson);
 
-        List<Task> affectedTaskList = fullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEdit))
-                .collect(Collectors.toList());
-
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEdit)) {
-                    Task taskToUpdate = fullTaskList.get(fullTaskList.indexOf(task));
-                    model.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
 
@@ -56,13 +56,17 @@ public class FindEmployeeCommand extends Command {
         this.predicate = predicate;
     }
 
+    public PersonMultiplePredicate getPredicate() {
+        return predicate;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonList(predicate.withNameIndex(model::getPersonNamesWithWord));
         int latestNumberOfEmployees = model.getFilteredPersonList().size();
         String commandMessage = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, latestNumberOfEmployees);
         return new CommandResult(commandMessage);
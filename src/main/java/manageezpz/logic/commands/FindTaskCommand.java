@@ -6,6 +6,7 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
@@ -19,6 +20,7 @@ import manageezpz.model.person.Name;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Description;
 import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
 
 
 /**
@@ -28,6 +30,10 @@ public class FindTaskCommand extends Command {
 
     public static final String COMMAND_WORD = "findTask";
 
+    public static final String DATE_RANGE_SEPARATOR = "..";
+
+    public static final String DATE_TODAY = "today";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Finds all tasks that contains the properties specified.\n"
             + "Task Types:\n"
@@ -36,26 +42,36 @@ public class FindTaskCommand extends Command {
             + PREFIX_EVENT.getPrefix() + ": Events\n"
             + "Options:\n"
             + PREFIX_DESCRIPTION.getPrefix() + ": Description of the tasks\n"
-            + PREFIX_DATE.getPrefix() + ": Date of the task in YYYY-MM-DD (Only for deadline and event)\n"
+            + PREFIX_DATE.getPrefix() + ": Date of the task in YYYY-MM-DD, or a range of dates in "
+            + "YYYY-MM-DD" + DATE_RANGE_SEPARATOR + "YYYY-MM-DD where either date may be left out or be "
+            + DATE_TODAY + " (Only for deadline and event)\n"
             + PREFIX_PRIORITY.getPrefix() + ": Priority of task. Only HIGH, MEDIUM, LOW and NONE\n"
             + PREFIX_ASSIGNEES.getPrefix()
             + ": The assignees that was assigned to the task (Only one full name of assignee allowed)\n"
-            + PREFIX_IS_MARKED.getPrefix() + ": Whether the task is marked. Only true or false."
+            + PREFIX_IS_MARKED.getPrefix() + ": Whether the task is marked. Only true or false.\n"
+            + PREFIX_EXPLAIN.getPrefix() + ": Shows how the tasks were found, with the number of tasks left "
+            + "after each option (Takes no value)\n"
             + "Format:\n"
             + COMMAND_WORD + " " + PREFIX_TODO.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DEADLINE.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_EVENT.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "[LIST OF WORDS]\n"
             + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "YYYY-MM-DD\n"
+            + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "YYYY-MM-DD" + DATE_RANGE_SEPARATOR + "YYYY-MM-DD\n"
             + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "PRIORITY"
             + COMMAND_WORD + " " + PREFIX_ASSIGNEES.getPrefix() + "Assignee's full name\n"
             + COMMAND_WORD + " " + PREFIX_IS_MARKED.getPrefix() + "BOOLEAN\n"
             + "Example:\n"
             + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "homework\n"
             + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "2022-01-01\n"
+            + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + "2022-01-01" + DATE_RANGE_SEPARATOR + "2022-01-31\n"
+            + COMMAND_WORD + " " + PREFIX_DATE.getPrefix() + DATE_RANGE_SEPARATOR + DATE_TODAY + " "
+            + PREFIX_IS_MARKED.getPrefix() + "false\n"
             + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "HIGH\n"
             + COMMAND_WORD + " " + PREFIX_ASSIGNEES.getPrefix() + "Sam Leong\n"
             + COMMAND_WORD + " " + PREFIX_IS_MARKED.getPrefix() + "true\n"
+            + COMMAND_WORD + " " + PREFIX_PRIORITY.getPrefix() + "HIGH " + PREFIX_IS_MARKED.getPrefix() + "false "
+            + PREFIX_EXPLAIN.getPrefix() + "\n"
             + COMMAND_WORD + " " + PREFIX_DESCRIPTION.getPrefix() + "Capstone project " + PREFIX_DATE.getPrefix()
             + "2022-05-01 " + PREFIX_PRIORITY.getPrefix() + "HIGH " + PREFIX_ASSIGNEES.getPrefix() + "Max Leong"
             + PREFIX_IS_MARKED.getPrefix() + "true";
@@ -66,6 +82,8 @@ public class FindTaskCommand extends Command {
 
     public static final String INVALID_DATE = Date.MESSAGE_CONSTRAINTS + "\n";
 
+    public static final String INVALID_DATE_RANGE = "Start date of the range should not be after its end date\n";
+
     public static final String INVALID_PRIORITY = "Property should be NONE, LOW, MEDIUM, HIGH\n";
 
     public static final String TODO_AND_DATE_OPTION_TOGETHER = "Todo and Date option are together\n";
@@ -76,15 +94,32 @@ public class FindTaskCommand extends Command {
 
     public static final String MORE_THAN_ONE_TASK_TYPE = "Only one task type is allowed\n";
 
+    public static final String INVALID_EXPLAIN = PREFIX_EXPLAIN.getPrefix() + " does not take a value\n";
+
     private final TaskMultiplePredicate predicate;
+    private final boolean isExplain;
 
     /**
      * The constructor for find task command.
      * @param predicate The predicate as search terms to find task
      */
     public FindTaskCommand(TaskMultiplePredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * The constructor for find task command that can also show how the tasks were found.
+     * @param predicate The predicate as search terms to find task
+     * @param isExplain Whether to show the plan used to find the tasks
+     */
+    public FindTaskCommand(TaskMultiplePredicate predicate, boolean isExplain) {
         requireNonNull(predicate);
         this.predicate = predicate;
+        this.isExplain = isExplain;
+    }
+
+    public TaskMultiplePredicate getPredicate() {
+        return predicate;
     }
 
     /**
@@ -93,9 +128,14 @@ public class FindTaskCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        model.updateFilteredTaskList(predicate);
+        // Commands that change tasks reset the filter, so the matching tasks can be found once by the plan.
+        TaskQueryPlan plan = model.planTaskQuery(predicate);
+        model.updateFilteredTaskList(plan);
         int latestNumberOfTasks = model.getFilteredTaskList().size();
         String commandResultMessage = String.format(Messages.MESSAGE_TASKS_LISTED_OVERVIEW, latestNumberOfTasks);
+        if (isExplain) {
+            commandResultMessage = commandResultMessage + "\n" + plan.explain();
+        }
         return new CommandResult(commandResultMessage);
     }
 
@@ -109,7 +149,7 @@ public class FindTaskCommand extends Command {
         } else if (obj instanceof FindTaskCommand) {
             Predicate otherPredicate = ((FindTaskCommand) obj).predicate;
             boolean isOtherPredicateEqual = predicate.equals(otherPredicate);
-            return isOtherPredicateEqual;
+            return isOtherPredicateEqual && isExplain == ((FindTaskCommand) obj).isExplain;
         }
         return false;
     }
@@ -1,7 +1,6 @@
 package manageezpz.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 
 import java.util.List;
 
@@ -18,13 +17,15 @@ public class MarkTaskCommand extends Command {
     public static final String COMMAND_WORD = "markTask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks the task identified by the index number used in the displayed task list as done.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + ": Marks the tasks identified by the index numbers used in the displayed task list as done.\n"
+            + "Parameters: INDEX (a positive integer, a range like 1-300 or a list like 4,9,12)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_MARK_TASK_SUCCESS = "Task set as done: %1$s";
 
-    private final Index targetIndex;
+    public static final String MESSAGE_MARK_TASKS_SUCCESS = "%1$d tasks set as done.";
+
+    private final List<Index> targetIndexes;
 
     /**
      * Constructor to initialize an instance of MarkTaskCommand class
@@ -33,8 +34,19 @@ public class MarkTaskCommand extends Command {
      * @param targetIndex Index of the Task to be marked as done
      */
     public MarkTaskCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Constructor to initialize an instance of MarkTaskCommand class
+     * with the given targetIndexes.
+     *
+     * @param targetIndexes Indexes of the Tasks to be marked as done
+     */
+    public MarkTaskCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "At least one task should be marked";
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     /**
@@ -44,22 +56,21 @@ public class MarkTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Task> lastShownList = model.getFilteredTaskList();
+        List<Task> tasksToMark = getTargetTasks(model.getFilteredTaskList(), targetIndexes, MESSAGE_USAGE);
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
+        if (tasksToMark.size() == 1) {
+            Task markedTask = model.markTask(tasksToMark.get(0));
+            return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, markedTask));
         }
 
-        Task taskToMark = lastShownList.get(targetIndex.getZeroBased());
-        Task markedTask = model.markTask(taskToMark);
-
-        return new CommandResult(String.format(MESSAGE_MARK_TASK_SUCCESS, markedTask));
+        model.markTasks(tasksToMark);
+        return new CommandResult(String.format(MESSAGE_MARK_TASKS_SUCCESS, tasksToMark.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof MarkTaskCommand // instanceof handles nulls
-                && targetIndex.equals(((MarkTaskCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((MarkTaskCommand) other).targetIndexes)); // state check
     }
 }
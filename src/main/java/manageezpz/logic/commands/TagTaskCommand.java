@@ -1,10 +1,10 @@
 package manageezpz.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import manageezpz.commons.core.index.Index;
@@ -18,20 +18,24 @@ public class TagTaskCommand extends Command {
     public static final String COMMAND_WORD = "tagTask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Tags the specified employee to the task identified by the "
-            + "index number used in the displayed task list.\n"
-            + "Parameters: INDEX (must be a positive integer) "
+            + ": Tags the specified employee to the tasks identified by the "
+            + "index numbers used in the displayed task list.\n"
+            + "Parameters: INDEX (a positive integer, a range like 1-300 or a list like 4,9,12) "
             + PREFIX_NAME + "EMPLOYEE_FULL_NAME\n"
             + "Example: " + COMMAND_WORD + " 1 " + PREFIX_NAME + "Alex Yeoh";
 
     public static final String MESSAGE_TAG_TASK_SUCCESS = "Employee %1$s is tagged to the task: ";
 
+    public static final String MESSAGE_TAG_TASKS_SUCCESS = "Employee %1$s is tagged to %2$d tasks.";
+
     public static final String MESSAGE_NO_SUCH_PERSON = "There is no employee with the full name %1$s "
             + "in the current displayed task list!";
 
     public static final String MESSAGE_PERSON_TAGGED_TO_TASK = "Employee %1$s is already tagged to the task: ";
 
-    private final Index targetIndex;
+    public static final String MESSAGE_PERSON_TAGGED_TO_TASKS = "Employee %1$s is already tagged to all the tasks!";
+
+    private final List<Index> targetIndexes;
     private final String name;
 
     /**
@@ -42,8 +46,20 @@ public class TagTaskCommand extends Command {
      * @param name Name of the Employee to tag the Task to
      */
     public TagTaskCommand(Index targetIndex, String name) {
-        requireAllNonNull(targetIndex, name);
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex), name);
+    }
+
+    /**
+     * Constructor to initialize a TagTaskCommand class with the given
+     * targetIndexes and name.
+     *
+     * @param targetIndexes Indexes of the Tasks to tag the employee
+     * @param name Name of the Employee to tag the Tasks to
+     */
+    public TagTaskCommand(List<Index> targetIndexes, String name) {
+        requireAllNonNull(targetIndexes, name);
+        assert !targetIndexes.isEmpty() : "At least one task should be tagged";
+        this.targetIndexes = List.copyOf(targetIndexes);
         this.name = name;
     }
 
@@ -54,11 +70,7 @@ public class TagTaskCommand extends Command {
         List<Task> lastShownTaskList = model.getFilteredTaskList();
         List<Person> lastShownPersonList = model.getFilteredPersonList();
 
-        if (targetIndex.getZeroBased() >= lastShownTaskList.size()) {
-            throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
-        }
-
-        Task taskToTagEmployee = lastShownTaskList.get(targetIndex.getZeroBased());
+        List<Task> tasksToTagEmployee = getTargetTasks(lastShownTaskList, targetIndexes, MESSAGE_USAGE);
 
         Person person = null;
 
@@ -73,23 +85,51 @@ public class TagTaskCommand extends Command {
             throw new CommandException(String.format(MESSAGE_NO_SUCH_PERSON, name) + "\n\n" + MESSAGE_USAGE);
         }
 
+        if (tasksToTagEmployee.size() > 1) {
+            return tagEmployeeToTasks(model, tasksToTagEmployee, person);
+        }
+
+        Task taskToTagEmployee = tasksToTagEmployee.get(0);
+
         if (model.isEmployeeTaggedToTask(taskToTagEmployee, person)) {
             throw new CommandException(String.format(MESSAGE_PERSON_TAGGED_TO_TASK,
                     person.getName().toString()) + taskToTagEmployee + "\n\n" + MESSAGE_USAGE);
         }
 
         Task taggedEmployeeTask = model.tagEmployeeToTask(taskToTagEmployee, person);
-        model.increaseNumOfTasks(person);
 
         return new CommandResult(String.format(MESSAGE_TAG_TASK_SUCCESS,
                 person.getName().toString()) + taggedEmployeeTask);
     }
 
+    /**
+     * Tags {@code person} to those of {@code tasksToTagEmployee} that the person is not tagged to yet.
+     */
+    private CommandResult tagEmployeeToTasks(Model model, List<Task> tasksToTagEmployee, Person person)
+            throws CommandException {
+        List<Task> untaggedTasks = new ArrayList<>();
+        for (Task task : tasksToTagEmployee) {
+            if (!model.isEmployeeTaggedToTask(task, person)) {
+                untaggedTasks.add(task);
+            }
+        }
+
+        if (untaggedTasks.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_PERSON_TAGGED_TO_TASKS,
+                    person.getName().toString()) + "\n\n" + MESSAGE_USAGE);
+        }
+
+        model.tagEmployeeToTasks(untaggedTasks, person);
+
+        return new CommandResult(String.format(MESSAGE_TAG_TASKS_SUCCESS,
+                person.getName().toString(), untaggedTasks.size()));
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TagTaskCommand// instanceof handles nulls
-                && targetIndex.equals(((TagTaskCommand) other).targetIndex)
+                && targetIndexes.equals(((TagTaskCommand) other).targetIndexes)
                 && name.equals(((TagTaskCommand) other).name));
     }
 }
@@ -1,7 +1,6 @@
 package manageezpz.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX;
 
 import java.util.List;
 
@@ -19,14 +18,16 @@ public class UnmarkTaskCommand extends Command {
     public static final String COMMAND_WORD = "unmarkTask";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Unmarks the task identified by the index number used in the displayed task list, "
+            + ": Unmarks the tasks identified by the index numbers used in the displayed task list, "
             + "which changes the status back to not done.\n"
-            + "Parameters: INDEX (must be a positive integer)\n"
+            + "Parameters: INDEX (a positive integer, a range like 1-300 or a list like 4,9,12)\n"
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_UNMARK_TASK_SUCCESS = "Task set as not done yet: %1$s";
 
-    private final Index targetIndex;
+    public static final String MESSAGE_UNMARK_TASKS_SUCCESS = "%1$d tasks set as not done yet.";
+
+    private final List<Index> targetIndexes;
 
     /**
      * Constructor to initialize an instance of UnmarkTaskCommand class
@@ -36,8 +37,20 @@ public class UnmarkTaskCommand extends Command {
      *                    status back to not done
      */
     public UnmarkTaskCommand(Index targetIndex) {
-        requireNonNull(targetIndex);
-        this.targetIndex = targetIndex;
+        this(List.of(targetIndex));
+    }
+
+    /**
+     * Constructor to initialize an instance of UnmarkTaskCommand class
+     * with the given targetIndexes.
+     *
+     * @param targetIndexes Indexes of the Tasks to be unmarked, i.e., changes
+     *                      the status back to not done
+     */
+    public UnmarkTaskCommand(List<Index> targetIndexes) {
+        requireNonNull(targetIndexes);
+        assert !targetIndexes.isEmpty() : "At least one task should be unmarked";
+        this.targetIndexes = List.copyOf(targetIndexes);
     }
 
     /**
@@ -47,22 +60,21 @@ public class UnmarkTaskCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        List<Task> lastShownList = model.getFilteredTaskList();
+        List<Task> tasksToUnmark = getTargetTasks(model.getFilteredTaskList(), targetIndexes, MESSAGE_USAGE);
 
-        if (targetIndex.getZeroBased() >= lastShownList.size()) {
-            throw new CommandException(String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
+        if (tasksToUnmark.size() == 1) {
+            Task unmarkedTask = model.unmarkTask(tasksToUnmark.get(0));
+            return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, unmarkedTask));
         }
 
-        Task taskToUnmark = lastShownList.get(targetIndex.getZeroBased());
-        Task unmarkedTask = model.unmarkTask(taskToUnmark);
-
-        return new CommandResult(String.format(MESSAGE_UNMARK_TASK_SUCCESS, unmarkedTask));
+        model.unmarkTasks(tasksToUnmark);
+        return new CommandResult(String.format(MESSAGE_UNMARK_TASKS_SUCCESS, tasksToUnmark.size()));
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UnmarkTaskCommand // instanceof handles nulls
-                && targetIndex.equals(((UnmarkTaskCommand) other).targetIndex)); // state check
+                && targetIndexes.equals(((UnmarkTaskCommand) other).targetIndexes)); // state check
     }
 }
@@ -79,7 +79,6 @@ public class UntagTaskCommand extends Command {
         }
 
         Task untaggedEmployeeTask = model.untagEmployeeFromTask(taskToUntagEmployee, person);
-        model.decreaseNumOfTasks(person);
 
         return new CommandResult(String.format(MESSAGE_UNTAG_TASK_SUCCESS,
                 person.getName().toString()) + untaggedEmployeeTask);
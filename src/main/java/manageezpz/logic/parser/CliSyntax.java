@@ -20,4 +20,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_PRIORITY = new Prefix("priority/");
     public static final Prefix PREFIX_ASSIGNEES = new Prefix("assignees/");
     public static final Prefix PREFIX_IS_MARKED = new Prefix("isMarked/");
+    public static final Prefix PREFIX_EXPLAIN = new Prefix("explain/");
 }
@@ -2,6 +2,8 @@ package manageezpz.logic.parser;
 
 import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
 
+import java.util.List;
+
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.DeleteTaskCommand;
 import manageezpz.logic.parser.exceptions.ParseException;
@@ -25,8 +27,8 @@ public class DeleteTaskCommandParser implements Parser<DeleteTaskCommand> {
         }
 
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new DeleteTaskCommand(index);
+            List<Index> indexes = ParserUtil.parseIndexes(args);
+            return new DeleteTaskCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(pe.getMessage() + "\n\n" + DeleteTaskCommand.MESSAGE_USAGE, pe);
         }
@@ -6,6 +6,7 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
@@ -30,12 +31,16 @@ import manageezpz.model.task.TaskMultiplePredicate;
  */
 public class FindTaskCommandParser implements Parser<FindTaskCommand> {
     private static final Prefix[] TASK_TYPES = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT};
-    private static final Prefix[] VALID_OPTIONS = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT, PREFIX_DATE,
+    private static final Prefix[] SEARCH_OPTIONS = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT, PREFIX_DATE,
         PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_ASSIGNEES, PREFIX_IS_MARKED};
+    private static final Prefix[] VALID_OPTIONS = {PREFIX_TODO, PREFIX_DEADLINE, PREFIX_EVENT, PREFIX_DATE,
+        PREFIX_DESCRIPTION, PREFIX_PRIORITY, PREFIX_ASSIGNEES, PREFIX_IS_MARKED, PREFIX_EXPLAIN};
     private static final Logger logger = LogsCenter.getLogger(FindTaskCommandParser.class);
 
     private String errorMessage = "";
     private boolean hasError = false;
+    private Date startDate;
+    private Date endDate;
 
     /**
      * {@inheritDoc}
@@ -46,10 +51,11 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
         checkIfHaveAtLeastOneOption(argMultiMap);
         Prefix taskType = getPrefix(argMultiMap);
         List<String> descriptions = getDescriptions(argMultiMap);
-        Date date = getTaskDate(argMultiMap);
+        parseTaskDates(argMultiMap);
         Priority priority = getTaskPriority(argMultiMap);
         String assignee = getAssignee(argMultiMap);
         Boolean isMarked = getIsMarked(argMultiMap);
+        boolean isExplain = getIsExplain(argMultiMap);
 
         checkIfTodoAndDateTogether(argMultiMap, taskType);
 
@@ -59,14 +65,14 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
             throw new ParseException(displayedMessage);
         } else {
             return new FindTaskCommand(new TaskMultiplePredicate(
-                    taskType, descriptions, date, priority, assignee, isMarked));
+                    taskType, descriptions, startDate, endDate, priority, assignee, isMarked), isExplain);
         }
     }
 
     private void checkIfHaveAtLeastOneOption(ArgumentMultimap argMultiMap) {
         String noOptionEnteredMessage = "No option entered for find task command.";
 
-        if (!isAtLeastOnePrefixPresent(argMultiMap, VALID_OPTIONS) || !argMultiMap.getPreamble().isEmpty()) {
+        if (!isAtLeastOnePrefixPresent(argMultiMap, SEARCH_OPTIONS) || !argMultiMap.getPreamble().isEmpty()) {
             logger.warning(noOptionEnteredMessage);
             addErrorMessage(FindTaskCommand.NO_OPTIONS);
         }
@@ -126,18 +132,47 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
         }
     }
 
-    private Date getTaskDate(ArgumentMultimap argMultiMap) {
+    /**
+     * Parses the date option, which is either a single date or a range of dates separated by
+     * {@code FindTaskCommand#DATE_RANGE_SEPARATOR} where either end may be left out.
+     */
+    private void parseTaskDates(ArgumentMultimap argMultiMap) {
         String dateMessage = "Date:";
-        Date date = null;
-        if (argMultiMap.isPrefixExist(PREFIX_DATE)) {
-            String dateString = argMultiMap.getValue(PREFIX_DATE).get().trim();
-            logger.info(String.join(" ", dateMessage, dateString));
-            boolean isDateValid = checkIfDateIsValid(dateString);
-            if (isDateValid) {
-                date = new Date(dateString);
-            }
+        if (!argMultiMap.isPrefixExist(PREFIX_DATE)) {
+            return;
+        }
+
+        String dateString = argMultiMap.getValue(PREFIX_DATE).get().trim();
+        logger.info(String.join(" ", dateMessage, dateString));
+        int separatorIndex = dateString.indexOf(FindTaskCommand.DATE_RANGE_SEPARATOR);
+        if (separatorIndex == -1) {
+            startDate = getTaskDate(dateString);
+            endDate = startDate;
+            return;
+        }
+
+        String startDateString = dateString.substring(0, separatorIndex).trim();
+        String endDateString = dateString.substring(separatorIndex + FindTaskCommand.DATE_RANGE_SEPARATOR.length())
+                .trim();
+        if (startDateString.isEmpty() && endDateString.isEmpty()) {
+            checkIfDateIsValid(dateString);
+            return;
+        }
+
+        startDate = startDateString.isEmpty() ? null : getTaskDate(startDateString);
+        endDate = endDateString.isEmpty() ? null : getTaskDate(endDateString);
+        if (startDate != null && endDate != null && startDate.compareTo(endDate) > 0) {
+            logger.warning("Start date after end date");
+            addErrorMessage(FindTaskCommand.INVALID_DATE_RANGE);
         }
-        return date;
+    }
+
+    private Date getTaskDate(String dateString) {
+        if (dateString.equalsIgnoreCase(FindTaskCommand.DATE_TODAY)) {
+            return Date.getTodayDate();
+        }
+        boolean isDateValid = checkIfDateIsValid(dateString);
+        return isDateValid ? new Date(dateString) : null;
     }
 
     private boolean checkIfDateIsValid(String dateString) {
@@ -214,6 +249,17 @@ public class FindTaskCommandParser implements Parser<FindTaskCommand> {
         return isMarked;
     }
 
+    private boolean getIsExplain(ArgumentMultimap argMultiMap) {
+        if (!argMultiMap.isPrefixExist(PREFIX_EXPLAIN)) {
+            return false;
+        }
+        if (!argMultiMap.getValue(PREFIX_EXPLAIN).get().trim().isEmpty()) {
+            logger.warning("Value entered for explain option");
+            addErrorMessage(FindTaskCommand.INVALID_EXPLAIN);
+        }
+        return true;
+    }
+
     private boolean checkIfEitherTrueOrFalse(String booleanString) {
         String invalidBooleanMessage = "Invalid boolean";
         if (booleanString.equals("true") || booleanString.equals("false")) {
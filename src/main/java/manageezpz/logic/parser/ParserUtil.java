@@ -2,6 +2,11 @@ package manageezpz.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import manageezpz.commons.core.index.Index;
 import manageezpz.commons.util.StringUtil;
 import manageezpz.logic.parser.exceptions.ParseException;
@@ -18,6 +23,10 @@ import manageezpz.model.task.Time;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index specified is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_INDEX_RANGE = "Index range %1$s ends before it starts.";
+    public static final String MESSAGE_TOO_MANY_INDEXES = "At most %1$d indexes can be specified at once.";
+
+    public static final int MAX_INDEXES = 10_000;
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -32,6 +41,39 @@ public class ParserUtil {
         return Index.fromOneBased(Integer.parseInt(trimmedIndex));
     }
 
+    /**
+     * Parses {@code oneBasedIndexes} into a list of {@code Index} and returns it. Leading and trailing whitespaces
+     * will be trimmed.
+     * The indexes are separated by commas, and each of them is either a single index like {@code 4} or an inclusive
+     * range of indexes like {@code 1-300}. Repeated indexes are kept once, in the order they first appear.
+     * @throws ParseException if any of the indexes is invalid, if a range ends before it starts, or if there are more
+     *     than {@link #MAX_INDEXES} indexes.
+     */
+    public static List<Index> parseIndexes(String oneBasedIndexes) throws ParseException {
+        requireNonNull(oneBasedIndexes);
+        List<Index> indexes = new ArrayList<>();
+        Set<Integer> parsedIndexes = new HashSet<>();
+        for (String item : oneBasedIndexes.trim().split(",", -1)) {
+            int separator = item.indexOf('-');
+            int start = parseIndex(separator == -1 ? item : item.substring(0, separator)).getOneBased();
+            int end = separator == -1 ? start : parseIndex(item.substring(separator + 1)).getOneBased();
+            if (start > end) {
+                throw new ParseException(String.format(MESSAGE_INVALID_INDEX_RANGE, item));
+            }
+
+            for (int i = start; i <= end; i++) {
+                if (!parsedIndexes.add(i)) {
+                    continue;
+                }
+                if (indexes.size() == MAX_INDEXES) {
+                    throw new ParseException(String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES));
+                }
+                indexes.add(Index.fromOneBased(i));
+            }
+        }
+        return indexes;
+    }
+
     /**
      * Parses a {@code String name} into a {@code Name}.
      * Leading and trailing whitespaces will be trimmed.
@@ -5,6 +5,7 @@ import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 import manageezpz.commons.core.index.Index;
@@ -37,10 +38,10 @@ public class TagTaskCommandParser implements Parser<TagTaskCommand> {
                     + MESSAGE_TAG_EMPLOYEE_TO_TASK_INSTRUCTIONS, TagTaskCommand.MESSAGE_USAGE));
         }
 
-        Index index;
+        List<Index> indexes;
 
         try {
-            index = ParserUtil.parseIndex(argMultimapTagTask.getPreamble());
+            indexes = ParserUtil.parseIndexes(argMultimapTagTask.getPreamble());
         } catch (ParseException pe) {
             throw new ParseException(pe.getMessage() + "\n\n" + TagTaskCommand.MESSAGE_USAGE, pe);
         }
@@ -56,7 +57,7 @@ public class TagTaskCommandParser implements Parser<TagTaskCommand> {
             throw new ParseException(String.format(MESSAGE_EMPTY_NAME, TagTaskCommand.MESSAGE_USAGE));
         }
 
-        return new TagTaskCommand(index, name);
+        return new TagTaskCommand(indexes, name);
     }
 
     /**
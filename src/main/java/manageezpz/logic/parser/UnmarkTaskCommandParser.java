@@ -2,6 +2,8 @@ package manageezpz.logic.parser;
 
 import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND;
 
+import java.util.List;
+
 import manageezpz.commons.core.index.Index;
 import manageezpz.logic.commands.UnmarkTaskCommand;
 import manageezpz.logic.parser.exceptions.ParseException;
@@ -25,8 +27,8 @@ public class UnmarkTaskCommandParser implements Parser<UnmarkTaskCommand> {
         }
 
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new UnmarkTaskCommand(index);
+            List<Index> indexes = ParserUtil.parseIndexes(args);
+            return new UnmarkTaskCommand(indexes);
         } catch (ParseException pe) {
             throw new ParseException(pe.getMessage() + "\n\n" + UnmarkTaskCommand.MESSAGE_USAGE, pe);
         }
@@ -3,26 +3,47 @@ package manageezpz.model;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
 import manageezpz.model.person.UniquePersonList;
+import manageezpz.model.person.exceptions.PersonNotFoundException;
 import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Description;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
 import manageezpz.model.task.Todo;
 import manageezpz.model.task.UniqueTaskList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Also keeps a reverse index from the id of each assigned person to the descriptions of the tasks they are assigned
+ * to, which every task-level operation keeps in sync with the assignees of the tasks. The number of tasks of each
+ * person in the person list is derived from this index. As tasks refer to their assignees by id, editing a person
+ * does not change any task.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueTaskList tasks;
+    private final Map<Integer, Set<Description>> assignments = new HashMap<>();
+    private long version;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -34,6 +55,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         tasks = new UniqueTaskList();
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change -> version++);
+        tasks.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change -> version++);
     }
 
     public AddressBook() {}
@@ -56,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        syncAllNumOfTasks();
     }
 
     /**
@@ -87,6 +111,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTask(Task task) {
         tasks.add(task);
+        indexAssignees(task);
     }
 
     /**
@@ -96,6 +121,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTasks(List<Task> task) {
         this.tasks.setTasks(task);
+        assignments.clear();
+        for (Task t : this.tasks) {
+            for (int assigneeId : t.getAssigneeIds()) {
+                addAssignment(assigneeId, t.getDescription());
+            }
+        }
+        syncAllNumOfTasks();
     }
 
     /**
@@ -104,7 +136,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param task the task to be removed.
      */
     public void removeTask(Task task) {
+        Task storedTask = tasks.getTask(task.getDescription());
         tasks.remove(task);
+        for (int assigneeId : storedTask.getAssigneeIds()) {
+            removeAssignment(assigneeId, task.getDescription());
+            syncNumOfTasks(assigneeId);
+        }
+    }
+
+    /**
+     * Removes {@code toRemove} from this {@code AddressBook} in a single change to the task list.
+     * All the tasks must exist in the address book.
+     * @param toRemove the tasks to be removed.
+     * @return the removed tasks.
+     */
+    public List<Task> removeTasks(List<Task> toRemove) {
+        requireAllNonNull(toRemove);
+        List<Task> removedTasks = tasks.removeAll(toRemove);
+
+        Set<Integer> affectedPersonIds = new HashSet<>();
+        for (Task removedTask : new LinkedHashSet<>(removedTasks)) {
+            for (int assigneeId : removedTask.getAssigneeIds()) {
+                removeAssignment(assigneeId, removedTask.getDescription());
+                affectedPersonIds.add(assigneeId);
+            }
+        }
+        affectedPersonIds.forEach(this::syncNumOfTasks);
+        return removedTasks;
     }
 
     /**
@@ -123,6 +181,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addTodo(Todo todo) {
         this.tasks.add(todo);
+        indexAssignees(todo);
     }
 
     /**
@@ -141,6 +200,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event event) {
         this.tasks.add(event);
+        indexAssignees(event);
     }
 
     /**
@@ -159,17 +219,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addDeadline(Deadline deadline) {
         this.tasks.add(deadline);
-    }
-
-    /**
-     * Updates the task with the edited person.
-     * @param task the task to be updated.
-     * @param assigneesIndex the index of the person in List of assignees.
-     * @param editedPerson the edited person.
-     */
-    public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(task, assigneesIndex, editedPerson);
-        this.tasks.updateTaskWithEditedPerson(task, assigneesIndex, editedPerson);
+        indexAssignees(deadline);
     }
 
     /**
@@ -192,6 +242,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         return this.tasks.unmarkTask(task);
     }
 
+    /**
+     * Marks the tasks in the task list in a single change to the task list.
+     * @param toMark the tasks to be marked.
+     * @return the marked tasks.
+     */
+    public List<Task> markTasks(List<Task> toMark) {
+        requireAllNonNull(toMark);
+        return this.tasks.markTasks(toMark);
+    }
+
+    /**
+     * Unmarks the tasks in the task list in a single change to the task list.
+     * @param toUnmark the tasks to be unmarked.
+     * @return the unmarked tasks.
+     */
+    public List<Task> unmarkTasks(List<Task> toUnmark) {
+        requireAllNonNull(toUnmark);
+        return this.tasks.unmarkTasks(toUnmark);
+    }
+
     /**
      * Tags a priority to the task.
      * @param task the task to be tagged.
@@ -206,34 +276,59 @@ public class AddressBook implements ReadOnlyAddressBook {
     /**
      * Tags the task in the task list to a person in the address book.
      * @param task the task to be tagged.
-     * @param person the person to be tagged to the task.
+     * @param person the person to be tagged to the task, who must be in the address book.
      * @return the tagged task.
      */
     public Task tagEmployeeToTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return this.tasks.tagEmployeeToTask(task, person);
+        int personId = getStoredPerson(person).orElseThrow(PersonNotFoundException::new).getId();
+        Task taggedTask = this.tasks.tagEmployeeToTask(task, personId);
+        addAssignment(personId, task.getDescription());
+        syncNumOfTasks(personId);
+        return taggedTask;
+    }
+
+    /**
+     * Tags the tasks in the task list to a person in the address book in a single change to the task list.
+     * @param toTag the tasks to be tagged.
+     * @param person the person to be tagged to the tasks, who must be in the address book.
+     * @return the tagged tasks.
+     */
+    public List<Task> tagEmployeeToTasks(List<Task> toTag, Person person) {
+        requireAllNonNull(toTag, person);
+        int personId = getStoredPerson(person).orElseThrow(PersonNotFoundException::new).getId();
+        List<Task> taggedTasks = this.tasks.tagEmployeeToTasks(toTag, personId);
+        for (Task taggedTask : taggedTasks) {
+            addAssignment(personId, taggedTask.getDescription());
+        }
+        syncNumOfTasks(personId);
+        return taggedTasks;
     }
 
     /**
      * Remove the Person from the Task, also decreasing the person's task count.
      * @param task the task affected.
-     * @param person the person to be untagged from task
+     * @param person the person to be untagged from task, who must be in the address book.
      * @return the untagged task.
      */
     public Task untagEmployeeFromTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return this.tasks.untagEmployeeFromTask(task, person);
+        int personId = getStoredPerson(person).orElseThrow(PersonNotFoundException::new).getId();
+        Task untaggedTask = this.tasks.untagEmployeeFromTask(task, personId);
+        removeAssignment(personId, task.getDescription());
+        syncNumOfTasks(personId);
+        return untaggedTask;
     }
 
     /**
      * Checks if a given Person is tagged to the task.
      * @param task the task to be checked.
      * @param person the person to be checked against.
-     * @return true if the person is tagged to the task, false otherwise.
+     * @return true if the person is in the address book and tagged to the task, false otherwise.
      */
     public boolean isEmployeeTaggedToTask(Task task, Person person) {
         requireAllNonNull(task, person);
-        return task.getAssignees().contains(person);
+        return getAssignedDescriptions(person).contains(task.getDescription());
     }
 
     /**
@@ -261,7 +356,157 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
+        Task storedTarget = tasks.getTask(target.getDescription());
         tasks.setTask(target, editedTask);
+
+        Set<Integer> affectedPersonIds = new HashSet<>();
+        for (int assigneeId : storedTarget.getAssigneeIds()) {
+            removeAssignment(assigneeId, target.getDescription());
+            affectedPersonIds.add(assigneeId);
+        }
+        for (int assigneeId : editedTask.getAssigneeIds()) {
+            addAssignment(assigneeId, editedTask.getDescription());
+            affectedPersonIds.add(assigneeId);
+        }
+        affectedPersonIds.forEach(this::syncNumOfTasks);
+    }
+
+    /**
+     * Returns the tasks that {@code person} is assigned to, in the order they were assigned.
+     * @param person the person whose tasks are to be retrieved.
+     * @return the tasks assigned to the person, or no tasks if the person is not in the address book.
+     */
+    public List<Task> getTasksAssignedTo(Person person) {
+        requireNonNull(person);
+        List<Task> assignedTasks = new ArrayList<>();
+        for (Description description : getAssignedDescriptions(person)) {
+            assignedTasks.add(tasks.getTask(description));
+        }
+        return assignedTasks;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<Person> getAssignees(Task task) {
+        requireNonNull(task);
+        List<Person> assignees = new ArrayList<>();
+        for (int assigneeId : task.getAssigneeIds()) {
+            persons.getPersonWithId(assigneeId).ifPresent(assignees::add);
+        }
+        return assignees;
+    }
+
+    /**
+     * Returns the names of the persons whose name contains {@code word}, ignoring case.
+     * @param word the word to be searched for.
+     * @return an unmodifiable view of the matching names.
+     */
+    public Set<Name> getPersonNamesWithWord(String word) {
+        return persons.getNamesWithWord(word);
+    }
+
+    /**
+     * Returns the names of the persons with a word starting with {@code prefix}, ignoring case.
+     * @param prefix the start of the word to be searched for.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names, at most {@code limit} of them.
+     */
+    public List<Name> getPersonNamesWithWordPrefix(String prefix, int limit) {
+        return persons.getNamesWithWordPrefix(prefix, limit);
+    }
+
+    /**
+     * Returns a plan that finds the tasks matching {@code predicate} from the indexes of the task list.
+     * @param predicate the search options to plan for.
+     * @return the plan, which matches the tasks it found.
+     */
+    public TaskQueryPlan planTaskQuery(TaskMultiplePredicate predicate) {
+        return tasks.planQuery(predicate.withAssigneeLookup(persons::getPersonWithName), this::getAssignedDescriptions);
+    }
+
+    /**
+     * Returns the number of tasks that {@code person} is assigned to.
+     * @param person the person to be checked.
+     * @return the number of tasks assigned to the person.
+     */
+    public int getNumOfTasks(Person person) {
+        requireNonNull(person);
+        return getAssignedDescriptions(person).size();
+    }
+
+    /**
+     * Returns the person in the address book equal to {@code person}, which holds the id of the person.
+     */
+    private Optional<Person> getStoredPerson(Person person) {
+        return persons.getPersonWithName(person.getName()).filter(person::equals);
+    }
+
+    private Set<Description> getAssignedDescriptions(Person person) {
+        return getStoredPerson(person)
+                .map(storedPerson -> assignments.get(storedPerson.getId()))
+                .orElse(Collections.emptySet());
+    }
+
+    private Set<Description> getAssignedDescriptions(int personId) {
+        return Collections.unmodifiableSet(assignments.getOrDefault(personId, Collections.emptySet()));
+    }
+
+    private void indexAssignees(Task task) {
+        for (int assigneeId : task.getAssigneeIds()) {
+            addAssignment(assigneeId, task.getDescription());
+            syncNumOfTasks(assigneeId);
+        }
+    }
+
+    private void addAssignment(int personId, Description description) {
+        assignments.computeIfAbsent(personId, unused -> new LinkedHashSet<>()).add(description);
+    }
+
+    private void removeAssignment(int personId, Description description) {
+        Set<Description> descriptions = assignments.get(personId);
+        if (descriptions == null) {
+            return;
+        }
+        descriptions.remove(description);
+        if (descriptions.isEmpty()) {
+            assignments.remove(personId);
+        }
+    }
+
+    private int countAssignedTasks(int personId) {
+        return assignments.getOrDefault(personId, Collections.emptySet()).size();
+    }
+
+    /**
+     * Updates the number of tasks shown for the person with the id {@code personId} in the person list to match
+     * the reverse index.
+     */
+    private void syncNumOfTasks(int personId) {
+        persons.getPersonWithId(personId)
+                .ifPresent(person -> persons.setNumOfTasks(person, countAssignedTasks(personId)));
+    }
+
+    /**
+     * Updates the number of tasks shown for every person in the person list to match the reverse index,
+     * replacing the person list in one go if any of them differ.
+     */
+    private void syncAllNumOfTasks() {
+        List<Person> syncedPersons = new ArrayList<>();
+        boolean isChanged = false;
+        for (Person person : persons) {
+            int numOfTasks = countAssignedTasks(person.getId());
+            if (person.getNumOfTasks() != numOfTasks) {
+                person = new Person(person.getId(), person.getName(), person.getPhone(), person.getEmail(),
+                        numOfTasks);
+                isChanged = true;
+            }
+            syncedPersons.add(person);
+        }
+        if (isChanged) {
+            persons.setPersons(syncedPersons);
+        }
     }
 
     //// person-level operations
@@ -276,6 +521,18 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.contains(person);
     }
 
+    /**
+     * Checks if a person other than {@code excludedPerson} with the same identity as {@code person} exists in the
+     * address book.
+     * @param person the person to be checked.
+     * @param excludedPerson the person to be ignored.
+     * @return true if another person has the same identity as the person specified, false otherwise.
+     */
+    public boolean hasPersonOtherThan(Person person, Person excludedPerson) {
+        requireAllNonNull(person, excludedPerson);
+        return persons.containsOtherThan(person, excludedPerson);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -283,6 +540,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person person) {
         persons.add(person);
+        getStoredPerson(person).ifPresent(addedPerson -> syncNumOfTasks(addedPerson.getId()));
     }
 
     /**
@@ -295,24 +553,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
-    }
-
-    /**
-     * Increments the number of task associated with the person.
-     * @param person the person whose number of task is to be incremented.
-     */
-    public void increaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        this.persons.increaseNumOfTasks(person);
-    }
-
-    /**
-     * Decrements the number of task associated with the person.
-     * @param person the person whose number of task is to be decremented.
-     */
-    public void decreaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        this.persons.decreaseNumOfTasks(person);
+        getStoredPerson(editedPerson).ifPresent(storedPerson -> syncNumOfTasks(storedPerson.getId()));
     }
 
     /**
@@ -326,6 +567,14 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// util methods
 
+    /**
+     * Returns the version of this {@code AddressBook}, which increases every time its persons or tasks change.
+     * @return the current version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     /**
      * {@inheritDoc}
      */
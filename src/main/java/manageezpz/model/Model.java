@@ -1,15 +1,20 @@
 package manageezpz.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import manageezpz.commons.core.GuiSettings;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
 import manageezpz.model.task.Todo;
 
 /**
@@ -69,6 +74,12 @@ public interface Model {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Gets the version of the AddressBook, which changes whenever any person or task in it changes.
+     * @return the current version of the AddressBook.
+     */
+    long getAddressBookVersion();
+
     /**
      * Checks if a person with the same identity as {@code person} exists in the address book.
      * @param person the person to be checked against.
@@ -76,6 +87,15 @@ public interface Model {
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Checks if a person other than {@code excludedPerson} with the same identity as {@code person} exists in the
+     * address book.
+     * @param person the person to be checked against.
+     * @param excludedPerson the person to be ignored.
+     * @return true if another person has the same identity, false otherwise.
+     */
+    boolean hasPersonOtherThan(Person person, Person excludedPerson);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -100,16 +120,37 @@ public interface Model {
     void setPerson(Person target, Person editedPerson);
 
     /**
-     * Increments the number of task associated with the person.
-     * @param person the person whose number of task is to be incremented.
+     * Gets the tasks that the given person is assigned to.
+     * @param person the person whose tasks are to be retrieved.
+     * @return the tasks assigned to the person, in the order they were assigned.
+     */
+    List<Task> getTasksAssignedTo(Person person);
+
+    /**
+     * Returns the names of the persons in the address book whose name contains {@code word}, ignoring case.
+     * A full word match is required.
+     * @param word the word to be searched for.
+     * @return an unmodifiable view of the matching names.
+     */
+    Set<Name> getPersonNamesWithWord(String word);
+
+    /**
+     * Returns the names of the persons in the address book with a word starting with {@code prefix}, ignoring case,
+     * for suggesting names as they are typed.
+     * @param prefix the start of the word to be searched for.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names, at most {@code limit} of them.
      */
-    void increaseNumOfTasks(Person person);
+    List<Name> getPersonNamesWithWordPrefix(String prefix, int limit);
 
     /**
-     * Decrements the number of task associated with the person.
-     * @param person the person whose number of task is to be decremented.
+     * Returns a plan that finds the tasks matching {@code predicate} from the indexes of the task list of the
+     * address book, applying its search options from the most to the least selective.
+     * The plan only reflects the tasks at the time it is made.
+     * @param predicate the search options to plan for.
+     * @return the plan, which matches the tasks it found.
      */
-    void decreaseNumOfTasks(Person person);
+    TaskQueryPlan planTaskQuery(TaskMultiplePredicate predicate);
 
     /**
      * Gets an unmodifiable view of the filtered person list
@@ -135,13 +176,11 @@ public interface Model {
     void deleteTask(Task task);
 
     /**
-     * Updates the task with the edited person.
-     * The task must exist in the task list.
-     * @param task the task to be updated.
-     * @param assigneesIndex the index to the Persons List.
-     * @param editedPerson the person to update with.
+     * Deletes the given tasks in a single change to the task list.
+     * All the tasks must exist in the task list.
+     * @param tasks the tasks to be deleted.
      */
-    void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson);
+    void deleteTasks(List<Task> tasks);
 
     /**
      * Marks the given task.
@@ -159,6 +198,22 @@ public interface Model {
      */
     Task unmarkTask(Task task);
 
+    /**
+     * Marks the given tasks in a single change to the task list.
+     * All the tasks must exist in the task list.
+     * @param tasks the tasks to be marked.
+     * @return the marked tasks.
+     */
+    List<Task> markTasks(List<Task> tasks);
+
+    /**
+     * Unmarks the given tasks in a single change to the task list.
+     * All the tasks must exist in the task list.
+     * @param tasks the tasks to be unmarked.
+     * @return the unmarked tasks.
+     */
+    List<Task> unmarkTasks(List<Task> tasks);
+
     /**
      * Assigns a task to a priority.
      * @param task the task to be assigned.
@@ -178,6 +233,16 @@ public interface Model {
      */
     Task tagEmployeeToTask(Task task, Person person);
 
+    /**
+     * Tags the given tasks to the specified person in a single change to the task list.
+     * All the tasks must exist in the task list.
+     * The person must exist in the address book.
+     * @param tasks the tasks to be tagged.
+     * @param person the person to be tagged to by the tasks.
+     * @return the tagged tasks.
+     */
+    List<Task> tagEmployeeToTasks(List<Task> tasks, Person person);
+
 
     /**
      * Untags the given task from the specified person.
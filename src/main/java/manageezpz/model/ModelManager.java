@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,11 +13,14 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import manageezpz.commons.core.GuiSettings;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.model.person.Name;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
 import manageezpz.model.task.Todo;
 
 /**
@@ -99,12 +104,23 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
         return addressBook.hasPerson(person);
     }
 
+    @Override
+    public boolean hasPersonOtherThan(Person person, Person excludedPerson) {
+        requireAllNonNull(person, excludedPerson);
+        return addressBook.hasPersonOtherThan(person, excludedPerson);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
@@ -124,15 +140,27 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void increaseNumOfTasks(Person person) {
+    public List<Task> getTasksAssignedTo(Person person) {
         requireNonNull(person);
-        addressBook.increaseNumOfTasks(person);
+        return addressBook.getTasksAssignedTo(person);
     }
 
     @Override
-    public void decreaseNumOfTasks(Person person) {
-        requireNonNull(person);
-        addressBook.decreaseNumOfTasks(person);
+    public Set<Name> getPersonNamesWithWord(String word) {
+        requireNonNull(word);
+        return addressBook.getPersonNamesWithWord(word);
+    }
+
+    @Override
+    public List<Name> getPersonNamesWithWordPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        return addressBook.getPersonNamesWithWordPrefix(prefix, limit);
+    }
+
+    @Override
+    public TaskQueryPlan planTaskQuery(TaskMultiplePredicate predicate) {
+        requireNonNull(predicate);
+        return addressBook.planTaskQuery(predicate);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -210,9 +238,9 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(task, assigneesIndex, editedPerson);
-        addressBook.updateTaskWithEditedPerson(task, assigneesIndex, editedPerson);
+    public void deleteTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        addressBook.removeTasks(tasks);
     }
 
     @Override
@@ -227,6 +255,18 @@ public class ModelManager implements Model {
         return addressBook.unmarkTask(task);
     }
 
+    @Override
+    public List<Task> markTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        return addressBook.markTasks(tasks);
+    }
+
+    @Override
+    public List<Task> unmarkTasks(List<Task> tasks) {
+        requireNonNull(tasks);
+        return addressBook.unmarkTasks(tasks);
+    }
+
     @Override
     public Task tagPriorityToTask(Task task, Priority priority) {
         requireAllNonNull(task, priority);
@@ -239,6 +279,12 @@ public class ModelManager implements Model {
         return addressBook.tagEmployeeToTask(task, person);
     }
 
+    @Override
+    public List<Task> tagEmployeeToTasks(List<Task> tasks, Person person) {
+        requireAllNonNull(tasks, person);
+        return addressBook.tagEmployeeToTasks(tasks, person);
+    }
+
     @Override
     public Task untagEmployeeFromTask(Task task, Person person) {
         requireAllNonNull(task, person);
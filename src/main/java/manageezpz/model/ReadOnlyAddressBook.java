@@ -1,5 +1,7 @@
 package manageezpz.model;
 
+import java.util.List;
+
 import javafx.collections.ObservableList;
 import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
@@ -23,4 +25,11 @@ public interface ReadOnlyAddressBook {
      */
     ObservableList<Task> getTaskList();
 
+    /**
+     * Returns the persons assigned to {@code task}, in the order they were assigned.
+     * @param task the task whose assignees are to be retrieved.
+     * @return the persons in the address book with the assignee ids of the task.
+     */
+    List<Person> getAssignees(Task task);
+
 }
@@ -3,6 +3,8 @@ package manageezpz.model.person;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.AppUtil.checkArgument;
 
+import manageezpz.commons.util.StringUtil;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -50,7 +52,53 @@ public class Email {
      * @return true if the given email is valid, false otherwise.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans the characters instead of matching VALIDATION_REGEX, which compiles it on every call
+        int at = test.indexOf('@');
+        return at != -1 && isValidLocalPart(test, at) && isValidDomain(test, at + 1);
+    }
+
+    /**
+     * Returns true if the characters of {@code test} before {@code end} are alphanumeric characters separated by
+     * single special characters.
+     */
+    private static boolean isValidLocalPart(String test, int end) {
+        boolean isAfterAlphanumeric = false;
+        for (int i = 0; i < end; i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && SPECIAL_CHARACTERS.indexOf(c) != -1) {
+                isAfterAlphanumeric = false;
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric;
+    }
+
+    /**
+     * Returns true if the characters of {@code test} from {@code start} are domain labels separated by periods.
+     * Each label is made of alphanumeric characters separated by single hyphens. The last label must also have two
+     * alphanumeric characters in a row, as it has to be made of at least two of the parts in DOMAIN_PART_REGEX.
+     */
+    private static boolean isValidDomain(String test, int start) {
+        boolean isAfterAlphanumeric = false;
+        boolean hasTwoAlphanumericsInRow = false;
+        for (int i = start; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (StringUtil.isAsciiAlphanumeric(c)) {
+                hasTwoAlphanumericsInRow |= isAfterAlphanumeric;
+                isAfterAlphanumeric = true;
+            } else if (isAfterAlphanumeric && (c == '-' || c == '.')) {
+                isAfterAlphanumeric = false;
+                if (c == '.') {
+                    hasTwoAlphanumericsInRow = false;
+                }
+            } else {
+                return false;
+            }
+        }
+        return isAfterAlphanumeric && hasTwoAlphanumericsInRow;
     }
 
     /**
@@ -8,14 +8,22 @@ import java.util.Objects;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person in the address book also has a numeric id, which stays the same when their details are edited, so that
+ * tasks can refer to their assignees by id. The id is not part of the identity or equality of a person.
  */
 public class Person {
 
+    /** The id of a person that has not been added to an address book. */
+    public static final int UNASSIGNED_ID = 0;
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
-    private int numOfTasks;
+    private final int numOfTasks;
 
     /**
      * Constructs an {@code Person}.
@@ -25,13 +33,44 @@ public class Person {
      * @param numOfTasks the number of task assigned to the person.
      */
     public Person(Name name, Phone phone, Email email, int numOfTasks) {
+        this(UNASSIGNED_ID, name, phone, email, numOfTasks);
+    }
+
+    /**
+     * Constructs an {@code Person} with the given id.
+     * @param id the id of the person in the address book, or {@code UNASSIGNED_ID}.
+     * @param name A valid name.
+     * @param phone A valid phone number.
+     * @param email A valid Email.
+     * @param numOfTasks the number of task assigned to the person.
+     */
+    public Person(int id, Name name, Phone phone, Email email, int numOfTasks) {
         requireAllNonNull(name, phone, email);
+        assert id >= UNASSIGNED_ID : "id should not be negative";
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.numOfTasks = numOfTasks;
     }
 
+    public int getId() {
+        return id;
+    }
+
+    public boolean hasId() {
+        return id != UNASSIGNED_ID;
+    }
+
+    /**
+     * Returns a copy of this person with the given id.
+     * @param id the id of the copy.
+     * @return this person if it already has the id, otherwise the copy.
+     */
+    public Person withId(int id) {
+        return id == this.id ? this : new Person(id, name, phone, email, numOfTasks);
+    }
+
     public Name getName() {
         return name;
     }
@@ -65,25 +104,10 @@ public class Person {
                 || otherPerson.getPhone().equals(getPhone()));
     }
 
-    /**
-     * Increases the number of tasks by one.
-     */
-    public void increaseTaskCount() {
-        this.numOfTasks = numOfTasks + 1;
-    }
-
-    /**
-     * Decreases the number of tasks by one.
-     * At any time, the number of tasks should not be lesser than zero.
-     */
-    public void decreaseTaskCount() {
-        assert numOfTasks >= 0 : "numOfTasks should not be lesser than 0";
-        this.numOfTasks = numOfTasks - 1;
-    }
-
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
+     * The ids of the persons are not compared.
      */
     @Override
     public boolean equals(Object other) {
@@ -1,6 +1,11 @@
 package manageezpz.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import manageezpz.commons.util.StringUtil;
@@ -12,6 +17,10 @@ public class PersonMultiplePredicate implements Predicate<Person> {
     private final List<String> names;
     private final String phone;
     private final String email;
+    private final Phone parsedPhone;
+    private final Email parsedEmail;
+    private final List<String> foldedNames;
+    private final Function<String, Set<Name>> nameIndex;
 
     /**
      * The constructor for the multipredicate to search for employees with the stated options.
@@ -23,11 +32,41 @@ public class PersonMultiplePredicate implements Predicate<Person> {
         this.names = names;
         this.phone = phone;
         this.email = email;
+        // Parsed once here instead of on every person tested
+        this.parsedPhone = phone != null ? new Phone(phone) : null;
+        this.parsedEmail = email != null ? new Email(email) : null;
+        this.foldedNames = foldNames(names);
+        this.nameIndex = null;
 
         boolean isAtLeastOneNotNull = (this.names != null) || (this.phone != null) || (this.email != null);
         assert isAtLeastOneNotNull : "At least one search option should be specified";
     }
 
+    /**
+     * Copies the search options of {@code source}, looking up the names in {@code nameIndex}.
+     */
+    private PersonMultiplePredicate(PersonMultiplePredicate source, Function<String, Set<Name>> nameIndex) {
+        this.names = source.names;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.parsedPhone = source.parsedPhone;
+        this.parsedEmail = source.parsedEmail;
+        this.foldedNames = source.foldedNames;
+        this.nameIndex = nameIndex;
+    }
+
+    /**
+     * Returns a copy of this predicate that checks the name keywords against {@code nameIndex}, which returns the
+     * names containing a given word, instead of splitting the name of every person.
+     * The other options are still checked on each person.
+     * @param nameIndex the index to look up the keywords in.
+     * @return the predicate using the index.
+     */
+    public PersonMultiplePredicate withNameIndex(Function<String, Set<Name>> nameIndex) {
+        requireNonNull(nameIndex);
+        return new PersonMultiplePredicate(this, nameIndex);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -43,17 +82,36 @@ public class PersonMultiplePredicate implements Predicate<Person> {
     }
 
     private boolean checkIfNameExists(Person person) {
+        if (nameIndex != null) {
+            for (String name : foldedNames) {
+                if (nameIndex.apply(name).contains(person.getName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
         return names.stream().anyMatch(name -> StringUtil.containsWordIgnoreCase(person.getName().fullName, name));
     }
 
+    private static List<String> foldNames(List<String> names) {
+        if (names == null) {
+            return null;
+        }
+
+        List<String> foldedNames = new ArrayList<>(names.size());
+        for (String name : names) {
+            foldedNames.add(StringUtil.foldCase(name.trim()));
+        }
+        return foldedNames;
+    }
+
     private boolean checkIfPhoneExists(Person person) {
-        Phone phone = new Phone(this.phone);
-        return person.getPhone().equals(phone);
+        return person.getPhone().equals(parsedPhone);
     }
 
     private boolean checkIfEmailExists(Person person) {
-        Email email = new Email(this.email);
-        return person.getEmail().equals(email);
+        return person.getEmail().equals(parsedEmail);
     }
 
     /**
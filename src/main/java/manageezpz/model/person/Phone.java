@@ -3,6 +3,8 @@ package manageezpz.model.person;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.AppUtil.checkArgument;
 
+import manageezpz.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -32,7 +34,8 @@ public class Phone {
      * @return true if the phone number is valid, false otherwise.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans the characters instead of matching VALIDATION_REGEX, which compiles it on every call
+        return StringUtil.isAllChars(test, 3, StringUtil::isAsciiDigit);
     }
 
     /**
@@ -3,11 +3,22 @@ package manageezpz.model.person;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import manageezpz.commons.util.StringUtil;
 import manageezpz.model.person.exceptions.DuplicatePersonException;
 import manageezpz.model.person.exceptions.PersonNotFoundException;
 
@@ -18,6 +29,14 @@ import manageezpz.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  *
+ * The persons are also indexed by name, phone and email, so that identity checks and exact lookups do not have to
+ * search the list, and by the case-folded words of their names, so that name searches and name suggestions do not
+ * have to split every name. The position of every person in the list is kept by id, so that a person can be
+ * replaced without searching the list.
+ *
+ * Every person in the list has a unique id, which is kept when the person is replaced. A person added without an id,
+ * or with the id of another person in the list, is stored as a copy with the next unused id.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,6 +47,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final Map<Integer, Integer> positionsById = new HashMap<>();
+    private final Map<Name, Person> personsByName = new HashMap<>();
+    private final Map<Phone, Person> personsByPhone = new HashMap<>();
+    private final Map<Email, Person> personsByEmail = new HashMap<>();
+    private final NavigableMap<String, Set<Name>> nameWordIndex = new TreeMap<>();
+    private int nextId = 1;
+
     /**
      * Checks if the list contains an equivalent person as the given argument.
      * @param toCheck the person to be checked.
@@ -35,11 +62,96 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName())
+                || personsByPhone.containsKey(toCheck.getPhone())
+                || personsByEmail.containsKey(toCheck.getEmail());
+    }
+
+    /**
+     * Checks if the list contains a person other than {@code excluded} with the same identity as {@code toCheck}.
+     * @param toCheck the person to be checked.
+     * @param excluded the person to be ignored, usually the person that {@code toCheck} is to replace.
+     * @return true if another person in the list has the same name, phone or email, false otherwise.
+     */
+    public boolean containsOtherThan(Person toCheck, Person excluded) {
+        requireAllNonNull(toCheck, excluded);
+        return isOtherThan(personsByName.get(toCheck.getName()), excluded)
+                || isOtherThan(personsByPhone.get(toCheck.getPhone()), excluded)
+                || isOtherThan(personsByEmail.get(toCheck.getEmail()), excluded);
     }
 
     /**
-     * Adds a person to the list.
+     * Returns the person in the list with the given id, if any.
+     */
+    public Optional<Person> getPersonWithId(int id) {
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns the person in the list with the given name, if any.
+     */
+    public Optional<Person> getPersonWithName(Name name) {
+        requireNonNull(name);
+        return Optional.ofNullable(personsByName.get(name));
+    }
+
+    /**
+     * Returns the person in the list with the given phone, if any.
+     */
+    public Optional<Person> getPersonWithPhone(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(personsByPhone.get(phone));
+    }
+
+    /**
+     * Returns the person in the list with the given email, if any.
+     */
+    public Optional<Person> getPersonWithEmail(Email email) {
+        requireNonNull(email);
+        return Optional.ofNullable(personsByEmail.get(email));
+    }
+
+    /**
+     * Returns the names of the persons in the list whose name contains {@code word}, ignoring case.
+     * A full word match is required, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     * @param word the word to be searched for.
+     * @return an unmodifiable view of the matching names.
+     */
+    public Set<Name> getNamesWithWord(String word) {
+        requireNonNull(word);
+        Set<Name> names = nameWordIndex.get(StringUtil.foldCase(word.trim()));
+        return names == null ? Collections.emptySet() : Collections.unmodifiableSet(names);
+    }
+
+    /**
+     * Returns the names of the persons in the list with a word starting with {@code prefix}, ignoring case.
+     * The names are ordered by their first matching word and then alphabetically.
+     * @param prefix the start of the word to be searched for.
+     * @param limit the maximum number of names to be returned.
+     * @return the matching names, at most {@code limit} of them.
+     */
+    public List<Name> getNamesWithWordPrefix(String prefix, int limit) {
+        requireNonNull(prefix);
+        String foldedPrefix = StringUtil.foldCase(prefix.trim());
+        Set<Name> matchingNames = new HashSet<>();
+        List<Name> orderedNames = new ArrayList<>();
+        for (Map.Entry<String, Set<Name>> entry : nameWordIndex.tailMap(foldedPrefix, true).entrySet()) {
+            if (orderedNames.size() >= limit || !entry.getKey().startsWith(foldedPrefix)) {
+                break;
+            }
+            List<Name> namesWithWord = new ArrayList<>(entry.getValue());
+            namesWithWord.sort(Comparator.comparing(name -> name.fullName));
+            for (Name name : namesWithWord) {
+                if (orderedNames.size() < limit && matchingNames.add(name)) {
+                    orderedNames.add(name);
+                }
+            }
+        }
+        return orderedNames;
+    }
+
+    /**
+     * Adds a person to the list, with a new id unless it has an id that is not used in the list.
      * The person must not already exist in the list.
      * @param toAdd the person to be added.
      */
@@ -48,57 +160,59 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        Person added = hasFreeId(toAdd) ? toAdd : toAdd.withId(nextId);
+        positionsById.put(added.getId(), internalList.size());
+        internalList.add(added);
+        index(added);
     }
 
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
      * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     * The edited person is stored with the id of the target.
      * @param target the person to be replaced.
      * @param editedPerson the new person to replace the target.
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = positionOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        if (containsOtherThan(editedPerson, target)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-    }
-
-    /**
-     * Increases the number of tasks by one.
-     * @param person the person to increment the number of tasks.
-     */
-    public void increaseNumOfTasks(Person person) {
-        requireNonNull(person);
-
-        Person updatedPerson = new Person(person.getName(), person.getPhone(),
-                person.getEmail(), person.getNumOfTasks());
-        updatedPerson.increaseTaskCount();
-
-        setPerson(person, updatedPerson);
+        Person replaced = internalList.get(index);
+        Person edited = editedPerson.withId(replaced.getId());
+        unindex(replaced);
+        internalList.set(index, edited);
+        index(edited);
     }
 
     /**
-     * Decreases the number of tasks by one.
-     * @param person the person to decrement the number of tasks.
+     * Updates the number of tasks shown for the person in the list equal to {@code person}.
+     * Nothing is changed if the person is not in the list or already has {@code numOfTasks} tasks.
+     * @param person the person whose number of tasks is to be updated.
+     * @param numOfTasks the number of tasks assigned to the person.
      */
-    public void decreaseNumOfTasks(Person person) {
+    public void setNumOfTasks(Person person, int numOfTasks) {
         requireNonNull(person);
 
-        Person updatedPerson = new Person(person.getName(), person.getPhone(),
-                person.getEmail(), person.getNumOfTasks());
-        updatedPerson.decreaseTaskCount();
+        int index = positionOf(person);
+        if (index == -1 || internalList.get(index).getNumOfTasks() == numOfTasks) {
+            return;
+        }
 
-        setPerson(person, updatedPerson);
+        Person replaced = internalList.get(index);
+        Person updatedPerson = new Person(replaced.getId(), replaced.getName(), replaced.getPhone(),
+                replaced.getEmail(), numOfTasks);
+        unindex(replaced);
+        internalList.set(index, updatedPerson);
+        index(updatedPerson);
     }
 
     /**
@@ -108,9 +222,17 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = positionOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        Person removed = internalList.remove(index);
+        unindex(removed);
+        positionsById.remove(removed.getId());
+        // The persons after the removed person move up by one
+        for (int i = index; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
     }
 
     /**
@@ -120,20 +242,53 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        reindex(internalList);
+        indexPositions();
+        nextId = replacement.nextId;
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * The persons keep their ids, except those without an id or with the id of an earlier person in the list,
+     * which are given new ids.
      * @param persons the list to replace the old list.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        // Checks that the persons are unique while indexing them, which takes linear time
+        reindex(List.of());
+        List<Person> personsWithoutIds = new ArrayList<>();
+        for (Person person : persons) {
+            if (contains(person)) {
+                reindex(internalList);
+                throw new DuplicatePersonException();
+            }
+            if (hasFreeId(person)) {
+                index(person);
+            } else {
+                personsWithoutIds.add(person);
+                indexIdentity(person);
+            }
         }
 
-        internalList.setAll(persons);
+        if (personsWithoutIds.isEmpty()) {
+            internalList.setAll(persons);
+            indexPositions();
+            return;
+        }
+
+        // The persons without ids are given ids after those with ids, so that no id has to be changed again
+        List<Person> personsWithIds = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            if (personsById.get(person.getId()) != person) {
+                person = person.withId(nextId);
+                index(person);
+            }
+            personsWithIds.add(person);
+        }
+        internalList.setAll(personsWithIds);
+        indexPositions();
     }
 
     /**
@@ -170,14 +325,74 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.hashCode();
     }
 
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
+    /**
+     * Returns the position in the list of the person equal to {@code person}, or -1 if there is no such person.
+     * As names are unique in the list, only the person with the same name has to be compared.
+     */
+    private int positionOf(Person person) {
+        Person personWithName = personsByName.get(person.getName());
+        if (personWithName == null || !personWithName.equals(person)) {
+            return -1;
+        }
+        return positionsById.get(personWithName.getId());
+    }
+
+    private void indexPositions() {
+        positionsById.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positionsById.put(internalList.get(i).getId(), i);
+        }
+    }
+
+    private boolean hasFreeId(Person person) {
+        return person.hasId() && !personsById.containsKey(person.getId());
+    }
+
+    /**
+     * Indexes {@code person}, which must have a free id, and moves the next id past it.
+     */
+    private void index(Person person) {
+        personsById.put(person.getId(), person);
+        nextId = Math.max(nextId, person.getId() + 1);
+        indexIdentity(person);
+    }
+
+    private void indexIdentity(Person person) {
+        personsByName.put(person.getName(), person);
+        personsByPhone.put(person.getPhone(), person);
+        personsByEmail.put(person.getEmail(), person);
+        for (String word : person.getName().fullName.split("\\s+")) {
+            nameWordIndex.computeIfAbsent(StringUtil.foldCase(word), unused -> new HashSet<>()).add(person.getName());
+        }
+    }
+
+    private void reindex(List<Person> persons) {
+        personsById.clear();
+        personsByName.clear();
+        personsByPhone.clear();
+        personsByEmail.clear();
+        nameWordIndex.clear();
+        persons.forEach(this::index);
+    }
+
+    private void unindex(Person person) {
+        personsById.remove(person.getId());
+        personsByName.remove(person.getName());
+        personsByPhone.remove(person.getPhone());
+        personsByEmail.remove(person.getEmail());
+        for (String word : person.getName().fullName.split("\\s+")) {
+            String foldedWord = StringUtil.foldCase(word);
+            Set<Name> names = nameWordIndex.get(foldedWord);
+            if (names != null) {
+                names.remove(person.getName());
+                if (names.isEmpty()) {
+                    nameWordIndex.remove(foldedWord);
                 }
             }
         }
-        return true;
+    }
+
+    private static boolean isOtherThan(Person person, Person excluded) {
+        return person != null && !person.equals(excluded);
     }
 }
@@ -0,0 +1,122 @@
+package manageezpz.model.task;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable set of the ids of the persons assigned to a task, in the order they were assigned.
+ *
+ * Adding or removing an id returns a new set and leaves this one unchanged, so a set can be shared by every
+ * version of a task that has the same assignees. Adding an id that is already in the set, or removing one that is
+ * not, returns the same set.
+ */
+public final class Assignees {
+    public static final Assignees EMPTY = new Assignees(new int[0]);
+
+    private final int[] ids;
+    private final int hash;
+
+    private Assignees(int[] ids) {
+        this.ids = ids;
+        this.hash = Arrays.hashCode(ids);
+    }
+
+    /**
+     * Returns a set of the distinct ids in {@code ids}, in the order they first appear.
+     */
+    public static Assignees of(int... ids) {
+        Assignees assignees = EMPTY;
+        for (int id : ids) {
+            assignees = assignees.with(id);
+        }
+        return assignees;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public boolean isEmpty() {
+        return ids.length == 0;
+    }
+
+    /**
+     * Returns the id at {@code position} in the order the ids were added.
+     */
+    public int get(int position) {
+        return ids[position];
+    }
+
+    /**
+     * Checks whether {@code id} is in this set.
+     */
+    public boolean contains(int id) {
+        for (int assigneeId : ids) {
+            if (assigneeId == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns this set with {@code id} added after the existing ids.
+     */
+    public Assignees with(int id) {
+        if (contains(id)) {
+            return this;
+        }
+        int[] newIds = Arrays.copyOf(ids, ids.length + 1);
+        newIds[ids.length] = id;
+        return new Assignees(newIds);
+    }
+
+    /**
+     * Returns this set without {@code id}.
+     */
+    public Assignees without(int id) {
+        if (!contains(id)) {
+            return this;
+        }
+        if (ids.length == 1) {
+            return EMPTY;
+        }
+        int[] newIds = new int[ids.length - 1];
+        int size = 0;
+        for (int assigneeId : ids) {
+            if (assigneeId != id) {
+                newIds[size++] = assigneeId;
+            }
+        }
+        return new Assignees(newIds);
+    }
+
+    /**
+     * Returns the ids in this set as a new array.
+     */
+    public int[] toArray() {
+        return ids.clone();
+    }
+
+    public IntStream stream() {
+        return Arrays.stream(ids);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Assignees // instanceof handles nulls
+                && hash == ((Assignees) other).hash
+                && Arrays.equals(ids, ((Assignees) other).ids)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(ids);
+    }
+}
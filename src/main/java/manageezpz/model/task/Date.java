@@ -3,20 +3,31 @@ package manageezpz.model.task;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.AppUtil.checkArgument;
 
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
+import manageezpz.commons.util.StringUtil;
 
-public class Date {
+/**
+ * Represents the date of a deadline or event, in the format yyyy-MM-dd.
+ * The date is parsed once when constructed, so that comparing and displaying dates does not parse it again.
+ */
+public class Date implements Comparable<Date> {
     public static final String MESSAGE_CONSTRAINTS = "Date should be in the format of yyyy-MM-dd.\n"
             + "Year should be greater then 0000, Month should only be between 1 and 12 "
             + "and Day should only be between 1 and 31.";
 
     public static final String VALIDATION_REGEX = "(?!0000)\\d{4}\\D\\d{2}\\D\\d{2}";
 
-    private String date;
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("MMM dd yyyy");
+
+    private final String date;
+    private final LocalDate parsedDate;
+    private final long epochDay;
+    private String displayDate;
 
     /**
      * Constructs a {@code Date}.
@@ -26,6 +37,9 @@ public class Date {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_CONSTRAINTS);
         this.date = date;
+        this.parsedDate = LocalDate.of(StringUtil.parseAsciiDigits(date, 0, 4),
+                StringUtil.parseAsciiDigits(date, 5, 7), StringUtil.parseAsciiDigits(date, 8, 10));
+        this.epochDay = parsedDate.toEpochDay();
     }
 
     public String getDate() {
@@ -33,11 +47,27 @@ public class Date {
     }
 
     public LocalDate getParsedDate() {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("yyyy-MM-dd");
-        LocalDate parsedDate = LocalDate.parse(date, dtf);
         return parsedDate;
     }
 
+    /**
+     * Returns the number of days from 1970-01-01 to this date.
+     */
+    public long getEpochDay() {
+        return epochDay;
+    }
+
+    /**
+     * Returns the date as it is displayed to the user, e.g. Apr 01 2022.
+     * @return the formatted date.
+     */
+    public String getDisplayDate() {
+        if (displayDate == null) {
+            displayDate = parsedDate.format(DISPLAY_FORMATTER);
+        }
+        return displayDate;
+    }
+
     public static Date getTodayDate() {
         LocalDate todayDate = LocalDate.now();
         return new Date(todayDate.toString());
@@ -49,7 +79,16 @@ public class Date {
      * @return true if the date is valid, false otherwise.
      */
     public static boolean isValidDate(String date) {
-        return date.matches(VALIDATION_REGEX) && validCheckDate(date);
+        // Equivalent to matching VALIDATION_REGEX and then parsing the date with LocalDate#parse, which only accepts
+        // '-' as the separator, but without compiling the regex or throwing an exception for invalid dates
+        if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+            return false;
+        }
+        int year = StringUtil.parseAsciiDigits(date, 0, 4);
+        int month = StringUtil.parseAsciiDigits(date, 5, 7);
+        int day = StringUtil.parseAsciiDigits(date, 8, 10);
+        return year > 0 && month >= 1 && month <= 12
+                && day >= 1 && day <= Month.of(month).length(Year.isLeap(year));
     }
 
     /**
@@ -58,13 +97,14 @@ public class Date {
      * @return true if date is in the correct parsable format, false otherwise.
      * */
     public static boolean validCheckDate(String date) {
-        SimpleDateFormat sdfrmt = new SimpleDateFormat("yyyy-MM-dd");
-        sdfrmt.setLenient(false);
+        return parseOrNull(date) != null;
+    }
+
+    private static LocalDate parseOrNull(String date) {
         try {
-            LocalDate.parse(date);
-            return true;
+            return LocalDate.parse(date);
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
     }
 
@@ -74,7 +114,15 @@ public class Date {
      * @return the formatted date.
      */
     public String format(DateTimeFormatter dtf) {
-        return getParsedDate().format(dtf);
+        return parsedDate.format(dtf);
+    }
+
+    /**
+     * Compares the dates by the days since the epoch.
+     */
+    @Override
+    public int compareTo(Date other) {
+        return Long.compare(epochDay, other.epochDay);
     }
 
     /**
@@ -88,4 +136,12 @@ public class Date {
             return false;
         }
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return date.hashCode();
+    }
 }
@@ -1,15 +1,16 @@
 package manageezpz.model.task;
 
-import java.time.format.DateTimeFormatter;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class that represents a Deadline task.
  */
 public class Deadline extends Task {
-    protected String type;
-    protected Description description;
-    private Date date;
-    private Time time;
+    protected final String type;
+    protected final Description description;
+    private final Date date;
+    private final Time time;
+    private String dateTime;
 
     /**
      * Constructor to initialize an instance of Deadline class with task
@@ -33,13 +34,33 @@ public class Deadline extends Task {
      * @param deadline Deadline task.
      */
     public Deadline(Deadline deadline) {
-        this.type = deadline.getType();
-        this.description = deadline.getDescription();
-        this.date = deadline.getDate();
-        this.time = deadline.getTime();
-        this.isDone = deadline.isDone();
-        this.priority = deadline.getPriority();
-        this.assignees = deadline.getAssignees();
+        this(deadline.getDescription(), deadline.getDate(), deadline.getTime(), deadline.isDone(),
+                deadline.getPriority(), deadline.getAssignees());
+    }
+
+    /**
+     * Constructor to initialize an instance of Deadline class with task
+     * description, date, time, status, priority and assignees.
+     *
+     * @param taskDescription Description of the task.
+     * @param date Date by which the Deadline task needs to be completed.
+     * @param time Time by which the Deadline task needs to be completed.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assignees Ids of the persons assigned to the task.
+     */
+    public Deadline(Description taskDescription, Date date, Time time, boolean isDone, Priority priority,
+                    Assignees assignees) {
+        super(isDone, priority, assignees);
+        this.type = "deadline";
+        this.description = taskDescription;
+        this.date = date;
+        this.time = time;
+    }
+
+    @Override
+    protected Deadline with(boolean isDone, Priority priority, Assignees assignees) {
+        return new Deadline(description, date, time, isDone, priority, assignees);
     }
 
     public Date getDate() {
@@ -50,16 +71,43 @@ public class Deadline extends Task {
         return this.time;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
+    /**
+     * Returns this Deadline task with the given description.
+     *
+     * @param description Description of the returned task.
+     * @return The Deadline task with the given description.
+     */
+    public Deadline withDescription(Description description) {
+        requireNonNull(description);
+        return description.equals(this.description)
+                ? this
+                : new Deadline(description, date, time, isDone(), getPriority(), getAssignees());
     }
 
-    public void setDate(Date date) {
-        this.date = date;
+    /**
+     * Returns this Deadline task with the given date.
+     *
+     * @param date Date by which the returned task needs to be completed.
+     * @return The Deadline task with the given date.
+     */
+    public Deadline withDate(Date date) {
+        requireNonNull(date);
+        return date.equals(this.date)
+                ? this
+                : new Deadline(description, date, time, isDone(), getPriority(), getAssignees());
     }
 
-    public void setTime(Time time) {
-        this.time = time;
+    /**
+     * Returns this Deadline task with the given time.
+     *
+     * @param time Time by which the returned task needs to be completed.
+     * @return The Deadline task with the given time.
+     */
+    public Deadline withTime(Time time) {
+        requireNonNull(time);
+        return time.equals(this.time)
+                ? this
+                : new Deadline(description, date, time, isDone(), getPriority(), getAssignees());
     }
 
     @Override
@@ -74,8 +122,11 @@ public class Deadline extends Task {
 
     @Override
     public String getDateTime() {
-        return "by " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + time.format(DateTimeFormatter.ofPattern("h:mm a"));
+        // Cached as the task list renders it every time the card of the deadline is shown
+        if (dateTime == null) {
+            dateTime = "by " + date.getDisplayDate() + " " + time.getDisplayTime();
+        }
+        return dateTime;
     }
 
     /**
@@ -87,7 +138,6 @@ public class Deadline extends Task {
     @Override
     public String toString() {
         return "[D]" + super.toString() + getDescription()
-                + " (by: " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + time.format(DateTimeFormatter.ofPattern("h:mm a")) + ")";
+                + " (by: " + date.getDisplayDate() + " " + time.getDisplayTime() + ")";
     }
 }
@@ -1,16 +1,17 @@
 package manageezpz.model.task;
 
-import java.time.format.DateTimeFormatter;
+import static java.util.Objects.requireNonNull;
 
 /**
  * A class that represents an Event task.
  */
 public class Event extends Task {
-    protected String type;
-    protected Description description;
-    private Date date;
-    private Time startTime;
-    private Time endTime;
+    protected final String type;
+    protected final Description description;
+    private final Date date;
+    private final Time startTime;
+    private final Time endTime;
+    private String dateTime;
 
     /**
      * Constructor to initialize an instance of Event class with task
@@ -36,14 +37,35 @@ public class Event extends Task {
      * @param event Event task
      */
     public Event(Event event) {
-        this.type = event.getType();
-        this.description = event.getDescription();
-        this.date = event.getDate();
-        this.startTime = event.getStartTime();
-        this.endTime = event.getEndTime();
-        this.isDone = event.isDone();
-        this.priority = event.getPriority();
-        this.assignees = event.getAssignees();
+        this(event.getDescription(), event.getDate(), event.getStartTime(), event.getEndTime(), event.isDone(),
+                event.getPriority(), event.getAssignees());
+    }
+
+    /**
+     * Constructor to initialize an instance of Event class with task
+     * description, date, start time, end time, status, priority and assignees.
+     *
+     * @param taskDescription Description of the task.
+     * @param date Date at which the Event task is taking place.
+     * @param startTime Start time of the Event task.
+     * @param endTime End time of the Event task.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assignees Ids of the persons assigned to the task.
+     */
+    public Event(Description taskDescription, Date date, Time startTime, Time endTime, boolean isDone,
+                 Priority priority, Assignees assignees) {
+        super(isDone, priority, assignees);
+        this.type = "event";
+        this.description = taskDescription;
+        this.date = date;
+        this.startTime = startTime;
+        this.endTime = endTime;
+    }
+
+    @Override
+    protected Event with(boolean isDone, Priority priority, Assignees assignees) {
+        return new Event(description, date, startTime, endTime, isDone, priority, assignees);
     }
 
     public Date getDate() {
@@ -68,27 +90,55 @@ public class Event extends Task {
         return this.description;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
-    }
-
-    public void setDate(Date date) {
-        this.date = date;
+    /**
+     * Returns this Event task with the given description.
+     *
+     * @param description Description of the returned task.
+     * @return The Event task with the given description.
+     */
+    public Event withDescription(Description description) {
+        requireNonNull(description);
+        return description.equals(this.description)
+                ? this
+                : new Event(description, date, startTime, endTime, isDone(), getPriority(), getAssignees());
     }
 
-    public void setStartTime(Time startTime) {
-        this.startTime = startTime;
+    /**
+     * Returns this Event task with the given date.
+     *
+     * @param date Date at which the returned task is taking place.
+     * @return The Event task with the given date.
+     */
+    public Event withDate(Date date) {
+        requireNonNull(date);
+        return date.equals(this.date)
+                ? this
+                : new Event(description, date, startTime, endTime, isDone(), getPriority(), getAssignees());
     }
 
-    public void setEndTime(Time endTime) {
-        this.endTime = endTime;
+    /**
+     * Returns this Event task with the given start and end time.
+     *
+     * @param startTime Start time of the returned task.
+     * @param endTime End time of the returned task.
+     * @return The Event task with the given start and end time.
+     */
+    public Event withTimes(Time startTime, Time endTime) {
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        return startTime.equals(this.startTime) && endTime.equals(this.endTime)
+                ? this
+                : new Event(description, date, startTime, endTime, isDone(), getPriority(), getAssignees());
     }
 
     @Override
     public String getDateTime() {
-        return "at " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + startTime.format(DateTimeFormatter.ofPattern("h:mm a")) + " to"
-                + " " + endTime.format(DateTimeFormatter.ofPattern("h:mm a"));
+        // Cached as the task list renders it every time the card of the event is shown
+        if (dateTime == null) {
+            dateTime = "at " + date.getDisplayDate() + " " + startTime.getDisplayTime() + " to "
+                    + endTime.getDisplayTime();
+        }
+        return dateTime;
     }
 
     /**
@@ -100,8 +150,7 @@ public class Event extends Task {
     @Override
     public String toString() {
         return "[E]" + super.toString() + getDescription()
-                + " (at: " + date.format(DateTimeFormatter.ofPattern("MMM dd yyyy"))
-                + " " + startTime.format(DateTimeFormatter.ofPattern("h:mm a")) + " to"
-                + " " + endTime.format(DateTimeFormatter.ofPattern("h:mm a")) + ")";
+                + " (at: " + date.getDisplayDate() + " " + startTime.getDisplayTime() + " to "
+                + endTime.getDisplayTime() + ")";
     }
 }
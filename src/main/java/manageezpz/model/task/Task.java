@@ -1,32 +1,51 @@
 package manageezpz.model.task;
 
-import java.util.ArrayList;
-import java.util.List;
+import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
-import manageezpz.model.person.Person;
+import java.util.Objects;
 
 /**
  * An abstract class that represents the tasks a user could create.
  * A <code> Task </code> object would correspond to a task inputted
  * by a user, either a Todo, Deadline or Event.
+ *
+ * Tasks are immutable. Each {@code withX} method returns a task of the same type that differs from this one only in
+ * the given field, and shares all other fields with it, or returns this task if the field would not change.
+ *
+ * The assignees of a task are kept as the ids of the persons in the address book, in the order they were assigned.
  */
 public abstract class Task {
-    protected boolean isDone = false;
-    protected Priority priority = Priority.NONE;
 
-    // Data fields
-    protected List<Person> assignees = new ArrayList<>();
+    private final boolean isDone;
+    private final Priority priority;
+    private final Assignees assignees;
+
+    // Cached as tasks are kept in hash-based indexes, 0 if not computed yet
+    private int hash;
 
     /**
-     * Constructor to initialize an instance of Task class.
-     *
-     * {@code Date taskDate} has a default value that will be changed if the
-     * object inheriting the Task object is a Deadline or Event object.
-     *
+     * Constructor to initialize an instance of Task class that is not done, has no priority and no assignees.
      */
     public Task() {
+        this(false, Priority.NONE, Assignees.EMPTY);
+    }
+
+    /**
+     * Constructor to initialize an instance of Task class with the given status, priority and assignees.
+     */
+    protected Task(boolean isDone, Priority priority, Assignees assignees) {
+        requireAllNonNull(priority, assignees);
+        this.isDone = isDone;
+        this.priority = priority;
+        this.assignees = assignees;
     }
 
+    /**
+     * Returns a task of the same type and with the same other fields as this task, but with the given status,
+     * priority and assignees.
+     */
+    protected abstract Task with(boolean isDone, Priority priority, Assignees assignees);
+
     /**
      * Checks if the task is done or not.
      * @return true if task is done, false otherwise.
@@ -49,81 +68,89 @@ public abstract class Task {
         return this.priority;
     }
 
-    public List<Person> getAssignees() {
-        return this.assignees;
-    }
-
-    public void setTaskDone() {
-        this.isDone = true;
+    public Assignees getAssignees() {
+        return assignees;
     }
 
-    public void setTaskNotDone() {
-        this.isDone = false;
+    /**
+     * Returns the ids of the persons assigned to this task, in the order they were assigned.
+     * @return a new array of the ids.
+     */
+    public int[] getAssigneeIds() {
+        return assignees.toArray();
     }
 
-    public void setPriority(String priority) {
-        this.priority = Priority.valueOf(priority);
+    public boolean hasAssignees() {
+        return !assignees.isEmpty();
     }
 
-    public void setPriority(Priority priority) {
-        this.priority = priority;
+    /**
+     * Returns this task marked as done or not done.
+     * @param isDone whether the returned task is done.
+     * @return the task with the given status.
+     */
+    public Task withDone(boolean isDone) {
+        return isDone == this.isDone ? this : with(isDone, priority, assignees);
     }
 
     /**
-     * Adds a Person to the Task List.
-     * @param person the person to be added.
+     * Returns this task with the given priority.
+     * @param priority the priority of the returned task.
+     * @return the task with the given priority.
      */
-    public void addAssignees(Person person) {
-        this.assignees.add(person);
+    public Task withPriority(Priority priority) {
+        return priority == this.priority ? this : with(isDone, priority, assignees);
     }
 
     /**
-     * Checks if both Task have the same Description.
-     * @param otherTask the task to be checked against.
-     * @return true if both task are the same, false otherwise.
+     * Returns this task with the given assignees.
+     * @param assignees the assignees of the returned task.
+     * @return the task with the given assignees.
      */
-    public boolean isSameTask(Task otherTask) {
-        if (otherTask == this) {
-            return true;
-        }
-
-        return otherTask != null
-                && otherTask.getDescription().equals(getDescription());
+    public Task withAssignees(Assignees assignees) {
+        return assignees == this.assignees ? this : with(isDone, priority, assignees);
     }
 
     /**
-     * Used to assign a person to this Task.
-     * @param person the person to be assigned.
+     * Returns this task with a person assigned to it.
+     * The same task is returned if the person is already assigned.
+     * @param personId the id of the person to be assigned.
+     * @return the task with the person assigned.
      */
-    public void assignedTo(Person person) {
-        assignees.add(person);
+    public Task withAssignee(int personId) {
+        return withAssignees(assignees.with(personId));
     }
 
     /**
-     * Used to assign a new person to the specific index in the assignee list.
-     * @param index the index specified to the assignee list.
-     * @param newPerson the new person to be placed into the assignee list.
+     * Returns this task with a person deallocated from it.
+     * @param personId the id of the person to be deallocated.
+     * @return the task without the person.
      */
-    public void assignedTo(int index, Person newPerson) {
-        assignees.set(index, newPerson);
+    public Task withoutAssignee(int personId) {
+        return withAssignees(assignees.without(personId));
     }
 
     /**
-     * Used to deallocate a person from this Task.
-     * @param person The person to be deallocated.
+     * Checks if both Task have the same Description.
+     * @param otherTask the task to be checked against.
+     * @return true if both task are the same, false otherwise.
      */
-    public void removeAssigned(Person person) {
-        assignees.remove(person);
+    public boolean isSameTask(Task otherTask) {
+        if (otherTask == this) {
+            return true;
+        }
+
+        return otherTask != null
+                && otherTask.getDescription().equals(getDescription());
     }
 
     /**
-     * Checks whether the assignee is assigned to the task.
-     * @param assignee The assignee to be searched
-     * @return true if the assignee is assigned, false otherwise
+     * Checks whether the person is assigned to the task.
+     * @param personId the id of the person to be searched.
+     * @return true if the person is assigned, false otherwise.
      */
-    public boolean haveAssignees(String assignee) {
-        return assignees.stream()
-                .anyMatch(person -> person.getName().fullName.equals(assignee));
+    public boolean isAssignedTo(int personId) {
+        return assignees.contains(personId);
     }
 
     /**
@@ -152,4 +179,17 @@ public abstract class Task {
                 && otherTask.getStatusIcon().equals(getStatusIcon());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(getDescription(), isDone);
+            hash = h;
+        }
+        return h;
+    }
+
 }
@@ -1,25 +1,48 @@
 package manageezpz.model.task;
 
+import static java.util.Objects.requireNonNull;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_ASSIGNEES;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import manageezpz.commons.util.StringUtil;
 import manageezpz.logic.parser.Prefix;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
 
 /**
  * The predicate to search tasks based on the properties given.
  */
 public class TaskMultiplePredicate implements Predicate<Task> {
+    private static final String DATE_RANGE_SEPARATOR = "..";
+
     private final Prefix taskType;
     private final List<String> descriptions;
-    private final Date date;
+    private final Date startDate;
+    private final Date endDate;
     private final Priority priority;
     private final String assignee;
     private final Boolean isMarked;
+    private final int assigneeId;
+
+    /**
+     * The search options of the predicate, which a {@link TaskQueryPlan} evaluates one at a time.
+     */
+    enum Clause {
+        TYPE, KEYWORDS, DATE, PRIORITY, ASSIGNEE, MARKED
+    }
 
     /**
      * The constructor for predicate.
@@ -32,33 +55,193 @@ public class TaskMultiplePredicate implements Predicate<Task> {
      */
     public TaskMultiplePredicate(Prefix taskType, List<String> descriptions, Date date, Priority priority,
                                  String assignee, Boolean isMarked) {
+        this(taskType, descriptions, date, date, priority, assignee, isMarked);
+    }
+
+    /**
+     * The constructor for predicate that searches deadlines and events in a range of dates.
+     * @param taskType The task type to search
+     * @param descriptions The description to search
+     * @param startDate The earliest date of either the deadline or event, or null if there is no earliest date
+     * @param endDate The latest date of either the deadline or event, or null if there is no latest date
+     * @param priority The priority of the task
+     * @param assignee The employees assigned to the tasks
+     * @param isMarked Whether the task is marked
+     */
+    public TaskMultiplePredicate(Prefix taskType, List<String> descriptions, Date startDate, Date endDate,
+                                 Priority priority, String assignee, Boolean isMarked) {
         this.taskType = taskType;
         this.descriptions = descriptions;
-        this.date = date;
+        this.startDate = startDate;
+        this.endDate = endDate;
         this.priority = priority;
         this.assignee = assignee;
         this.isMarked = isMarked;
+        this.assigneeId = Person.UNASSIGNED_ID;
 
-        boolean isAtLeastOneNotNull = (this.taskType != null) || (this.descriptions != null) || (this.date != null)
+        boolean isAtLeastOneNotNull = (this.taskType != null) || (this.descriptions != null)
+                || (this.startDate != null) || (this.endDate != null)
                 || (this.priority != null) || (this.assignee != null) || (this.isMarked != null);
         assert isAtLeastOneNotNull : "At least one search option should be specified";
     }
 
+    /**
+     * Copies the search options of {@code source}, checking the assignee by {@code assigneeId}.
+     */
+    private TaskMultiplePredicate(TaskMultiplePredicate source, int assigneeId) {
+        this.taskType = source.taskType;
+        this.descriptions = source.descriptions;
+        this.startDate = source.startDate;
+        this.endDate = source.endDate;
+        this.priority = source.priority;
+        this.assignee = source.assignee;
+        this.isMarked = source.isMarked;
+        this.assigneeId = assigneeId;
+    }
+
+    /**
+     * Returns a copy of this predicate that checks the assignee by the id of the person named by the search,
+     * as tasks refer to their assignees by id. No task matches if no person has the name.
+     * Until the id is looked up, no task matches the assignee option.
+     * @param personLookup the lookup that returns the person with a given name, if any.
+     * @return the predicate using the id of the assignee.
+     */
+    public TaskMultiplePredicate withAssigneeLookup(Function<Name, Optional<Person>> personLookup) {
+        requireNonNull(personLookup);
+        if (assignee == null) {
+            return this;
+        }
+
+        int id = Name.isValidName(assignee)
+                ? personLookup.apply(new Name(assignee)).map(Person::getId).orElse(Person.UNASSIGNED_ID)
+                : Person.UNASSIGNED_ID;
+        return new TaskMultiplePredicate(this, id);
+    }
+
+    Class<? extends Task> getTaskClass() {
+        if (taskType == null) {
+            return null;
+        } else if (taskType.equals(PREFIX_TODO)) {
+            return Todo.class;
+        } else if (taskType.equals(PREFIX_DEADLINE)) {
+            return Deadline.class;
+        } else {
+            return Event.class;
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date == null ? null : date.getParsedDate();
+    }
+
+    List<String> getDescriptions() {
+        return descriptions;
+    }
+
+    LocalDate getStartDate() {
+        return toLocalDate(startDate);
+    }
+
+    LocalDate getEndDate() {
+        return toLocalDate(endDate);
+    }
+
+    Priority getPriority() {
+        return priority;
+    }
+
+    int getAssigneeId() {
+        return assigneeId;
+    }
+
+    Boolean getIsMarked() {
+        return isMarked;
+    }
+
+    /**
+     * Returns the search options that are specified, in the order that {@link #test(Task)} checks them.
+     */
+    List<Clause> getClauses() {
+        List<Clause> clauses = new ArrayList<>();
+        if (taskType != null) {
+            clauses.add(Clause.TYPE);
+        }
+        if (descriptions != null) {
+            clauses.add(Clause.KEYWORDS);
+        }
+        if (startDate != null || endDate != null) {
+            clauses.add(Clause.DATE);
+        }
+        if (priority != null) {
+            clauses.add(Clause.PRIORITY);
+        }
+        if (assignee != null) {
+            clauses.add(Clause.ASSIGNEE);
+        }
+        if (isMarked != null) {
+            clauses.add(Clause.MARKED);
+        }
+        return clauses;
+    }
+
+    /**
+     * Returns true if {@code task} matches the given search option, which must be specified.
+     */
+    boolean testClause(Clause clause, Task task) {
+        switch (clause) {
+        case TYPE:
+            return checkIfHasSpecificTaskType(task);
+        case KEYWORDS:
+            return checkIfHasKeywords(task);
+        case DATE:
+            return checkIfHasDate(task);
+        case PRIORITY:
+            return checkIfHasPriority(task);
+        case ASSIGNEE:
+            return checkIfHasAssignee(task);
+        default:
+            return checkedIfIsMarked(task);
+        }
+    }
+
+    /**
+     * Returns the given search option as it would be entered in the find task command.
+     */
+    String describeClause(Clause clause) {
+        switch (clause) {
+        case TYPE:
+            return taskType.getPrefix();
+        case KEYWORDS:
+            return PREFIX_DESCRIPTION.getPrefix() + String.join(" ", descriptions);
+        case DATE:
+            String dates = startDate != null && startDate.equals(endDate)
+                    ? startDate.getParsedDate().toString()
+                    : (startDate == null ? "" : startDate.getParsedDate().toString()) + DATE_RANGE_SEPARATOR
+                            + (endDate == null ? "" : endDate.getParsedDate().toString());
+            return PREFIX_DATE.getPrefix() + dates;
+        case PRIORITY:
+            return PREFIX_PRIORITY.getPrefix() + priority;
+        case ASSIGNEE:
+            return PREFIX_ASSIGNEES.getPrefix() + assignee;
+        default:
+            return PREFIX_IS_MARKED.getPrefix() + isMarked;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean test(Task task) {
-        // Checks if the specific search term is specified in the parameter, then check on the task provided.
-        // Defaults to true if not specified.
-        boolean hasTaskType = taskType != null ? checkIfHasSpecificTaskType(task) : true;
-        boolean hasKeyword = descriptions != null ? checkIfHasKeywords(task) : true;
-        boolean hasDate = date != null ? checkIfHasDate(task) : true;
-        boolean hasPriority = priority != null ? checkIfHasPriority(task) : true;
-        boolean hasAssignee = assignee != null ? checkIfHasAssignee(task) : true;
-        boolean hasIsMarked = isMarked != null ? checkedIfIsMarked(task) : true;
-
-        return hasTaskType && hasKeyword && hasDate && hasPriority && hasAssignee && hasIsMarked;
+        // Checks each search term that is specified in the parameter on the task provided, stopping at the first
+        // one that does not match. The cheap field comparisons are checked before the date and the assignee, and
+        // the keywords, which split the description, are checked last.
+        return (isMarked == null || checkedIfIsMarked(task))
+                && (taskType == null || checkIfHasSpecificTaskType(task))
+                && (priority == null || checkIfHasPriority(task))
+                && (startDate == null && endDate == null || checkIfHasDate(task))
+                && (assignee == null || checkIfHasAssignee(task))
+                && (descriptions == null || checkIfHasKeywords(task));
     }
 
     private boolean checkIfHasSpecificTaskType(Task task) {
@@ -78,9 +261,14 @@ public class TaskMultiplePredicate implements Predicate<Task> {
     private boolean checkIfHasDate(Task task) {
         if (task instanceof Todo) {
             return false;
+        } else if (startDate != null && startDate.equals(endDate)) {
+            Date taskDate = getDateFromTask(task);
+            return taskDate.equals(startDate);
         } else {
             Date taskDate = getDateFromTask(task);
-            return taskDate.equals(date);
+            boolean isAfterStart = startDate == null || taskDate.compareTo(startDate) >= 0;
+            boolean isBeforeEnd = endDate == null || taskDate.compareTo(endDate) <= 0;
+            return isAfterStart && isBeforeEnd;
         }
     }
 
@@ -100,11 +288,11 @@ public class TaskMultiplePredicate implements Predicate<Task> {
     }
 
     private boolean checkIfHasAssignee(Task task) {
-        return task.haveAssignees(assignee);
+        return task.isAssignedTo(assigneeId);
     }
 
     private boolean checkedIfIsMarked(Task task) {
-        return task.isDone == isMarked.booleanValue();
+        return task.isDone() == isMarked.booleanValue();
     }
 
     /**
@@ -118,7 +306,7 @@ public class TaskMultiplePredicate implements Predicate<Task> {
             TaskMultiplePredicate pre = (TaskMultiplePredicate) obj;
             boolean isSameTaskType = isSameOption(taskType, pre.taskType);
             boolean isSameDescription = isSameOption(descriptions, pre.descriptions);
-            boolean isSameDate = isSameOption(date, pre.date);
+            boolean isSameDate = isSameOption(startDate, pre.startDate) && isSameOption(endDate, pre.endDate);
             boolean isSamePriority = isSameOption(priority, pre.priority);
             boolean isSameAssignee = isSameOption(assignee, pre.assignee);
             boolean isSameIsMarked = isSameOption(isMarked, pre.isMarked);
@@ -0,0 +1,103 @@
+package manageezpz.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * The tasks found by planning a {@link TaskMultiplePredicate} against the indexes of a {@link UniqueTaskList},
+ * together with the steps that found them.
+ *
+ * The first step looks up the candidate tasks for the most selective search option in its index, and each later
+ * step keeps only the candidates that match one more search option, from the most to the least selective.
+ */
+public class TaskQueryPlan implements Predicate<Task> {
+
+    public static final String MESSAGE_PLAN_HEADER = "Query plan over %1$d tasks:";
+
+    private final int numberOfTasks;
+    private final List<Step> steps;
+    private final Set<Description> matchingDescriptions;
+
+    /**
+     * Creates a plan over {@code numberOfTasks} tasks that took the given steps to find the tasks with
+     * {@code matchingDescriptions}.
+     */
+    TaskQueryPlan(int numberOfTasks, List<Step> steps, Set<Description> matchingDescriptions) {
+        requireNonNull(steps);
+        requireNonNull(matchingDescriptions);
+        this.numberOfTasks = numberOfTasks;
+        this.steps = Collections.unmodifiableList(steps);
+        this.matchingDescriptions = matchingDescriptions;
+    }
+
+    public List<Step> getSteps() {
+        return steps;
+    }
+
+    public int getNumberOfMatchingTasks() {
+        return matchingDescriptions.size();
+    }
+
+    /**
+     * Returns true if {@code task} was found by the plan.
+     */
+    @Override
+    public boolean test(Task task) {
+        return matchingDescriptions.contains(task.getDescription());
+    }
+
+    /**
+     * Returns a description of each step of the plan, one per line, with the number of tasks left after it.
+     * @return the explanation of the plan.
+     */
+    public String explain() {
+        StringBuilder explanation = new StringBuilder(String.format(MESSAGE_PLAN_HEADER, numberOfTasks));
+        for (int i = 0; i < steps.size(); i++) {
+            explanation.append("\n").append(i + 1).append(". ").append(steps.get(i));
+        }
+        return explanation.toString();
+    }
+
+    /**
+     * A step of a {@code TaskQueryPlan}, which applies one or more search options to the candidate tasks.
+     */
+    public static class Step {
+        private final String options;
+        private final String method;
+        private final int estimatedMatches;
+        private final int candidatesLeft;
+
+        /**
+         * Creates a step that applies {@code options} by {@code method}, which the planner estimated to match
+         * {@code estimatedMatches} tasks on its own, and that left {@code candidatesLeft} candidate tasks.
+         */
+        Step(String options, String method, int estimatedMatches, int candidatesLeft) {
+            this.options = options;
+            this.method = method;
+            this.estimatedMatches = estimatedMatches;
+            this.candidatesLeft = candidatesLeft;
+        }
+
+        public String getOptions() {
+            return options;
+        }
+
+        public int getEstimatedMatches() {
+            return estimatedMatches;
+        }
+
+        public int getCandidatesLeft() {
+            return candidatesLeft;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%1$s by %2$s (estimated %3$d): %4$d candidates", options, method,
+                    estimatedMatches, candidatesLeft);
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package manageezpz.model.task;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import manageezpz.model.task.TaskMultiplePredicate.Clause;
+
+/**
+ * Plans a {@link TaskMultiplePredicate} against the indexes of a {@link UniqueTaskList}, and the assignments of
+ * the address book holding it.
+ *
+ * The number of tasks matching each search option on its own is read from the statistics of the indexes, and the
+ * options are applied from the most to the least selective, so that the less selective ones are only checked on
+ * the few tasks left. The most selective option looks up its candidates in its index; if that is one of the options
+ * kept in bitsets, all of them are intersected at once.
+ */
+class TaskQueryPlanner {
+
+    private static final Set<Clause> BITSET_CLAUSES = EnumSet.of(Clause.TYPE, Clause.PRIORITY, Clause.MARKED);
+
+    private final UniqueTaskList tasks;
+    private final IntFunction<Set<Description>> assignedDescriptions;
+
+    TaskQueryPlanner(UniqueTaskList tasks, IntFunction<Set<Description>> assignedDescriptions) {
+        this.tasks = tasks;
+        this.assignedDescriptions = assignedDescriptions;
+    }
+
+    /**
+     * Finds the tasks matching {@code predicate}, applying its search options in the order of their selectivity.
+     */
+    TaskQueryPlan plan(TaskMultiplePredicate predicate) {
+        List<Clause> clauses = predicate.getClauses();
+        List<TaskQueryPlan.Step> steps = new ArrayList<>();
+        if (clauses.isEmpty()) {
+            List<Task> allTasks = new ArrayList<>();
+            tasks.forEach(allTasks::add);
+            return new TaskQueryPlan(tasks.size(), steps, getDescriptions(allTasks));
+        }
+
+        Map<Clause, Integer> estimates = new EnumMap<>(Clause.class);
+        for (Clause clause : clauses) {
+            estimates.put(clause, estimate(predicate, clause));
+        }
+        List<Clause> orderedClauses = new ArrayList<>(clauses);
+        orderedClauses.sort(Comparator.comparing(estimates::get));
+
+        Clause firstClause = orderedClauses.get(0);
+        List<Clause> lookedUpClauses = BITSET_CLAUSES.contains(firstClause)
+                ? orderedClauses.stream().filter(BITSET_CLAUSES::contains).collect(Collectors.toList())
+                : List.of(firstClause);
+        List<Task> candidates = lookUp(predicate, firstClause);
+        steps.add(new TaskQueryPlan.Step(describe(predicate, lookedUpClauses), getIndexName(firstClause),
+                estimates.get(firstClause), candidates.size()));
+
+        for (Clause clause : orderedClauses) {
+            if (lookedUpClauses.contains(clause)) {
+                continue;
+            }
+            List<Task> remainingCandidates = new ArrayList<>();
+            for (Task candidate : candidates) {
+                if (predicate.testClause(clause, candidate)) {
+                    remainingCandidates.add(candidate);
+                }
+            }
+            candidates = remainingCandidates;
+            steps.add(new TaskQueryPlan.Step(predicate.describeClause(clause), "checking candidates",
+                    estimates.get(clause), candidates.size()));
+        }
+
+        return new TaskQueryPlan(tasks.size(), steps, getDescriptions(candidates));
+    }
+
+    /**
+     * Returns the number of tasks matching the given search option on its own, or an upper bound of it.
+     */
+    private int estimate(TaskMultiplePredicate predicate, Clause clause) {
+        switch (clause) {
+        case TYPE:
+            return tasks.countTasksOfType(predicate.getTaskClass());
+        case KEYWORDS:
+            int count = 0;
+            for (String keyword : predicate.getDescriptions()) {
+                count += tasks.getDescriptionsWithWord(keyword).size();
+            }
+            return Math.min(count, tasks.size());
+        case DATE:
+            return tasks.countTasksInDateRange(predicate.getStartDate(), predicate.getEndDate());
+        case PRIORITY:
+            return tasks.countTasksWithPriority(predicate.getPriority());
+        case ASSIGNEE:
+            return assignedDescriptions.apply(predicate.getAssigneeId()).size();
+        default:
+            return tasks.countTasksDone(predicate.getIsMarked());
+        }
+    }
+
+    /**
+     * Returns the tasks matching the given search option from its index. For the options kept in bitsets, the tasks
+     * also match all the other options kept in bitsets.
+     */
+    private List<Task> lookUp(TaskMultiplePredicate predicate, Clause clause) {
+        List<Task> matchingTasks = new ArrayList<>();
+        switch (clause) {
+        case KEYWORDS:
+            Set<Description> descriptions = new HashSet<>();
+            for (String keyword : predicate.getDescriptions()) {
+                descriptions.addAll(tasks.getDescriptionsWithWord(keyword));
+            }
+            descriptions.forEach(description -> matchingTasks.add(tasks.getTask(description)));
+            return matchingTasks;
+        case DATE:
+            return tasks.getTasksInDateRange(predicate.getStartDate(), predicate.getEndDate());
+        case ASSIGNEE:
+            assignedDescriptions.apply(predicate.getAssigneeId())
+                    .forEach(description -> matchingTasks.add(tasks.getTask(description)));
+            return matchingTasks;
+        default:
+            BitSet positions = tasks.getTaskPositions(predicate.getTaskClass(), predicate.getPriority(),
+                    predicate.getIsMarked());
+            for (int i = positions.nextSetBit(0); i >= 0; i = positions.nextSetBit(i + 1)) {
+                matchingTasks.add(tasks.getTask(i));
+            }
+            return matchingTasks;
+        }
+    }
+
+    private static String getIndexName(Clause clause) {
+        switch (clause) {
+        case KEYWORDS:
+            return "word index";
+        case DATE:
+            return "date index";
+        case ASSIGNEE:
+            return "assignments";
+        default:
+            return "bitset index";
+        }
+    }
+
+    private static String describe(TaskMultiplePredicate predicate, List<Clause> clauses) {
+        return clauses.stream().map(predicate::describeClause).collect(Collectors.joining(" "));
+    }
+
+    private static Set<Description> getDescriptions(List<Task> matchingTasks) {
+        Set<Description> descriptions = new HashSet<>();
+        for (Task task : matchingTasks) {
+            descriptions.add(task.getDescription());
+        }
+        return descriptions;
+    }
+}
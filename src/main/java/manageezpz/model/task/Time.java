@@ -6,14 +6,25 @@ import static manageezpz.commons.util.AppUtil.checkArgument;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 
-public class Time {
+import manageezpz.commons.util.StringUtil;
+
+/**
+ * Represents the time of a deadline or the start or end of an event, in the format HHmm.
+ * The time is parsed once when constructed, so that comparing and displaying times does not parse it again.
+ */
+public class Time implements Comparable<Time> {
     public static final String MESSAGE_CONSTRAINTS = "Time should be in the format of HHmm, "
             + "where it should only contain numbers that is 4 digits long.\n"
             + "HH should only be between 00 and 23 and mm should only be between 00 and 59.";
 
     public static final String VALIDATION_REGEX = "\\d{4}";
 
-    private String time;
+    private static final DateTimeFormatter DISPLAY_FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
+
+    private final String time;
+    private final int minuteOfDay;
+    private final LocalTime parsedTime;
+    private String displayTime;
 
     /**
      * Constructs a {@code Time}.
@@ -23,6 +34,10 @@ public class Time {
         requireNonNull(time);
         checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
         this.time = time;
+        int hour = StringUtil.parseAsciiDigits(time, 0, 2);
+        int minute = StringUtil.parseAsciiDigits(time, 2, 4);
+        this.minuteOfDay = hour * 60 + minute;
+        this.parsedTime = LocalTime.of(hour, minute);
     }
 
     /**
@@ -31,7 +46,13 @@ public class Time {
      * @return true if a given string is a valid time, false otherwise.
      */
     public static boolean isValidTime(String time) {
-        return time.matches(VALIDATION_REGEX) && time.matches("([01]?[0-9]|2[0-3])[0-5][0-9]");
+        // Equivalent to matching VALIDATION_REGEX and then ([01]?[0-9]|2[0-3])[0-5][0-9], without compiling either
+        if (time.length() != 4) {
+            return false;
+        }
+        int hour = StringUtil.parseAsciiDigits(time, 0, 2);
+        int minute = StringUtil.parseAsciiDigits(time, 2, 4);
+        return hour >= 0 && hour <= 23 && minute >= 0 && minute <= 59;
     }
 
     public String getTime() {
@@ -39,17 +60,61 @@ public class Time {
     }
 
     public LocalTime getParsedTime() {
-        DateTimeFormatter dtf = DateTimeFormatter.ofPattern("HHmm");
-        LocalTime parsedTime = LocalTime.parse(time, dtf);
         return parsedTime;
     }
 
+    /**
+     * Returns the number of minutes from midnight to this time.
+     */
+    public int getMinuteOfDay() {
+        return minuteOfDay;
+    }
+
+    /**
+     * Returns the time as it is displayed to the user, e.g. 6:00 PM.
+     * @return the formatted time.
+     */
+    public String getDisplayTime() {
+        if (displayTime == null) {
+            displayTime = parsedTime.format(DISPLAY_FORMATTER);
+        }
+        return displayTime;
+    }
+
     /**
      * Formats the given time.
      * @param dtf the DateTimeFormatter to be used to format the time.
      * @return the formatted time.
      */
     public String format(DateTimeFormatter dtf) {
-        return getParsedTime().format(dtf);
+        return parsedTime.format(dtf);
+    }
+
+    /**
+     * Compares the times by the minutes since midnight.
+     */
+    @Override
+    public int compareTo(Time other) {
+        return Integer.compare(minuteOfDay, other.minuteOfDay);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof Time) {
+            return time.equals(((Time) obj).time);
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return time.hashCode();
     }
 }
@@ -1,11 +1,13 @@
 package manageezpz.model.task;
 
+import static java.util.Objects.requireNonNull;
+
 /**
  * A class that represents a Todo task.
  */
 public class Todo extends Task {
-    protected String type;
-    protected Description description;
+    protected final String type;
+    protected final Description description;
 
     /**
      * Constructor to initialize an instance of Todo class with task description.
@@ -23,11 +25,26 @@ public class Todo extends Task {
      * @param todo Todo task.
      */
     public Todo(Todo todo) {
-        this.type = todo.getType();
-        this.description = todo.getDescription();
-        this.isDone = todo.isDone();
-        this.priority = todo.getPriority();
-        this.assignees = todo.getAssignees();
+        this(todo.getDescription(), todo.isDone(), todo.getPriority(), todo.getAssignees());
+    }
+
+    /**
+     * Constructor to initialize an instance of Todo class with task description, status, priority and assignees.
+     *
+     * @param taskDescription Description of the task.
+     * @param isDone Whether the task is done.
+     * @param priority Priority of the task.
+     * @param assignees Ids of the persons assigned to the task.
+     */
+    public Todo(Description taskDescription, boolean isDone, Priority priority, Assignees assignees) {
+        super(isDone, priority, assignees);
+        this.type = "todo";
+        this.description = taskDescription;
+    }
+
+    @Override
+    protected Todo with(boolean isDone, Priority priority, Assignees assignees) {
+        return new Todo(description, isDone, priority, assignees);
     }
 
     @Override
@@ -45,8 +62,17 @@ public class Todo extends Task {
         return null;
     }
 
-    public void setDescription(Description description) {
-        this.description = description;
+    /**
+     * Returns this Todo task with the given description.
+     *
+     * @param description Description of the returned task.
+     * @return The Todo task with the given description.
+     */
+    public Todo withDescription(Description description) {
+        requireNonNull(description);
+        return description.equals(this.description)
+                ? this
+                : new Todo(description, isDone(), getPriority(), getAssignees());
     }
 
     /**
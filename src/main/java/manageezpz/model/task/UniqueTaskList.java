@@ -3,15 +3,30 @@ package manageezpz.model.task;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import manageezpz.model.person.Person;
+import manageezpz.commons.util.StringUtil;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
-import manageezpz.model.task.exceptions.InvalidTaskTypeException;
 import manageezpz.model.task.exceptions.TaskNotFoundException;
+import manageezpz.model.util.BatchedObservableList;
 
 /**
  * A list of Task that enforces uniqueness between its elements and does not allow nulls.
@@ -20,14 +35,35 @@ import manageezpz.model.task.exceptions.TaskNotFoundException;
  * unique in terms of identity in the UniqueTaskList. However, the removal of a Task uses Task#equals(Object)
  * to ensure that the Task with exactly the same fields will be removed.
  *
+ * Since the identity of a Task is its {@code Description}, the list keeps a hash index from each
+ * {@code Description} to the position of its task in the backing list. Identity checks and lookups
+ * are answered from the index instead of scanning the list.
+ *
+ * The list also keeps an inverted index from each case-folded word of a description to the descriptions that
+ * contain it, so that tasks can be found by the words in their description without splitting every description.
+ * Likewise, a sorted index from each date to the descriptions of the deadlines and events on it answers date range
+ * queries in time logarithmic in the number of dates plus the number of matching tasks.
+ *
+ * The list also keeps a bitset of task positions for each priority, for each task type and for the tasks that
+ * are done, so that tasks matching several of these attributes are found by intersecting bitsets.
+ *
+ * Tasks can also be marked, unmarked, tagged or removed in bulk, in which case the listeners of the list are
+ * notified of all the modified tasks in a single change.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final BatchedObservableList<Task> internalList = new BatchedObservableList<>();
     private final ObservableList<Task> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Description, Integer> positions = new HashMap<>();
+    private final Map<String, Set<Description>> wordIndex = new HashMap<>();
+    private final NavigableMap<LocalDate, Set<Description>> dateIndex = new TreeMap<>();
+    private final Map<Priority, BitSet> priorityIndex = new EnumMap<>(Priority.class);
+    private final Map<Class<? extends Task>, BitSet> typeIndex = new HashMap<>();
+    private final BitSet doneIndex = new BitSet();
 
     /**
      * Checks if the list contains an equivalent Task as the given argument.
@@ -36,7 +72,163 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return positions.containsKey(toCheck.getDescription());
+    }
+
+    /**
+     * Returns the position of the task in the list that is equal to {@code target}.
+     * @param target the task to be searched for.
+     * @return the position of the task, or -1 if there is no such task in the list.
+     */
+    public int indexOf(Task target) {
+        requireNonNull(target);
+        Integer index = positions.get(target.getDescription());
+        if (index == null || !internalList.get(index).equals(target)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the task in the list with the given {@code description}.
+     * @param description the description of the task to be retrieved.
+     * @return the task with the given description.
+     * @throws TaskNotFoundException if there is no task with the given description in the list.
+     */
+    public Task getTask(Description description) {
+        requireNonNull(description);
+        Integer index = positions.get(description);
+        if (index == null) {
+            throw new TaskNotFoundException();
+        }
+        return internalList.get(index);
+    }
+
+    /**
+     * Returns the task at {@code position} in the list.
+     */
+    Task getTask(int position) {
+        return internalList.get(position);
+    }
+
+    /**
+     * Returns the descriptions of the tasks in the list whose description contains {@code word}, ignoring case.
+     * A full word match is required, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
+     * @param word the word to be searched for.
+     * @return an unmodifiable view of the matching descriptions.
+     */
+    public Set<Description> getDescriptionsWithWord(String word) {
+        requireNonNull(word);
+        Set<Description> descriptions = wordIndex.get(StringUtil.foldCase(word.trim()));
+        return descriptions == null ? Collections.emptySet() : Collections.unmodifiableSet(descriptions);
+    }
+
+    /**
+     * Returns the deadlines and events in the list whose date is between {@code start} and {@code end} inclusive,
+     * ordered by date.
+     * @param start the earliest date to be included, or null if there is no earliest date.
+     * @param end the latest date to be included, or null if there is no latest date.
+     * @return the matching tasks.
+     */
+    public List<Task> getTasksInDateRange(LocalDate start, LocalDate end) {
+        List<Task> matchingTasks = new ArrayList<>();
+        for (Set<Description> descriptions : getDatesInRange(start, end).values()) {
+            for (Description description : descriptions) {
+                matchingTasks.add(getTask(description));
+            }
+        }
+        return matchingTasks;
+    }
+
+    /**
+     * Returns the number of deadlines and events on a date between {@code start} and {@code end} inclusive.
+     * Either date may be null to leave that end of the range open.
+     */
+    int countTasksInDateRange(LocalDate start, LocalDate end) {
+        int count = 0;
+        for (Set<Description> descriptions : getDatesInRange(start, end).values()) {
+            count += descriptions.size();
+        }
+        return count;
+    }
+
+    private NavigableMap<LocalDate, Set<Description>> getDatesInRange(LocalDate start, LocalDate end) {
+        if (start != null && end != null) {
+            return start.isAfter(end)
+                    ? Collections.emptyNavigableMap()
+                    : dateIndex.subMap(start, true, end, true);
+        } else if (start != null) {
+            return dateIndex.tailMap(start, true);
+        } else if (end != null) {
+            return dateIndex.headMap(end, true);
+        } else {
+            return dateIndex;
+        }
+    }
+
+    /**
+     * Returns the number of tasks of type {@code type}.
+     */
+    int countTasksOfType(Class<? extends Task> type) {
+        BitSet typePositions = typeIndex.get(type);
+        return typePositions == null ? 0 : typePositions.cardinality();
+    }
+
+    /**
+     * Returns the number of tasks with priority {@code priority}.
+     */
+    int countTasksWithPriority(Priority priority) {
+        BitSet priorityPositions = priorityIndex.get(priority);
+        return priorityPositions == null ? 0 : priorityPositions.cardinality();
+    }
+
+    /**
+     * Returns the number of tasks that are done if {@code isDone} is true, or not done otherwise.
+     */
+    int countTasksDone(boolean isDone) {
+        return isDone ? doneIndex.cardinality() : internalList.size() - doneIndex.cardinality();
+    }
+
+    int size() {
+        return internalList.size();
+    }
+
+    /**
+     * Returns a plan that finds the tasks matching {@code predicate} from the indexes of this list, starting from
+     * its most selective search option.
+     * The plan only reflects the tasks in the list at the time it is made.
+     * @param predicate the search options to plan for.
+     * @param assignedDescriptions returns the descriptions of the tasks assigned to the person with a given id.
+     * @return the plan, which matches the tasks it found.
+     */
+    public TaskQueryPlan planQuery(TaskMultiplePredicate predicate,
+            IntFunction<Set<Description>> assignedDescriptions) {
+        requireAllNonNull(predicate, assignedDescriptions);
+        return new TaskQueryPlanner(this, assignedDescriptions).plan(predicate);
+    }
+
+    /**
+     * Returns the positions in the list of the tasks that match all of the given attributes.
+     * @param type the type of the tasks, or null to match tasks of any type.
+     * @param priority the priority of the tasks, or null to match tasks of any priority.
+     * @param isDone whether the tasks are done, or null to match tasks that are done or not.
+     * @return a new bitset with the bits of the matching positions set.
+     */
+    public BitSet getTaskPositions(Class<? extends Task> type, Priority priority, Boolean isDone) {
+        BitSet matchingPositions = new BitSet(internalList.size());
+        matchingPositions.set(0, internalList.size());
+        if (type != null) {
+            matchingPositions.and(typeIndex.getOrDefault(type, new BitSet()));
+        }
+        if (priority != null) {
+            matchingPositions.and(priorityIndex.getOrDefault(priority, new BitSet()));
+        }
+        if (isDone != null && isDone) {
+            matchingPositions.and(doneIndex);
+        } else if (isDone != null) {
+            matchingPositions.andNot(doneIndex);
+        }
+        return matchingPositions;
     }
 
     /**
@@ -49,6 +241,10 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        positions.put(toAdd.getDescription(), internalList.size());
+        indexWords(toAdd.getDescription());
+        indexDate(toAdd);
+        indexAttributes(internalList.size(), toAdd);
         internalList.add(toAdd);
     }
 
@@ -62,7 +258,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -71,24 +267,24 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        Task storedTarget = internalList.get(index);
+        boolean isSameDescription = storedTarget.getDescription().equals(editedTask.getDescription());
+        positions.remove(storedTarget.getDescription());
+        positions.put(editedTask.getDescription(), index);
+        if (!isSameDescription) {
+            unindexWords(storedTarget.getDescription());
+            indexWords(editedTask.getDescription());
+        }
+        // Tasks are immutable, so an update that keeps the date leaves its index entry valid
+        if (!isSameDescription || !Objects.equals(getDate(storedTarget), getDate(editedTask))) {
+            unindexDate(storedTarget);
+            indexDate(editedTask);
+        }
+        unindexAttributes(index);
+        indexAttributes(index, editedTask);
         internalList.set(index, editedTask);
     }
 
-    /**
-     * Updates the task with the edited person.
-     * @param toUpdate the task to be updated.
-     * @param assigneesIndex the index of the person in List of assignees.
-     * @param editedPerson the edited person.
-     */
-    public void updateTaskWithEditedPerson(Task toUpdate, int assigneesIndex, Person editedPerson) {
-        requireAllNonNull(toUpdate, assigneesIndex, editedPerson);
-
-        Task updatedTask = duplicateTask(toUpdate);
-        updatedTask.assignedTo(assigneesIndex, editedPerson);
-
-        setTask(toUpdate, updatedTask);
-    }
-
     /**
      * Marks a task in the list as done.
      * The task must already exist in the list.
@@ -98,12 +294,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public Task markTask(Task toMark) {
         requireNonNull(toMark);
 
-        Task markedTask = duplicateTask(toMark);
-        markedTask.setTaskDone();
-
-        setTask(toMark, markedTask);
-
-        return markedTask;
+        return updateTask(toMark, task -> task.withDone(true));
     }
 
 
@@ -116,12 +307,27 @@ public class UniqueTaskList implements Iterable<Task> {
     public Task unmarkTask(Task toUnmark) {
         requireNonNull(toUnmark);
 
-        Task unmarkedTask = duplicateTask(toUnmark);
-        unmarkedTask.setTaskNotDone();
+        return updateTask(toUnmark, task -> task.withDone(false));
+    }
 
-        setTask(toUnmark, unmarkedTask);
+    /**
+     * Marks the tasks in the list that are equal to {@code toMark} as done, in a single change to the list.
+     * All the tasks must already exist in the list.
+     * @param toMark the tasks to be marked.
+     * @return the marked tasks, in the same order.
+     */
+    public List<Task> markTasks(List<Task> toMark) {
+        return updateTasks(toMark, task -> task.withDone(true));
+    }
 
-        return unmarkedTask;
+    /**
+     * Marks the tasks in the list that are equal to {@code toUnmark} as not done yet, in a single change to the list.
+     * All the tasks must already exist in the list.
+     * @param toUnmark the tasks to be unmarked.
+     * @return the unmarked tasks, in the same order.
+     */
+    public List<Task> unmarkTasks(List<Task> toUnmark) {
+        return updateTasks(toUnmark, task -> task.withDone(false));
     }
 
     /**
@@ -134,62 +340,146 @@ public class UniqueTaskList implements Iterable<Task> {
         requireNonNull(toTagPriority);
         requireNonNull(priority);
 
-        Task taggedPriorityTask = duplicateTask(toTagPriority);
-        taggedPriorityTask.setPriority(priority);
-
-        setTask(toTagPriority, taggedPriorityTask);
-
-        return taggedPriorityTask;
+        return updateTask(toTagPriority, task -> task.withPriority(priority));
     }
 
     /**
      * Tags an employee to the task.
      * @param toTagEmployee the task to be tagged.
-     * @param person the employee to be tagged to the task.
+     * @param personId the id of the employee to be tagged to the task.
      * @return the tagged task.
      */
-    public Task tagEmployeeToTask(Task toTagEmployee, Person person) {
+    public Task tagEmployeeToTask(Task toTagEmployee, int personId) {
         requireNonNull(toTagEmployee);
-        requireNonNull(person);
-
-        Task taggedEmployeeTask = duplicateTask(toTagEmployee);
-        taggedEmployeeTask.assignedTo(person);
 
-        setTask(toTagEmployee, taggedEmployeeTask);
+        return updateTask(toTagEmployee, task -> task.withAssignee(personId));
+    }
 
-        return taggedEmployeeTask;
+    /**
+     * Tags an employee to the tasks in the list that are equal to {@code toTagEmployee}, in a single change to the
+     * list. All the tasks must already exist in the list.
+     * @param toTagEmployee the tasks to be tagged.
+     * @param personId the id of the employee to be tagged to the tasks.
+     * @return the tagged tasks, in the same order.
+     */
+    public List<Task> tagEmployeeToTasks(List<Task> toTagEmployee, int personId) {
+        return updateTasks(toTagEmployee, task -> task.withAssignee(personId));
     }
 
     /**
      * * Untags an employee to the task.
      * @param toUntagEmployee the task to be untagged.
-     * @param person the person to be untagged from the task.
+     * @param personId the id of the person to be untagged from the task.
      * @return the untagged task.
      */
-    public Task untagEmployeeFromTask(Task toUntagEmployee, Person person) {
+    public Task untagEmployeeFromTask(Task toUntagEmployee, int personId) {
         requireNonNull(toUntagEmployee);
-        requireNonNull(person);
 
-        Task untaggedEmployeeTask = duplicateTask(toUntagEmployee);
-        untaggedEmployeeTask.removeAssigned(person);
+        return updateTask(toUntagEmployee, task -> task.withoutAssignee(personId));
+    }
+
+    /**
+     * Replaces the task in the list that is equal to {@code target} with the result of applying {@code update}
+     * to it. The list is left unchanged if {@code update} returns the same task.
+     * @return the updated task.
+     * @throws TaskNotFoundException if there is no task in the list equal to {@code target}.
+     */
+    private Task updateTask(Task target, UnaryOperator<Task> update) {
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new TaskNotFoundException();
+        }
 
-        setTask(toUntagEmployee, untaggedEmployeeTask);
+        Task storedTask = internalList.get(index);
+        Task updatedTask = update.apply(storedTask);
+        if (updatedTask != storedTask) {
+            setTask(storedTask, updatedTask);
+        }
+        return updatedTask;
+    }
 
-        return untaggedEmployeeTask;
+    /**
+     * Replaces each task in the list that is equal to one of {@code targets} with the result of applying
+     * {@code update} to it, notifying the listeners of the list once. {@code update} must keep the description
+     * of the task.
+     * @return the updated tasks, in the order of {@code targets}.
+     * @throws TaskNotFoundException if any of {@code targets} is not in the list, in which case the list is unchanged.
+     */
+    private List<Task> updateTasks(List<Task> targets, UnaryOperator<Task> update) {
+        requireAllNonNull(targets);
+        int[] indexes = indexesOf(targets);
+
+        List<Task> updatedTasks = new ArrayList<>(targets.size());
+        internalList.batch(() -> {
+            for (int index : indexes) {
+                Task storedTask = internalList.get(index);
+                Task updatedTask = update.apply(storedTask);
+                assert storedTask.isSameTask(updatedTask) : "Batch updates should keep the task description";
+                if (updatedTask != storedTask) {
+                    setTask(storedTask, updatedTask);
+                }
+                updatedTasks.add(updatedTask);
+            }
+        });
+        return updatedTasks;
     }
 
-    private Task duplicateTask(Task task) {
-        if (task instanceof Todo) {
-            return new Todo((Todo) task);
-        } else if (task instanceof Deadline) {
-            return new Deadline((Deadline) task);
-        } else if (task instanceof Event) {
-            return new Event((Event) task);
-        } else {
-            // The else statement should not be reached since there are
-            // only three types of tasks, i.e., todo, deadline and event
-            throw new InvalidTaskTypeException();
+    /**
+     * Returns the positions of the tasks in the list that are equal to {@code targets}, in the same order.
+     * @throws TaskNotFoundException if any of {@code targets} is not in the list.
+     */
+    private int[] indexesOf(List<Task> targets) {
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < indexes.length; i++) {
+            indexes[i] = indexOf(targets.get(i));
+            if (indexes[i] == -1) {
+                throw new TaskNotFoundException();
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Removes the tasks equal to {@code toRemove} from the list, notifying the listeners of the list once.
+     * All the tasks must exist in the list.
+     * @param toRemove the tasks to be removed.
+     * @return the removed tasks, in the same order.
+     * @throws TaskNotFoundException if any of {@code toRemove} is not in the list, in which case the list is unchanged.
+     */
+    public List<Task> removeAll(List<Task> toRemove) {
+        requireAllNonNull(toRemove);
+        int[] indexes = indexesOf(toRemove);
+
+        List<Task> removedTasks = new ArrayList<>(indexes.length);
+        BitSet removedPositions = new BitSet(internalList.size());
+        for (int index : indexes) {
+            Task storedTask = internalList.get(index);
+            removedTasks.add(storedTask);
+            if (removedPositions.get(index)) {
+                continue;
+            }
+            removedPositions.set(index);
+            positions.remove(storedTask.getDescription());
+            unindexWords(storedTask.getDescription());
+            unindexDate(storedTask);
+        }
+        if (removedPositions.isEmpty()) {
+            return removedTasks;
         }
+
+        internalList.removePositions(removedPositions);
+
+        // Every position after the first removed one has moved, so those positions are indexed again at once
+        int firstRemoved = removedPositions.nextSetBit(0);
+        int oldSize = internalList.size() + removedPositions.cardinality();
+        priorityIndex.values().forEach(bits -> bits.clear(firstRemoved, oldSize));
+        typeIndex.values().forEach(bits -> bits.clear(firstRemoved, oldSize));
+        doneIndex.clear(firstRemoved, oldSize);
+        for (int i = firstRemoved; i < internalList.size(); i++) {
+            indexAttributes(i, internalList.get(i));
+        }
+        reindexFrom(firstRemoved);
+        return removedTasks;
     }
 
     /**
@@ -199,13 +489,29 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+
+        Task storedTask = internalList.get(index);
+        positions.remove(storedTask.getDescription());
+        unindexWords(storedTask.getDescription());
+        unindexDate(storedTask);
+        removeAttributePosition(index);
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     * @param replacement the list to replace the current task list.
+     */
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
+        positions.clear();
+        positions.putAll(replacement.positions);
+        rebuildSearchIndexes(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -220,7 +526,10 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        positions.clear();
+        rebuildSearchIndexes(tasks);
         internalList.setAll(tasks);
+        reindexFrom(0);
     }
 
     /**
@@ -258,16 +567,122 @@ public class UniqueTaskList implements Iterable<Task> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique Task.
+     * Updates the index entries of every task from position {@code start} onwards.
+     * Used after a removal or bulk replacement shifts the tasks in the backing list.
      */
-    private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getDescription(), i);
+        }
+    }
+
+    private void rebuildSearchIndexes(List<Task> tasks) {
+        wordIndex.clear();
+        dateIndex.clear();
+        priorityIndex.clear();
+        typeIndex.clear();
+        doneIndex.clear();
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            indexWords(task.getDescription());
+            indexDate(task);
+            indexAttributes(i, task);
+        }
+    }
+
+    private void indexWords(Description description) {
+        for (String word : description.toString().split("\\s+")) {
+            wordIndex.computeIfAbsent(StringUtil.foldCase(word), unused -> new HashSet<>()).add(description);
+        }
+    }
+
+    private void unindexWords(Description description) {
+        for (String word : description.toString().split("\\s+")) {
+            String foldedWord = StringUtil.foldCase(word);
+            Set<Description> descriptions = wordIndex.get(foldedWord);
+            if (descriptions != null) {
+                descriptions.remove(description);
+                if (descriptions.isEmpty()) {
+                    wordIndex.remove(foldedWord);
                 }
             }
         }
+    }
+
+    /**
+     * Returns the date of {@code task}, or null if it is a todo.
+     */
+    private static Date getDate(Task task) {
+        if (task instanceof Deadline) {
+            return ((Deadline) task).getDate();
+        } else if (task instanceof Event) {
+            return ((Event) task).getDate();
+        } else {
+            return null;
+        }
+    }
+
+    private void indexDate(Task task) {
+        Date date = getDate(task);
+        if (date == null) {
+            return;
+        }
+        dateIndex.computeIfAbsent(date.getParsedDate(), unused -> new LinkedHashSet<>()).add(task.getDescription());
+    }
+
+    private void unindexDate(Task task) {
+        Date taskDate = getDate(task);
+        if (taskDate == null) {
+            return;
+        }
+        LocalDate date = taskDate.getParsedDate();
+        Set<Description> descriptions = dateIndex.get(date);
+        descriptions.remove(task.getDescription());
+        if (descriptions.isEmpty()) {
+            dateIndex.remove(date);
+        }
+    }
+
+    private void indexAttributes(int position, Task task) {
+        priorityIndex.computeIfAbsent(task.getPriority(), unused -> new BitSet()).set(position);
+        typeIndex.computeIfAbsent(task.getClass(), unused -> new BitSet()).set(position);
+        doneIndex.set(position, task.isDone());
+    }
+
+    private void unindexAttributes(int position) {
+        priorityIndex.values().forEach(positions -> positions.clear(position));
+        typeIndex.values().forEach(positions -> positions.clear(position));
+        doneIndex.clear(position);
+    }
+
+    /**
+     * Removes {@code position} from the attribute bitsets, moving the positions after it down by one.
+     */
+    private void removeAttributePosition(int position) {
+        priorityIndex.values().forEach(positions -> removeBit(positions, position));
+        typeIndex.values().forEach(positions -> removeBit(positions, position));
+        removeBit(doneIndex, position);
+    }
+
+    private static void removeBit(BitSet bits, int position) {
+        BitSet shifted = bits.get(position + 1, Math.max(bits.length(), position + 1));
+        bits.clear(position, Math.max(bits.length(), position));
+        for (int i = shifted.nextSetBit(0); i >= 0; i = shifted.nextSetBit(i + 1)) {
+            bits.set(position + i);
+        }
+    }
+
+    /**
+     * Returns true if {@code tasks} contains only unique Task.
+     * Runs in linear time by collecting the identity of each task, i.e. its {@code Description}, into a set.
+     */
+    private boolean tasksAreUnique(List<Task> tasks) {
+        Set<Description> seenDescriptions = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seenDescriptions.add(task.getDescription())) {
+                return false;
+            }
+        }
         return true;
     }
 }
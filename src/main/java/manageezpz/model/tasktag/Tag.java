@@ -3,6 +3,8 @@ package manageezpz.model.tasktag;
 import static java.util.Objects.requireNonNull;
 import static manageezpz.commons.util.AppUtil.checkArgument;
 
+import manageezpz.commons.util.StringUtil;
+
 /**
  * Represents a Tag in the Task List.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -31,7 +33,8 @@ public class Tag {
      * @return true if the tag is valid, false otherwise.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans the characters instead of matching VALIDATION_REGEX, which compiles it on every call
+        return StringUtil.isAllChars(test, 1, StringUtil::isAsciiAlphanumeric);
     }
 
     /**
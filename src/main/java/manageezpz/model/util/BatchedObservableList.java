@@ -0,0 +1,96 @@
+package manageezpz.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose listeners can be notified of several modifications in a single change.
+ *
+ * All modifications made inside {@link #batch(Runnable)} are reported as one change when the batch ends, listing
+ * every modified range as a separate sub-change. Outside a batch, the list behaves like
+ * {@code FXCollections.observableArrayList()}.
+ */
+public class BatchedObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private final ArrayList<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code modifications} and notifies the listeners of all the modifications they made in a single change.
+     * Batches can be nested, in which case the listeners are notified when the outermost batch ends.
+     */
+    public void batch(Runnable modifications) {
+        requireNonNull(modifications);
+        beginChange();
+        try {
+            modifications.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at the set positions of {@code positions} in a single change, moving the remaining
+     * elements once instead of once per removed element.
+     */
+    public void removePositions(BitSet positions) {
+        requireNonNull(positions);
+        if (positions.isEmpty()) {
+            return;
+        }
+        if (positions.length() > elements.size()) {
+            throw new IndexOutOfBoundsException("Position " + (positions.length() - 1) + " is out of bounds");
+        }
+
+        beginChange();
+        try {
+            // Reported from the last run of positions to the first, so that each run is reported at the position
+            // it had just before it was removed
+            int runEnd = positions.length();
+            while (runEnd > 0) {
+                int runStart = positions.previousClearBit(runEnd - 1) + 1;
+                nextRemove(runStart, new ArrayList<>(elements.subList(runStart, runEnd)));
+                runEnd = positions.previousSetBit(runStart - 1) + 1;
+            }
+
+            int size = positions.nextSetBit(0);
+            for (int i = size; i < elements.size(); i++) {
+                if (!positions.get(i)) {
+                    elements.set(size++, elements.get(i));
+                }
+            }
+            elements.subList(size, elements.size()).clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,271 @@
+package manageezpz.storage;
+
+import static manageezpz.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+import static manageezpz.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASKS;
+import static manageezpz.storage.JsonSerializableAddressBook.MESSAGE_INVALID_JSON_VALUE;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.AddressBook;
+import manageezpz.model.person.Email;
+import manageezpz.model.person.Person;
+import manageezpz.model.person.Phone;
+import manageezpz.model.person.exceptions.DuplicatePersonException;
+import manageezpz.model.task.Description;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.exceptions.DuplicateTaskException;
+
+/**
+ * Builds the model's {@code AddressBook} from Jackson-friendly persons and tasks, one record at a time.
+ * All persons have to be added before the tasks that are assigned to them.
+ *
+ * Assignees are resolved and duplicates are detected through hashing, and the address book is only built once
+ * all records have been added, so that loading takes time linear in the number of records.
+ *
+ * Persons saved without an id are given ids after the largest saved id, in the order they were added, once all
+ * persons have been added, that is when the first task is added or the address book is built. Tasks saved without
+ * assignee ids can then be assigned to them by name.
+ *
+ * Tasks are buffered in batches, and each batch is converted in parallel in fork-join chunks. The converted tasks
+ * are then merged in the order they were added, so the result and any error reported are the same as if the tasks
+ * were converted one by one.
+ *
+ * The changes in a change log can be applied on top of the records added, before the address book is built.
+ */
+class AddressBookLoader {
+
+    static final int TASK_BATCH_SIZE = 8192;
+    private static final int TASK_CHUNK_SIZE = 256;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<JsonAdaptedTask> pendingTasks = new ArrayList<>();
+
+    private final List<Integer> positionsWithoutIds = new ArrayList<>();
+    private int maxId = Person.UNASSIGNED_ID;
+
+    private final Map<String, Person> personsByName = new HashMap<>();
+    private final Map<Integer, Person> personsById = new HashMap<>();
+    private final Set<Phone> phones = new HashSet<>();
+    private final Set<Email> emails = new HashSet<>();
+    private final Set<Description> descriptions = new HashSet<>();
+    private final Map<Integer, Integer> assignedCounts = new HashMap<>();
+
+    /**
+     * Converts {@code jsonAdaptedPerson} and adds it to the address book.
+     *
+     * @throws IllegalValueException if the person is invalid or already in the address book.
+     */
+    public void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        assert tasks.isEmpty() && pendingTasks.isEmpty() : "All persons should be added before any task";
+        Person person = jsonAdaptedPerson.toModelType();
+        String name = person.getName().toString();
+        if (personsByName.containsKey(name) || phones.contains(person.getPhone())
+                || emails.contains(person.getEmail()) || personsById.containsKey(person.getId())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        phones.add(person.getPhone());
+        emails.add(person.getEmail());
+        if (person.hasId()) {
+            maxId = Math.max(maxId, person.getId());
+            addPersonWithId(person);
+        } else {
+            personsByName.put(name, person);
+            positionsWithoutIds.add(persons.size());
+        }
+        persons.add(person);
+    }
+
+    private void addPersonWithId(Person person) {
+        personsByName.put(person.getName().toString(), person);
+        personsById.put(person.getId(), person);
+        assignedCounts.put(person.getId(), 0);
+    }
+
+    /**
+     * Gives ids to the persons added without one, after the largest id of all persons added.
+     */
+    private void assignMissingIds() {
+        for (int position : positionsWithoutIds) {
+            Person person = persons.get(position).withId(++maxId);
+            persons.set(position, person);
+            addPersonWithId(person);
+        }
+        positionsWithoutIds.clear();
+    }
+
+    /**
+     * Queues {@code jsonAdaptedTask} to be converted, assigning it to the persons added so far, and added to the
+     * address book.
+     *
+     * @throws IllegalValueException if the task, or any task queued before it, is invalid or already in the address
+     *     book.
+     */
+    public void addTask(JsonAdaptedTask jsonAdaptedTask) throws IllegalValueException {
+        assignMissingIds();
+        pendingTasks.add(jsonAdaptedTask);
+        if (pendingTasks.size() >= TASK_BATCH_SIZE) {
+            addPendingTasks();
+        }
+    }
+
+    /**
+     * Converts the queued tasks in parallel, then adds them in the order they were queued.
+     */
+    private void addPendingTasks() throws IllegalValueException {
+        assignMissingIds();
+        Task[] converted = new Task[pendingTasks.size()];
+        RuntimeException[] failures = new RuntimeException[pendingTasks.size()];
+        IllegalValueException[] invalidValues = new IllegalValueException[pendingTasks.size()];
+        ForkJoinPool.commonPool().invoke(
+                new ConvertTasks(pendingTasks, personsByName, personsById, 0, pendingTasks.size(),
+                        converted, invalidValues, failures));
+        pendingTasks.clear();
+
+        for (int i = 0; i < converted.length; i++) {
+            if (invalidValues[i] != null) {
+                throw invalidValues[i];
+            }
+            if (failures[i] != null) {
+                throw failures[i];
+            }
+            addConvertedTask(converted[i]);
+        }
+    }
+
+    private void addConvertedTask(Task task) throws IllegalValueException {
+        if (!descriptions.add(task.getDescription())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASKS);
+        }
+        for (int assigneeId : task.getAssigneeIds()) {
+            assignedCounts.computeIfPresent(assigneeId, (id, count) -> count + 1);
+        }
+        tasks.add(task);
+    }
+
+    /**
+     * Returns the loaded address book.
+     *
+     * @throws IllegalValueException if the stored number of tasks of any person does not match their assigned tasks.
+     */
+    public AddressBook getAddressBook() throws IllegalValueException {
+        addPendingTasks();
+        for (Person person : persons) {
+            if (assignedCounts.get(person.getId()) != person.getNumOfTasks()) {
+                throw new IllegalValueException(MESSAGE_INVALID_JSON_VALUE);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setTasks(tasks);
+        return addressBook;
+    }
+
+    /**
+     * Returns the loaded address book with {@code changes} applied on top of it, in order.
+     *
+     * @throws IllegalValueException if a change is invalid, or the persons and tasks left after the changes are
+     *     duplicated, assigned to unknown persons or do not match the stored number of tasks of their assignees.
+     */
+    public AddressBook getAddressBook(List<JsonAdaptedChange> changes) throws IllegalValueException {
+        if (changes.isEmpty()) {
+            return getAddressBook();
+        }
+
+        addPendingTasks();
+        for (JsonAdaptedChange change : changes) {
+            change.applyTo(persons, tasks, personsByName, personsById);
+        }
+
+        Map<Integer, Integer> countsAfterChanges = new HashMap<>();
+        for (Task task : tasks) {
+            for (int assigneeId : task.getAssigneeIds()) {
+                if (!personsById.containsKey(assigneeId)) {
+                    throw new IllegalValueException(MESSAGE_INVALID_JSON_VALUE);
+                }
+                countsAfterChanges.merge(assigneeId, 1, Integer::sum);
+            }
+        }
+        for (Person person : persons) {
+            if (countsAfterChanges.getOrDefault(person.getId(), 0) != person.getNumOfTasks()) {
+                throw new IllegalValueException(MESSAGE_INVALID_JSON_VALUE);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+        try {
+            addressBook.setTasks(tasks);
+        } catch (DuplicateTaskException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASKS);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Converts a range of the queued tasks, splitting it into chunks that are converted in parallel.
+     * Records the outcome of each task at its position in the queue, as the persons maps are only read.
+     */
+    private static class ConvertTasks extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List<JsonAdaptedTask> source;
+        private final Map<String, Person> personsByName;
+        private final Map<Integer, Person> personsById;
+        private final int from;
+        private final int to;
+        private final Task[] converted;
+        private final IllegalValueException[] invalidValues;
+        private final RuntimeException[] failures;
+
+        private ConvertTasks(List<JsonAdaptedTask> source, Map<String, Person> personsByName,
+                             Map<Integer, Person> personsById, int from, int to, Task[] converted,
+                             IllegalValueException[] invalidValues, RuntimeException[] failures) {
+            this.source = source;
+            this.personsByName = personsByName;
+            this.personsById = personsById;
+            this.from = from;
+            this.to = to;
+            this.converted = converted;
+            this.invalidValues = invalidValues;
+            this.failures = failures;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > TASK_CHUNK_SIZE) {
+                int mid = (from + to) >>> 1;
+                invokeAll(split(from, mid), split(mid, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                try {
+                    converted[i] = source.get(i).toModelType(personsByName, personsById);
+                } catch (IllegalValueException ive) {
+                    invalidValues[i] = ive;
+                } catch (RuntimeException re) {
+                    failures[i] = re;
+                }
+            }
+        }
+
+        private ConvertTasks split(int start, int end) {
+            return new ConvertTasks(source, personsByName, personsById, start, end, converted, invalidValues,
+                    failures);
+        }
+    }
+}
@@ -43,4 +43,21 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Captures the given {@link ReadOnlyAddressBook} for saving to the storage, without writing it yet.
+     * Must be called on the thread that changes the address book.
+     * @param addressBook cannot be null.
+     * @return the captured save, to be written later.
+     * @throws IOException if there was any problem capturing the data.
+     */
+    PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
+
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage as a full snapshot,
+     * folding in any incremental changes saved before.
+     * @param addressBook cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException;
+
 }
@@ -0,0 +1,124 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.ReadOnlyUserPrefs;
+import manageezpz.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that address book saves are held back until {@link #flush()} is called.
+ *
+ * Each save only records the address book to be saved, so that the changes of many commands are written together
+ * by a single save. All other operations are passed on to the wrapped storage, after writing the held back save if
+ * they read or write the address book.
+ */
+public class DeferredSaveStorage implements Storage {
+
+    private final Storage storage;
+    private ReadOnlyAddressBook deferredAddressBook;
+
+    /**
+     * Creates a {@code DeferredSaveStorage} that holds back address book saves to {@code storage}.
+     * @param storage the storage to write to.
+     */
+    public DeferredSaveStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Records {@code addressBook} to be saved by the next {@link #flush()}, replacing any save held back before.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        deferredAddressBook = addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        return storage.prepareSaveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        storage.saveAddressBookSnapshot(addressBook);
+    }
+
+    @Override
+    public void throwIfSaveFailed() throws IOException {
+        storage.throwIfSaveFailed();
+    }
+
+    /**
+     * Returns true if a save is held back and has not been written yet.
+     */
+    public boolean hasDeferredSave() {
+        return deferredAddressBook != null;
+    }
+
+    /**
+     * Writes the save held back, if any.
+     * The save is kept to be written by the next flush if writing it fails.
+     * @throws IOException if the save could not be written.
+     */
+    public void flush() throws IOException {
+        if (deferredAddressBook == null) {
+            return;
+        }
+        storage.saveAddressBook(deferredAddressBook);
+        storage.throwIfSaveFailed();
+        deferredAddressBook = null;
+    }
+
+}
@@ -0,0 +1,126 @@
+package manageezpz.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * Jackson-friendly record of a single change to the person list or the task list of an address book.
+ * A change removes {@code removed} elements starting at index {@code from}, then inserts the added
+ * persons or tasks at the same index.
+ */
+class JsonAdaptedChange {
+
+    public static final String PERSONS_LIST = "persons";
+    public static final String TASKS_LIST = "tasks";
+    public static final String INVALID_CHANGE_MESSAGE = "Change log contains an invalid change!";
+
+    private final String list;
+    private final int from;
+    private final int removed;
+    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<JsonAdaptedTask> tasks = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedChange(@JsonProperty("list") String list, @JsonProperty("from") int from,
+                             @JsonProperty("removed") int removed,
+                             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
+                             @JsonProperty("tasks") List<JsonAdaptedTask> tasks) {
+        this.list = list;
+        this.from = from;
+        this.removed = removed;
+        if (persons != null) {
+            this.persons.addAll(persons);
+        }
+        if (tasks != null) {
+            this.tasks.addAll(tasks);
+        }
+    }
+
+    /**
+     * Creates a change to the person list that replaces {@code removed} persons at {@code from}
+     * with {@code addedPersons}.
+     */
+    public static JsonAdaptedChange ofPersons(int from, int removed, List<? extends Person> addedPersons) {
+        return new JsonAdaptedChange(PERSONS_LIST, from, removed,
+                addedPersons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()), null);
+    }
+
+    /**
+     * Creates a change to the task list that replaces {@code removed} tasks at {@code from}
+     * with {@code addedTasks}.
+     */
+    public static JsonAdaptedChange ofTasks(int from, int removed, List<? extends Task> addedTasks) {
+        return new JsonAdaptedChange(TASKS_LIST, from, removed, null,
+                addedTasks.stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the number of persons and tasks added by this change, or 1 if it only removes elements.
+     */
+    public int getWeight() {
+        return Math.max(1, persons.size() + tasks.size());
+    }
+
+    /**
+     * Applies this change to the given person and task lists, converting the persons and tasks it adds.
+     * The added tasks are assigned to the persons in {@code personsByName} and {@code personsById}, which are kept
+     * up to date with the persons removed and added by this change.
+     *
+     * @throws IllegalValueException if the change does not fit the lists it is applied to, or an added person or
+     *     task is invalid.
+     */
+    public void applyTo(List<Person> personList, List<Task> taskList, Map<String, Person> personsByName,
+                        Map<Integer, Person> personsById) throws IllegalValueException {
+        if (PERSONS_LIST.equals(list)) {
+            List<Person> addedPersons = new ArrayList<>(persons.size());
+            for (JsonAdaptedPerson person : persons) {
+                addedPersons.add(person.toModelType());
+            }
+            for (Person removedPerson : splice(personList, addedPersons)) {
+                personsByName.remove(removedPerson.getName().toString());
+                personsById.remove(removedPerson.getId());
+            }
+            for (Person addedPerson : addedPersons) {
+                personsByName.put(addedPerson.getName().toString(), addedPerson);
+                if (addedPerson.hasId()) {
+                    personsById.put(addedPerson.getId(), addedPerson);
+                }
+            }
+        } else if (TASKS_LIST.equals(list)) {
+            List<Task> addedTasks = new ArrayList<>(tasks.size());
+            for (JsonAdaptedTask task : tasks) {
+                addedTasks.add(task.toModelType(personsByName, personsById));
+            }
+            splice(taskList, addedTasks);
+        } else {
+            throw new IllegalValueException(INVALID_CHANGE_MESSAGE);
+        }
+    }
+
+    /**
+     * Replaces the elements of {@code target} that this change removes with {@code added}.
+     * @return the removed elements.
+     */
+    private <T> List<T> splice(List<T> target, List<T> added) throws IllegalValueException {
+        if (from < 0 || removed < 0 || from + removed > target.size()) {
+            throw new IllegalValueException(INVALID_CHANGE_MESSAGE);
+        }
+        List<T> removedElements = target.subList(from, from + removed);
+        List<T> removedCopy = new ArrayList<>(removedElements);
+        removedElements.clear();
+        target.addAll(from, added);
+        return removedCopy;
+    }
+}
@@ -11,11 +11,14 @@ import manageezpz.model.person.Phone;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Persons saved before they had ids have no id, and are given one when they are loaded.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String INVALID_ID_MESSAGE = "Person's id should be a positive number!";
 
+    private final Integer id;
     private final String name;
     private final String phone;
     private final String email;
@@ -25,18 +28,28 @@ class JsonAdaptedPerson {
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("numOfTask") int numOfTask) {
+    public JsonAdaptedPerson(@JsonProperty("id") Integer id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("numOfTask") int numOfTask) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.numOfTask = numOfTask;
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} without an id with the given person details.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, int numOfTask) {
+        this(null, name, phone, email, numOfTask);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.hasId() ? source.getId() : null;
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -45,10 +58,16 @@ class JsonAdaptedPerson {
 
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
+     * The person has no id if none was saved.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        if (id != null && id <= Person.UNASSIGNED_ID) {
+            throw new IllegalValueException(INVALID_ID_MESSAGE);
+        }
+        final int modelId = id == null ? Person.UNASSIGNED_ID : id;
+
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
@@ -75,7 +94,7 @@ class JsonAdaptedPerson {
             throw new IllegalValueException(Email.MESSAGE_CONSTRAINTS);
         }
         final Email modelEmail = new Email(email);
-        return new Person(modelName, modelPhone, modelEmail, numOfTask);
+        return new Person(modelId, modelName, modelPhone, modelEmail, numOfTask);
     }
 
 }
@@ -1,14 +1,17 @@
 package manageezpz.storage;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.StringJoiner;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-import javafx.collections.ObservableList;
 import manageezpz.commons.exceptions.IllegalValueException;
 import manageezpz.model.person.Person;
+import manageezpz.model.task.Assignees;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Description;
@@ -21,6 +24,11 @@ import manageezpz.model.tasktag.Tag;
 
 /**
  * Jackson-friendly version of {@link Task}.
+ *
+ * The assignees of a task are saved as the ids of the persons assigned to it. Tasks saved before persons had ids
+ * have no assignee ids, and are instead assigned to the persons named in their comma-separated tag when they are
+ * loaded. Data files are still saved with the names of the assignees in the tag, so that the previous release,
+ * which only reads the tag, can read them too.
  */
 class JsonAdaptedTask {
 
@@ -31,6 +39,7 @@ class JsonAdaptedTask {
     public static final String NULL_STATUS_MESSAGE_FORMAT = "Task's status cannot be null!";
     public static final String INVALID_STATUS_MESSAGE_FORMAT = "Task's status is invalid!";
     public static final String NULL_TAG_MESSAGE_FORMAT = "Task's tag cannot be null!";
+    public static final String UNKNOWN_ASSIGNEE_MESSAGE_FORMAT = "Task's assignee with id %d does not exist!";
     public static final String NULL_PRIORITY_MESSAGE_FORMAT = "Task's priority cannot be null!";
     public static final String INVALID_PRIORITY_MESSAGE_FORMAT = "Task's priority is invalid!";
 
@@ -53,11 +62,25 @@ class JsonAdaptedTask {
     private String eventStartTime;
     private String eventEndTime;
     private String status;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String tag;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<Integer> assignees;
     private String priority;
 
     /**
-     * Constructs a {@code JsonAdaptedTask} with the given person details.
+     * Constructs a {@code JsonAdaptedTask} with the given task details, assigned to the persons named in
+     * {@code tag}.
+     */
+    public JsonAdaptedTask(String type, String status, String description, String date, String deadlineTime,
+                           String eventStartTime, String eventEndTime, String tag, String priority) {
+        this(type, status, description, date, deadlineTime, eventStartTime, eventEndTime, tag, null, priority);
+    }
+
+    /**
+     * Constructs a {@code JsonAdaptedTask} with the given task details.
+     * The task is assigned to the persons with the ids in {@code assignees}, or to the persons named in {@code tag}
+     * if there are no ids.
      */
     @JsonCreator
     public JsonAdaptedTask(@JsonProperty("type") String type, @JsonProperty("status") String status,
@@ -66,6 +89,7 @@ class JsonAdaptedTask {
                            @JsonProperty("eventStartTime") String eventStartTime,
                            @JsonProperty("eventEndTime") String eventEndTime,
                            @JsonProperty("tag") String tag,
+                           @JsonProperty("assignees") List<Integer> assignees,
                            @JsonProperty("priority") String priority) {
         this.description = description;
         this.status = status;
@@ -75,6 +99,7 @@ class JsonAdaptedTask {
         this.eventStartTime = eventStartTime;
         this.eventEndTime = eventEndTime;
         this.tag = tag;
+        this.assignees = assignees;
         this.priority = priority;
     }
 
@@ -100,62 +125,83 @@ class JsonAdaptedTask {
             this.eventStartTime = "";
             this.eventEndTime = "";
         }
-        List<Person> personList = source.getAssignees();
+        this.assignees = new ArrayList<>();
+        for (int assigneeId : source.getAssigneeIds()) {
+            this.assignees.add(assigneeId);
+        }
+    }
+
+    /**
+     * Converts a given {@code Task} into this class for Jackson use, also saving the names of its {@code assignees}
+     * in its tag.
+     */
+    public JsonAdaptedTask(Task source, List<Person> assignees) {
+        this(source);
         StringJoiner joiner = new StringJoiner(", ");
-        personList.forEach(item -> joiner.add(item.getName().toString()));
+        assignees.forEach(assignee -> joiner.add(assignee.getName().toString()));
         this.tag = joiner.toString();
     }
 
     /**
-     * Converts this Jackson-friendly adapted person object into the model's {@code Task} object.
+     * Converts this Jackson-friendly adapted task object into the model's {@code Task} object, assigning it to
+     * the persons in {@code personsById} with its assignee ids, or if it has none, to the persons in
+     * {@code personsByName} that are named in its tag.
      *
-     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     * @throws IllegalValueException if there were any data constraints violated in the adapted task, or any of its
+     *     assignee ids is not in {@code personsById}.
      */
-    public Task toModelType(ObservableList<Person> persons) throws IllegalValueException {
+    public Task toModelType(Map<String, Person> personsByName, Map<Integer, Person> personsById)
+            throws IllegalValueException {
         handleGeneralNullChecks(description, type, status, tag, priority);
         Description desc = new Description(description);
         boolean isDone = status.equals("X");
         if (type.equals("todo")) {
             Todo newTodo = new Todo(desc);
-            handleLoad(newTodo, isDone, priority, tag, persons);
-            return newTodo;
+            return handleLoad(newTodo, isDone, priority, personsByName, personsById);
         } else if (type.equals("deadline")) {
             handleDeadlineNullChecks(date, deadlineTime);
             Date currDeadlineDate = new Date(date);
             Time currDeadlineTime = new Time(deadlineTime);
             Deadline newDeadline = new Deadline(desc, currDeadlineDate, currDeadlineTime);
-            handleLoad(newDeadline, isDone, priority, tag, persons);
-            return newDeadline;
+            return handleLoad(newDeadline, isDone, priority, personsByName, personsById);
         } else {
             handleEventNullChecks(date, eventStartTime, eventEndTime);
             Date currEventDate = new Date(date);
             Time currEventStartTime = new Time(eventStartTime);
             Time currEventEndTime = new Time(eventEndTime);
             Event newEvent = new Event(desc, currEventDate, currEventStartTime, currEventEndTime);
-            handleLoad(newEvent, isDone, priority, tag, persons);
-            return newEvent;
+            return handleLoad(newEvent, isDone, priority, personsByName, personsById);
         }
     }
 
-    public void handleLoad(Task task, boolean isDone, String priority,
-                           String tag, ObservableList<Person> persons) {
-        if (isDone) {
-            task.setTaskDone();
-        }
+    /**
+     * Returns {@code task} with the status, priority and assignees of this adapted task.
+     */
+    public Task handleLoad(Task task, boolean isDone, String priority, Map<String, Person> personsByName,
+                           Map<Integer, Person> personsById) throws IllegalValueException {
+        Task loadedTask = task.withDone(isDone);
         if (priority != null && !priority.isEmpty()) {
-            task.setPriority(priority);
+            loadedTask = loadedTask.withPriority(Priority.valueOf(priority));
+        }
+        Assignees taskAssignees = Assignees.EMPTY;
+        if (assignees != null) {
+            for (Integer assigneeId : assignees) {
+                if (assigneeId == null || !personsById.containsKey(assigneeId)) {
+                    throw new IllegalValueException(String.format(UNKNOWN_ASSIGNEE_MESSAGE_FORMAT, assigneeId));
+                }
+                taskAssignees = taskAssignees.with(assigneeId);
+            }
+            return loadedTask.withAssignees(taskAssignees);
         }
         String[] tagList = tag.split(",");
         for (int i = 0; i < tagList.length; i++) {
             String currentTag = tagList[i].trim();
-            for (int j = 0; j < persons.size(); j++) {
-                Person matchedPerson;
-                if (persons.get(j).getName().toString().equals(currentTag)) {
-                    matchedPerson = persons.get(j);
-                    task.addAssignees(matchedPerson);
-                }
+            Person matchedPerson = personsByName.get(currentTag);
+            if (matchedPerson != null && matchedPerson.hasId()) {
+                taskAssignees = taskAssignees.with(matchedPerson.getId());
             }
         }
+        return loadedTask.withAssignees(taskAssignees);
     }
 
     public void handleGeneralNullChecks(String description, String type, String status, String tag, String priority)
@@ -200,7 +246,7 @@ class JsonAdaptedTask {
     }
 
     public void handleTagChecks(String tag) throws IllegalValueException {
-        if (tag == null) {
+        if (tag == null && assignees == null) {
             throw new IllegalValueException(String.format(NULL_TAG_MESSAGE_FORMAT, Tag.class.getSimpleName()));
         }
     }
@@ -2,7 +2,10 @@ package manageezpz.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -11,11 +14,11 @@ import manageezpz.commons.core.LogsCenter;
 import manageezpz.commons.exceptions.DataConversionException;
 import manageezpz.commons.exceptions.IllegalValueException;
 import manageezpz.commons.util.FileUtil;
-import manageezpz.commons.util.JsonUtil;
 import manageezpz.model.ReadOnlyAddressBook;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is replaced atomically on every save, keeping its previous version as a backup.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
@@ -45,14 +48,18 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        AddressBookLoader loader = new AddressBookLoader();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(filePath))) {
+            JsonAddressBookStream.read(in, loader::addPerson, loader::addTask);
+            return Optional.of(loader.getAddressBook());
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -73,8 +80,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> JsonAddressBookStream.write(out, addressBook));
+    }
+
+    @Override
+    public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        Path filePath = this.filePath;
+        return new PendingAddressBookSave() {
+            @Override
+            public boolean isComplete() {
+                return true;
+            }
+
+            @Override
+            public void write() throws IOException {
+                FileUtil.writeToFileAtomically(filePath, out -> JsonAddressBookStream.write(out, snapshot));
+            }
+        };
+    }
+
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
     }
 
 }
@@ -0,0 +1,135 @@
+package manageezpz.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.model.ReadOnlyAddressBook;
+
+/**
+ * Reads and writes address book data in the format of {@link JsonSerializableAddressBook} one person or task
+ * at a time, so that the whole file never has to be held in memory.
+ */
+class JsonAddressBookStream {
+
+    private static final String PERSONS_FIELD = "persons";
+    private static final String TASKS_FIELD = "tasks";
+
+    /**
+     * Handles a single record read from the stream.
+     */
+    @FunctionalInterface
+    interface RecordHandler<T> {
+        void handle(T record) throws IllegalValueException;
+    }
+
+    private JsonAddressBookStream() {}
+
+    /**
+     * Reads the persons and tasks from {@code in} and passes each of them to the given handlers as soon as it is read.
+     * All persons are handled before any task, even if the tasks come first in the stream.
+     * The stream is read to its end.
+     *
+     * @throws IOException if the stream is not in the expected format.
+     * @throws IllegalValueException if a handler rejects a record.
+     */
+    public static void read(InputStream in, RecordHandler<JsonAdaptedPerson> personHandler,
+                            RecordHandler<JsonAdaptedTask> taskHandler) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected address book data to be a JSON object");
+            }
+
+            boolean hasReadPersons = false;
+            List<JsonAdaptedTask> tasksBeforePersons = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                if (valueToken != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                } else if (PERSONS_FIELD.equals(fieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        personHandler.handle(JsonUtil.readValue(parser, JsonAdaptedPerson.class));
+                    }
+                    hasReadPersons = true;
+                    for (JsonAdaptedTask task : tasksBeforePersons) {
+                        taskHandler.handle(task);
+                    }
+                    tasksBeforePersons.clear();
+                } else if (TASKS_FIELD.equals(fieldName)) {
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        JsonAdaptedTask task = JsonUtil.readValue(parser, JsonAdaptedTask.class);
+                        if (hasReadPersons) {
+                            taskHandler.handle(task);
+                        } else {
+                            tasksBeforePersons.add(task);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (parser.getCurrentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw new JsonParseException(parser, "Unexpected content after address book data");
+            }
+
+            for (JsonAdaptedTask task : tasksBeforePersons) {
+                taskHandler.handle(task);
+            }
+        }
+    }
+
+    /**
+     * Writes the persons and tasks of {@code addressBook} to {@code out}, converting and writing them one at a time.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void write(OutputStream out, ReadOnlyAddressBook addressBook) throws IOException {
+        write(out, () -> addressBook.getPersonList().stream().map(JsonAdaptedPerson::new).iterator(), () ->
+                addressBook.getTaskList().stream()
+                        .map(task -> new JsonAdaptedTask(task, addressBook.getAssignees(task))).iterator());
+    }
+
+    /**
+     * Writes the persons and tasks of {@code addressBook} to {@code out}.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void write(OutputStream out, JsonSerializableAddressBook addressBook) throws IOException {
+        write(out, addressBook.getPersons(), addressBook.getTasks());
+    }
+
+    /**
+     * Writes the given persons and tasks to {@code out}, converting and writing them one at a time.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void write(OutputStream out, Iterable<JsonAdaptedPerson> persons, Iterable<JsonAdaptedTask> tasks)
+            throws IOException {
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            writeArray(generator, PERSONS_FIELD, persons);
+            writeArray(generator, TASKS_FIELD, tasks);
+            generator.writeEndObject();
+        }
+    }
+
+    private static <T> void writeArray(JsonGenerator generator, String fieldName, Iterable<T> records)
+            throws IOException {
+        generator.writeArrayFieldStart(fieldName);
+        for (T record : records) {
+            JsonUtil.writeValue(generator, record);
+        }
+        generator.writeEndArray();
+    }
+}
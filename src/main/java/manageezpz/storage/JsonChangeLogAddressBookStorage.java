@@ -0,0 +1,348 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import javafx.collections.ListChangeListener;
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot file plus an append-only change log on the hard disk.
+ *
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}. After the snapshot is
+ * written, the storage listens to the person and task lists of the saved address book, and each later save only
+ * appends the recorded changes to the change log, one {@link JsonAdaptedChange} per line. The change log is compacted
+ * into a new snapshot once it holds more than the compaction threshold, or when {@link #saveAddressBookSnapshot}
+ * is called.
+ *
+ * Saves can be prepared on the thread that changes the address book and written on another thread, see
+ * {@link PendingAddressBookSave}.
+ *
+ * The first line of the change log holds the checksum of the snapshot it applies to, so that a change log left
+ * behind by an interrupted compaction is ignored instead of being replayed onto the newer snapshot. When a new
+ * snapshot is written, the change log is backed up along with the previous snapshot, so that restoring both
+ * backups restores the last saved address book.
+ */
+public class JsonChangeLogAddressBookStorage implements AddressBookStorage {
+
+    public static final String CHANGE_LOG_SUFFIX = ".log";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final Logger logger = LogsCenter.getLogger(JsonChangeLogAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+
+    private final List<JsonAdaptedChange> pendingChanges = new ArrayList<>();
+    private final ListChangeListener<Person> personListener = this::recordPersonChanges;
+    private final ListChangeListener<Task> taskListener = this::recordTaskChanges;
+
+    private ReadOnlyAddressBook trackedAddressBook;
+    private Path trackedFilePath;
+    private volatile boolean isSnapshotNeeded;
+    private int loggedWeight;
+
+    public JsonChangeLogAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JsonChangeLogAddressBookStorage} that compacts its change log into a new snapshot
+     * once the log holds more than {@code compactionThreshold} added persons and tasks.
+     */
+    public JsonChangeLogAddressBookStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the change log that belongs to the snapshot at {@code filePath}.
+     */
+    public static Path getChangeLogFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHANGE_LOG_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Loads the snapshot at {@code filePath} one record at a time, then applies its change log, if any, on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the snapshot or the change log is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        try {
+            CRC32 snapshotChecksum = new CRC32();
+            try (InputStream in = new CheckedInputStream(
+                    new BufferedInputStream(Files.newInputStream(filePath)), snapshotChecksum)) {
+                JsonAddressBookStream.read(in, loader::addPerson, loader::addTask);
+            }
+
+            return Optional.of(loader.getAddressBook(readChangeLog(filePath, snapshotChecksum.getValue())));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    /**
+     * Returns the changes in the change log of the snapshot at {@code filePath}, or no changes if the change log
+     * is missing or belongs to a different snapshot. An incomplete last line, left behind by an interrupted append,
+     * is skipped.
+     */
+    private List<JsonAdaptedChange> readChangeLog(Path filePath, long snapshotChecksum) throws IOException {
+        List<JsonAdaptedChange> changes = new ArrayList<>();
+        Path changeLogFilePath = getChangeLogFilePath(filePath);
+        if (!Files.exists(changeLogFilePath)) {
+            return changes;
+        }
+
+        List<String> lines = Files.readAllLines(changeLogFilePath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).trim().equals(String.valueOf(snapshotChecksum))) {
+            if (lines.size() > 1) {
+                logger.warning("Change log " + changeLogFilePath + " does not belong to " + filePath
+                        + ", ignoring its " + (lines.size() - 1) + " changes");
+            } else {
+                logger.info("Change log " + changeLogFilePath + " does not belong to " + filePath + ", ignoring it");
+            }
+            return changes;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                changes.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedChange.class));
+            } catch (IOException ioe) {
+                if (i < lines.size() - 1) {
+                    throw ioe;
+                }
+                logger.warning("Skipping incomplete last change in " + changeLogFilePath);
+            }
+        }
+        return changes;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only appends the changes made since the last save if {@code addressBook} was last saved to the same
+     * {@code filePath}, otherwise writes a full snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        prepareSave(addressBook, filePath).write();
+    }
+
+    @Override
+    public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        return prepareSave(addressBook, filePath);
+    }
+
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        prepareSnapshot(addressBook, filePath).write();
+    }
+
+    private PendingAddressBookSave prepareSave(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        if (addressBook != trackedAddressBook || !filePath.equals(trackedFilePath) || isSnapshotNeeded
+                || loggedWeight + pendingWeight() > compactionThreshold) {
+            return prepareSnapshot(addressBook, filePath);
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedChange change : pendingChanges) {
+            lines.append(JsonUtil.toJsonLine(change)).append(System.lineSeparator());
+        }
+        loggedWeight += pendingWeight();
+        pendingChanges.clear();
+
+        return new ChangeLogAppend(filePath, lines.toString());
+    }
+
+    /**
+     * Captures {@code addressBook} as a full snapshot for {@code filePath} and tracks its changes from now on.
+     * Writing the snapshot also starts a new change log for it.
+     */
+    private PendingAddressBookSave prepareSnapshot(ReadOnlyAddressBook addressBook, Path filePath)
+            throws IOException {
+        JsonSerializableAddressBook snapshot = new JsonSerializableAddressBook(addressBook);
+        track(addressBook, filePath);
+
+        return new SnapshotSave(snapshot, filePath, "");
+    }
+
+    private void track(ReadOnlyAddressBook addressBook, Path filePath) {
+        if (addressBook != trackedAddressBook) {
+            if (trackedAddressBook != null) {
+                trackedAddressBook.getPersonList().removeListener(personListener);
+                trackedAddressBook.getTaskList().removeListener(taskListener);
+            }
+            addressBook.getPersonList().addListener(personListener);
+            addressBook.getTaskList().addListener(taskListener);
+            trackedAddressBook = addressBook;
+        }
+        trackedFilePath = filePath;
+        isSnapshotNeeded = false;
+        loggedWeight = 0;
+        pendingChanges.clear();
+    }
+
+    private void recordPersonChanges(ListChangeListener.Change<? extends Person> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isSnapshotNeeded = true;
+            } else {
+                pendingChanges.add(JsonAdaptedChange.ofPersons(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+
+    private void recordTaskChanges(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                isSnapshotNeeded = true;
+            } else {
+                pendingChanges.add(JsonAdaptedChange.ofTasks(change.getFrom(), change.getRemovedSize(),
+                        change.getAddedSubList()));
+            }
+        }
+    }
+
+    private int pendingWeight() {
+        return pendingChanges.stream().mapToInt(JsonAdaptedChange::getWeight).sum();
+    }
+
+    /**
+     * A save that writes a full snapshot and starts its change log with the given change lines.
+     */
+    private class SnapshotSave implements PendingAddressBookSave {
+        private final JsonSerializableAddressBook snapshot;
+        private final Path filePath;
+        private final String changeLines;
+
+        private SnapshotSave(JsonSerializableAddressBook snapshot, Path filePath, String changeLines) {
+            this.snapshot = snapshot;
+            this.filePath = filePath;
+            this.changeLines = changeLines;
+        }
+
+        @Override
+        public boolean isComplete() {
+            return true;
+        }
+
+        @Override
+        public void write() throws IOException {
+            try {
+                CRC32 snapshotChecksum = new CRC32();
+                FileUtil.writeToFileAtomically(filePath, out ->
+                        JsonAddressBookStream.write(new CheckedOutputStream(out, snapshotChecksum), snapshot));
+                // The backup of the change log goes with the backup of the snapshot that it applies to. Until it is
+                // moved, the change log is ignored, as it does not belong to the new snapshot.
+                FileUtil.backUpFile(getChangeLogFilePath(filePath));
+                FileUtil.writeToFile(getChangeLogFilePath(filePath),
+                        snapshotChecksum.getValue() + System.lineSeparator() + changeLines);
+            } catch (IOException ioe) {
+                isSnapshotNeeded = true;
+                throw ioe;
+            }
+        }
+
+        @Override
+        public Optional<PendingAddressBookSave> mergeWith(PendingAddressBookSave next) {
+            if (!(next instanceof ChangeLogAppend) || !filePath.equals(((ChangeLogAppend) next).filePath)) {
+                return Optional.empty();
+            }
+            return Optional.of(new SnapshotSave(snapshot, filePath, changeLines + ((ChangeLogAppend) next).lines));
+        }
+    }
+
+    /**
+     * A save that appends change lines to the change log.
+     */
+    private class ChangeLogAppend implements PendingAddressBookSave {
+        private final Path filePath;
+        private final String lines;
+
+        private ChangeLogAppend(Path filePath, String lines) {
+            this.filePath = filePath;
+            this.lines = lines;
+        }
+
+        @Override
+        public boolean isComplete() {
+            return false;
+        }
+
+        @Override
+        public void write() throws IOException {
+            if (lines.isEmpty()) {
+                return;
+            }
+            try {
+                FileUtil.appendToFile(getChangeLogFilePath(filePath), lines);
+            } catch (IOException ioe) {
+                // The change log now misses these changes, so the next save has to be a full snapshot
+                isSnapshotNeeded = true;
+                throw ioe;
+            }
+        }
+
+        @Override
+        public Optional<PendingAddressBookSave> mergeWith(PendingAddressBookSave next) {
+            if (!(next instanceof ChangeLogAppend) || !filePath.equals(((ChangeLogAppend) next).filePath)) {
+                return Optional.empty();
+            }
+            return Optional.of(new ChangeLogAppend(filePath, lines + ((ChangeLogAppend) next).lines));
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+
+/**
+ * Writes persons or tasks as JSON in the format of the data file, so that other programs can read them with the
+ * same code that reads the data file.
+ *
+ * The records are converted and written one at a time, so only the records themselves are held in memory.
+ */
+public class JsonRecordWriter {
+
+    private JsonRecordWriter() {}
+
+    /**
+     * Writes {@code persons} to {@code out} as the persons of an address book without tasks.
+     * {@code out} is closed once the persons are written.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void writePersons(OutputStream out, List<Person> persons) throws IOException {
+        requireNonNull(persons);
+        JsonAddressBookStream.write(out, () -> persons.stream().map(JsonAdaptedPerson::new).iterator(),
+                Collections.emptyList());
+    }
+
+    /**
+     * Writes {@code tasks} to {@code out} as the tasks of an address book, together with the persons of
+     * {@code persons} that are assigned to them, so that the assignees of the tasks can be read back.
+     * The assignees are written as they are, so their number of tasks counts all their tasks, not only {@code tasks}.
+     * {@code out} is closed once the tasks are written.
+     *
+     * @throws IOException if there was any problem writing to the stream.
+     */
+    public static void writeTasks(OutputStream out, List<Task> tasks, List<Person> persons) throws IOException {
+        requireNonNull(tasks);
+        requireNonNull(persons);
+        Set<Integer> assigneeIds = new HashSet<>();
+        tasks.forEach(task -> task.getAssignees().stream().forEach(assigneeIds::add));
+        Map<Integer, Person> assigneesById = new LinkedHashMap<>();
+        persons.stream().filter(person -> assigneeIds.contains(person.getId()))
+                .forEach(person -> assigneesById.put(person.getId(), person));
+
+        Iterable<JsonAdaptedPerson> assignees = () -> assigneesById.values().stream().map(JsonAdaptedPerson::new)
+                .iterator();
+        Iterable<JsonAdaptedTask> adaptedTasks = () -> tasks.stream()
+                .map(task -> new JsonAdaptedTask(task, task.getAssignees().stream().mapToObj(assigneesById::get)
+                        .filter(Objects::nonNull).collect(Collectors.toList())))
+                .iterator();
+        JsonAddressBookStream.write(out, assignees, adaptedTasks);
+    }
+}
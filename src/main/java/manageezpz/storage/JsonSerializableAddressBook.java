@@ -1,7 +1,7 @@
 package manageezpz.storage;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -12,8 +12,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import manageezpz.commons.exceptions.IllegalValueException;
 import manageezpz.model.AddressBook;
 import manageezpz.model.ReadOnlyAddressBook;
-import manageezpz.model.person.Person;
-import manageezpz.model.task.Task;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -45,7 +43,22 @@ class JsonSerializableAddressBook {
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        tasks.addAll(source.getTaskList().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        tasks.addAll(source.getTaskList().stream().map(task -> new JsonAdaptedTask(task, source.getAssignees(task)))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns an unmodifiable view of the Jackson-friendly persons in this address book.
+     */
+    List<JsonAdaptedPerson> getPersons() {
+        return Collections.unmodifiableList(persons);
+    }
+
+    /**
+     * Returns an unmodifiable view of the Jackson-friendly tasks in this address book.
+     */
+    List<JsonAdaptedTask> getTasks() {
+        return Collections.unmodifiableList(tasks);
     }
 
     /**
@@ -54,48 +67,13 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        HashMap<Person, Integer> hm = new HashMap<>();
+        AddressBookLoader loader = new AddressBookLoader();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-            hm.put(person, 0);
+            loader.addPerson(jsonAdaptedPerson);
         }
-
         for (JsonAdaptedTask jsonAdaptedTask : tasks) {
-            Task task = jsonAdaptedTask.toModelType(addressBook.getPersonList());
-            if (addressBook.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASKS);
-            }
-            addressBook.addTask(task);
-        }
-
-        handleNumOfTask(addressBook.getTaskList(), addressBook.getPersonList(), hm);
-
-        return addressBook;
-    }
-
-
-    public void handleNumOfTask(List<Task> taskList, List<Person> personList, HashMap<Person, Integer> hm)
-            throws IllegalValueException {
-        for (Task task : taskList) {
-            List<Person> assigneesList = task.getAssignees();
-            for (int i = 0; i < assigneesList.size(); i++) {
-                Person currentPerson = assigneesList.get(i);
-                if (hm.containsKey(currentPerson)) {
-                    hm.put(currentPerson, hm.get(currentPerson) + 1);
-                }
-            }
-        }
-
-        for (Person person : personList) {
-            int numOfTask = hm.get(person);
-            if (numOfTask != person.getNumOfTasks()) {
-                throw new IllegalValueException(MESSAGE_INVALID_JSON_VALUE);
-            }
+            loader.addTask(jsonAdaptedTask);
         }
+        return loader.getAddressBook();
     }
 }
@@ -0,0 +1,34 @@
+package manageezpz.storage;
+
+import java.io.IOException;
+import java.util.Optional;
+
+/**
+ * Represents address book data that has been captured from the model for saving, but not yet written to the storage.
+ * Capturing has to happen on the thread that changes the model, while writing can happen on any thread.
+ */
+public interface PendingAddressBookSave {
+
+    /**
+     * Returns true if this save writes all of the address book data, making any earlier saves unnecessary.
+     * @return true if the save is complete, false if it only writes changes on top of earlier saves.
+     */
+    boolean isComplete();
+
+    /**
+     * Writes the captured data to the storage.
+     * @throws IOException if there was any problem writing to the storage.
+     */
+    void write() throws IOException;
+
+    /**
+     * Returns a save that writes the data of this save followed by that of {@code next} in a single write, if the
+     * two saves can be merged. By default, saves cannot be merged.
+     * @param next a save captured after this one.
+     * @return the merged save, or an empty Optional if the saves cannot be merged.
+     */
+    default Optional<PendingAddressBookSave> mergeWith(PendingAddressBookSave next) {
+        return Optional.empty();
+    }
+
+}
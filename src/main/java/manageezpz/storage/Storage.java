@@ -29,4 +29,11 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Throws the error of an earlier address book save that failed after {@link #saveAddressBook} returned, if any.
+     * Each error is only thrown once.
+     * @throws IOException if an earlier save failed.
+     */
+    void throwIfSaveFailed() throws IOException;
+
 }
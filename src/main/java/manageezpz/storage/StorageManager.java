@@ -77,4 +77,20 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        return addressBookStorage.prepareSaveAddressBook(addressBook);
+    }
+
+    @Override
+    public void throwIfSaveFailed() {
+        // Saves are written as soon as they are made, so their failures have been thrown already
+    }
+
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        logger.fine("Attempting to write snapshot to data file: " + getAddressBookFilePath());
+        addressBookStorage.saveAddressBookSnapshot(addressBook);
+    }
+
 }
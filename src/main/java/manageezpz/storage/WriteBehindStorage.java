@@ -0,0 +1,201 @@
+package manageezpz.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import manageezpz.commons.core.LogsCenter;
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.ReadOnlyUserPrefs;
+import manageezpz.model.UserPrefs;
+
+/**
+ * Wraps a {@code Storage} so that address book saves are written on a background thread.
+ *
+ * Each save is captured from the model on the calling thread, then queued for a single background thread. Saves
+ * that queue up while an earlier write is in progress are written together, skipping every save that is
+ * superseded by a later complete one and merging the rest where possible. A failed write is reported by the next
+ * call to {@link #throwIfSaveFailed()}.
+ * All other operations, as well as {@link #saveAddressBookSnapshot}, wait for the queued saves and then run on the
+ * calling thread.
+ */
+public class WriteBehindStorage implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final List<PendingAddressBookSave> queuedSaves = new ArrayList<>();
+    private boolean isWriteScheduled;
+    private IOException saveFailure;
+
+    // Only accessed by the background thread
+    private boolean hasFailedWrite;
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes address book saves to {@code storage} in the background.
+     * @param storage the storage to write to.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flush();
+        return storage.readAddressBook(filePath);
+    }
+
+    /**
+     * Captures {@code addressBook} and queues it to be written in the background.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        PendingAddressBookSave save = storage.prepareSaveAddressBook(addressBook);
+
+        synchronized (this) {
+            queuedSaves.add(save);
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                executor.execute(this::writeQueuedSaves);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        flush();
+        storage.saveAddressBook(addressBook, filePath);
+    }
+
+    @Override
+    public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        return storage.prepareSaveAddressBook(addressBook);
+    }
+
+    @Override
+    public void saveAddressBookSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        flush();
+        storage.saveAddressBookSnapshot(addressBook);
+    }
+
+    @Override
+    public synchronized void throwIfSaveFailed() throws IOException {
+        IOException failure = saveFailure;
+        saveFailure = null;
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Blocks until all queued saves have been written.
+     * @throws IOException if interrupted while waiting.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for saves to be written", ie);
+        } catch (ExecutionException ee) {
+            throw new IOException(ee.getCause());
+        }
+    }
+
+    /**
+     * Writes all queued saves, starting from the last complete one. Consecutive saves that can be merged, such as
+     * the changes of a burst of commands, are written together in a single write.
+     * After a failed write, the saves that only build on it are skipped until the next complete one.
+     */
+    private void writeQueuedSaves() {
+        List<PendingAddressBookSave> saves;
+        synchronized (this) {
+            saves = new ArrayList<>(queuedSaves);
+            queuedSaves.clear();
+            isWriteScheduled = false;
+        }
+
+        int start = 0;
+        for (int i = 0; i < saves.size(); i++) {
+            if (saves.get(i).isComplete()) {
+                start = i;
+            }
+        }
+
+        List<PendingAddressBookSave> mergedSaves = new ArrayList<>();
+        for (PendingAddressBookSave save : saves.subList(start, saves.size())) {
+            int last = mergedSaves.size() - 1;
+            Optional<PendingAddressBookSave> mergedSave = last < 0 ? Optional.empty()
+                    : mergedSaves.get(last).mergeWith(save);
+            if (mergedSave.isPresent()) {
+                mergedSaves.set(last, mergedSave.get());
+            } else {
+                mergedSaves.add(save);
+            }
+        }
+
+        for (PendingAddressBookSave save : mergedSaves) {
+            if (hasFailedWrite && !save.isComplete()) {
+                continue;
+            }
+            try {
+                save.write();
+                hasFailedWrite = false;
+            } catch (IOException ioe) {
+                logger.warning("Failed to write address book data in the background: " + ioe);
+                hasFailedWrite = true;
+                synchronized (this) {
+                    saveFailure = ioe;
+                }
+            }
+        }
+    }
+
+}
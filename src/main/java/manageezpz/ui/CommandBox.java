@@ -3,6 +3,8 @@ package manageezpz.ui;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import manageezpz.logic.commands.CommandResult;
 import manageezpz.logic.commands.exceptions.CommandException;
@@ -17,18 +19,39 @@ public class CommandBox extends UiPart<Region> {
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
         this.commandExecutor = commandExecutor;
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        // completes the command with the Tab key instead of moving the focus away from the command box.
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                handleCompletionRequested();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Handles the Tab button pressed event.
+     */
+    private void handleCompletionRequested() {
+        String commandText = commandTextField.getText();
+        String completedText = commandCompleter.complete(commandText);
+        if (!completedText.equals(commandText)) {
+            commandTextField.setText(completedText);
+            commandTextField.positionCaret(completedText.length());
+        }
     }
 
     /**
@@ -82,4 +105,17 @@ public class CommandBox extends UiPart<Region> {
         CommandResult execute(String commandText) throws CommandException, ParseException;
     }
 
+    /**
+     * Represents a function that can complete partially typed commands.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the completed command.
+         *
+         * @see manageezpz.logic.Logic#completeCommand(String)
+         */
+        String complete(String commandText);
+    }
+
 }
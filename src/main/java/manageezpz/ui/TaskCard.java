@@ -1,8 +1,8 @@
 package manageezpz.ui;
 
+import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import javafx.fxml.FXML;
 import javafx.scene.Node;
@@ -12,6 +12,7 @@ import javafx.scene.image.ImageView;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Event;
 import manageezpz.model.task.Task;
@@ -33,6 +34,7 @@ public class TaskCard extends UiPart<Region> {
      */
 
     public final Task task;
+    private final List<Person> assignees;
 
     @FXML
     private HBox cardPane;
@@ -64,11 +66,12 @@ public class TaskCard extends UiPart<Region> {
     private Label statusIsDone;
 
     /**
-     * Creates a {@code TaskCard} with the given {@code Task} and index to display.
+     * Creates a {@code TaskCard} with the given {@code Task}, its assignees and index to display.
      */
-    public TaskCard(Task task, int displayedIndex) {
+    public TaskCard(Task task, List<Person> assignees, int displayedIndex) {
         super(FXML);
         this.task = task;
+        this.assignees = assignees;
 
         id.setText(displayedIndex + ". ");
         description.setText(task.getDescription().description);
@@ -88,10 +91,10 @@ public class TaskCard extends UiPart<Region> {
      * Sets the text of employeesTag {@code Label}.
      */
     private void setEmployeeTag() {
-        if (!task.getAssignees().isEmpty()) {
-            String assigneesNames = task.getAssignees()
+        if (!assignees.isEmpty()) {
+            String assigneesNames = assignees
                     .stream()
-                    .flatMap(person -> Stream.of(person.getName().fullName))
+                    .map(person -> person.getName().fullName)
                     .collect(Collectors.joining(", "));
 
             employeesTag.setText(assigneesNames);
@@ -153,7 +156,7 @@ public class TaskCard extends UiPart<Region> {
         }
 
         // Remove assignees row if there are no employees assigned to the task
-        if (task.getAssignees().isEmpty()) {
+        if (assignees.isEmpty()) {
             removeRow(detailsPane, GridPane.getRowIndex(employeesTagLabel));
         }
 
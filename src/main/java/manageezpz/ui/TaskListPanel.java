@@ -2,12 +2,15 @@ package manageezpz.ui;
 
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import manageezpz.commons.core.LogsCenter;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
 import manageezpz.model.task.Task;
 
 /**
@@ -21,13 +24,19 @@ public class TaskListPanel extends UiPart<Region> {
     @FXML
     private ListView<Task> taskListView;
 
+    private final ReadOnlyAddressBook addressBook;
+
     /**
-     * Creates a {@code TaskListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TaskListPanel} with the given {@code ObservableList}, showing the assignees of each task
+     * from {@code addressBook}. As tasks refer to their assignees by id, the tasks shown are redrawn whenever the
+     * persons in {@code addressBook} change.
      */
-    public TaskListPanel(ObservableList<Task> taskList) {
+    public TaskListPanel(ObservableList<Task> taskList, ReadOnlyAddressBook addressBook) {
         super(FXML);
+        this.addressBook = addressBook;
         taskListView.setItems(taskList);
         taskListView.setCellFactory(listView -> new TaskListViewCell());
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> taskListView.refresh());
     }
 
     /**
@@ -42,7 +51,7 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                setGraphic(new TaskCard(task, addressBook.getAssignees(task), getIndex() + 1).getRoot());
             }
         }
     }
@@ -0,0 +1,137 @@
+package manageezpz;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.logic.LogicManager;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ModelManager;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.UserPrefs;
+import manageezpz.model.task.Task;
+import manageezpz.storage.DeferredSaveStorage;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
+import manageezpz.storage.JsonUserPrefsStorage;
+import manageezpz.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    private static final String SCRIPT = String.join("\n",
+            "# Tasks for the weekly meeting",
+            "addTodo desc/Write minutes",
+            "addTodo desc/Send minutes",
+            "",
+            "markTask 1-2",
+            "markTask 9",
+            "addTodo desc/Book room");
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    public void isBatchMode() {
+        assertTrue(BatchRunner.isBatchMode(new String[] {"--config=config.json", "--batch=-"}));
+        assertEquals(false, BatchRunner.isBatchMode(new String[] {"--config=config.json"}));
+    }
+
+    @Test
+    public void run_invalidOptions_returnsErrorStatus() {
+        assertEquals(BatchRunner.EXIT_ERROR, runWithArgs("--batch="));
+        assertEquals(BatchRunner.EXIT_ERROR, runWithArgs("--batch=-", "--save-every=0"));
+        assertEquals(BatchRunner.EXIT_ERROR, runWithArgs("--batch=-", "--exec=listTask"));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(BatchRunner.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_script_commandsExecutedAndSavedOnce() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        CountingStorageManager countingStorage = new CountingStorageManager(filePath);
+        BatchRunner runner = createRunner(countingStorage, 0);
+
+        BatchRunner.Summary summary = runner.run(new BufferedReader(new StringReader(SCRIPT)), print(out),
+                print(err));
+
+        assertEquals(5, summary.getExecutedCount());
+        assertEquals(1, summary.getFailedCount());
+        assertEquals(1, countingStorage.saveCount);
+        assertTrue(err.toString(StandardCharsets.UTF_8).startsWith("Line 6: "));
+        assertEquals(List.of("[T][X] Write minutes", "[T][X] Send minutes", "[T][ ] Book room"),
+                readTasks(filePath).stream().map(Task::toString).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void run_saveInterval_savedEveryIntervalAndAtEnd() throws Exception {
+        CountingStorageManager countingStorage = new CountingStorageManager(testFolder.resolve("ab.json"));
+        BatchRunner runner = createRunner(countingStorage, 2);
+
+        runner.run(new BufferedReader(new StringReader(SCRIPT)), print(out), print(err));
+
+        assertEquals(3, countingStorage.saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_laterCommandsSkipped() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        BatchRunner runner = createRunner(new CountingStorageManager(filePath), 0);
+
+        BatchRunner.Summary summary = runner.run(new BufferedReader(new StringReader(
+                "addTodo desc/Write minutes\nexit\naddTodo desc/Send minutes")), print(out), print(err));
+
+        assertEquals(2, summary.getExecutedCount());
+        assertEquals(1, readTasks(filePath).size());
+    }
+
+    private int runWithArgs(String... args) {
+        return BatchRunner.run(args, new ByteArrayInputStream(new byte[0]), print(out), print(err));
+    }
+
+    private BatchRunner createRunner(StorageManager storageManager, int saveInterval) {
+        DeferredSaveStorage storage = new DeferredSaveStorage(storageManager);
+        return new BatchRunner(new LogicManager(new ModelManager(new AddressBook(), new UserPrefs()), storage),
+                storage, saveInterval);
+    }
+
+    private static List<Task> readTasks(Path filePath) throws Exception {
+        ReadOnlyAddressBook addressBook = new JsonChangeLogAddressBookStorage(filePath).readAddressBook().get();
+        return addressBook.getTaskList();
+    }
+
+    private static PrintStream print(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * A {@code StorageManager} that counts the address book saves written to it.
+     */
+    private class CountingStorageManager extends StorageManager {
+        private int saveCount;
+
+        CountingStorageManager(Path filePath) {
+            super(new JsonChangeLogAddressBookStorage(filePath),
+                    new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
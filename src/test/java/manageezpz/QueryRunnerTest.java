@@ -0,0 +1,114 @@
+package manageezpz;
+
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import manageezpz.commons.core.Config;
+import manageezpz.commons.util.ConfigUtil;
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.model.UserPrefs;
+import manageezpz.model.task.Task;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
+import manageezpz.storage.JsonUserPrefsStorage;
+
+public class QueryRunnerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private Path configFilePath;
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        addressBookFilePath = testFolder.resolve("data").resolve("ab.json");
+        new JsonChangeLogAddressBookStorage(addressBookFilePath).saveAddressBook(getTypicalAddressBookTasks());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        Path userPrefsFilePath = testFolder.resolve("prefs.json");
+        new JsonUserPrefsStorage(userPrefsFilePath).saveUserPrefs(userPrefs);
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(userPrefsFilePath);
+        configFilePath = testFolder.resolve("config.json");
+        ConfigUtil.saveConfig(config, configFilePath);
+    }
+
+    @Test
+    public void isQueryMode() {
+        assertTrue(QueryRunner.isQueryMode(new String[] {"--exec", "listTask"}));
+        assertFalse(QueryRunner.isQueryMode(new String[] {"--batch=-"}));
+    }
+
+    @Test
+    public void run_invalidOptions_returnsErrorStatus() {
+        assertEquals(QueryRunner.EXIT_ERROR, runWithArgs("--exec="));
+        assertEquals(QueryRunner.EXIT_ERROR, runWithArgs("--exec=listTask", "--save-every=2"));
+        assertEquals(QueryRunner.EXIT_ERROR, QueryRunner.run(new String[] {"--exec"}, print(out), print(err)));
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains(QueryRunner.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void run_commandThatChangesData_notRunAndDataUnchanged() throws Exception {
+        byte[] data = Files.readAllBytes(addressBookFilePath);
+
+        assertEquals(QueryRunner.EXIT_COMMAND_FAILED, runWithArgs("--exec=deleteTask 1"));
+        assertEquals(QueryRunner.EXIT_COMMAND_FAILED, runWithArgs("--exec=findTask"));
+        assertTrue(err.toString(StandardCharsets.UTF_8)
+                .startsWith(String.format(QueryRunner.MESSAGE_NOT_A_QUERY, "deleteTask 1")));
+        assertEquals(0, out.size());
+        assertArrayEquals(data, Files.readAllBytes(addressBookFilePath));
+    }
+
+    @Test
+    public void run_findTaskAsJson_printsFoundTasksAndAssigneesInDataFileFormat() throws Exception {
+        assertEquals(QueryRunner.EXIT_SUCCESS, runWithArgs("--exec=findTask desc/Book", "--json"));
+
+        JsonNode result = JsonUtil.fromJsonString(out.toString(StandardCharsets.UTF_8), JsonNode.class);
+        assertEquals(List.of("Read Book", "Return Book"), result.get("tasks").findValuesAsText("description"));
+        assertEquals(List.of("George Best"), result.get("persons").findValuesAsText("name"));
+    }
+
+    @Test
+    public void run_listTaskAsText_printsFeedbackAndOneTaskPerLine() {
+        assertEquals(QueryRunner.EXIT_SUCCESS, QueryRunner.run(
+                new String[] {"--exec", "listTask", "--config", configFilePath.toString()}, print(out), print(err)));
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().collect(Collectors.toList());
+        List<Task> tasks = getTypicalAddressBookTasks().getTaskList();
+        assertEquals(tasks.size() + 1, lines.size());
+        assertEquals(tasks.get(0).toString(), lines.get(1));
+    }
+
+    private int runWithArgs(String... args) {
+        String[] argsWithConfig = Arrays.copyOf(args, args.length + 1);
+        argsWithConfig[args.length] = "--config=" + configFilePath;
+        return QueryRunner.run(argsWithConfig, print(out), print(err));
+    }
+
+    private static PrintStream print(ByteArrayOutputStream stream) {
+        return new PrintStream(stream, true, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,212 @@
+package manageezpz.api;
+
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import manageezpz.commons.util.JsonUtil;
+import manageezpz.logic.LogicManager;
+import manageezpz.model.Model;
+import manageezpz.model.ModelManager;
+import manageezpz.model.UserPrefs;
+import manageezpz.model.task.Task;
+import manageezpz.storage.JsonChangeLogAddressBookStorage;
+import manageezpz.storage.JsonUserPrefsStorage;
+import manageezpz.storage.StorageManager;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private Model model;
+    private StorageManager storage;
+    private ApiServer server;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        model = new ModelManager(getTypicalAddressBookTasks(), new UserPrefs());
+        storage = new StorageManager(new JsonChangeLogAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        server = new ApiServer(new LogicManager(model, storage), 0, Runnable::run);
+        server.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void findTasks_queryParameters_tasksAndAssigneesInDataFileFormat() throws Exception {
+        HttpResponse<String> response = get(ApiServer.TASKS_PATH + "?desc=Book");
+
+        assertEquals(200, response.statusCode());
+        JsonNode found = JsonUtil.fromJsonString(response.body(), JsonNode.class);
+        assertEquals(List.of("Read Book", "Return Book"), found.get("tasks").findValuesAsText("description"));
+        assertEquals(List.of("George Best"), found.get("persons").findValuesAsText("name"));
+        // Assignees are returned as they are, with all of their tasks counted
+        assertEquals(model.getAddressBook().getPersonList().get(0).getNumOfTasks(),
+                found.get("persons").get(0).get("numOfTask").asInt());
+    }
+
+    @Test
+    public void findTasks_concurrentRequests_allServed() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            responses.add(client.sendAsync(request(ApiServer.TASKS_PATH).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(model.getAddressBook().getTaskList().size(),
+                    JsonUtil.fromJsonString(response.get().body(), JsonNode.class).get("tasks").size());
+        }
+    }
+
+    @Test
+    public void findTasks_invalidQuery_badRequest() throws Exception {
+        assertEquals(400, get(ApiServer.TASKS_PATH + "?explain").statusCode());
+        HttpResponse<String> response = get(ApiServer.TASKS_PATH + "?priority=URGENT");
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("\"error\""));
+    }
+
+    @Test
+    public void findEmployees_queryParameters_employeesFound() throws Exception {
+        HttpResponse<String> response = get(ApiServer.EMPLOYEES_PATH + "?n=george");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"George Best\""));
+        assertTrue(get(ApiServer.EMPLOYEES_PATH + "?n=alice").body().contains("\"persons\" : [ ]"));
+    }
+
+    @Test
+    public void executeCommand_validCommand_modelUpdated() throws Exception {
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "addTodo desc/Write API docs");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"feedback\""));
+        assertTrue(model.getAddressBook().getTaskList().stream().map(Task::getDescription)
+                .anyMatch(description -> description.toString().equals("Write API docs")));
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_badRequest() throws Exception {
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "deleteTask 100").statusCode());
+        assertEquals(400, post(ApiServer.COMMANDS_PATH, "unknownCommand").statusCode());
+    }
+
+    @Test
+    public void executeCommand_notExecutedInTime_unavailableAndCommandNotExecuted() throws Exception {
+        server.stop();
+        List<Runnable> queuedCommands = new ArrayList<>();
+        server = new ApiServer(new LogicManager(model, storage), 0, queuedCommands::add, 0);
+        server.start();
+        int taskCount = model.getAddressBook().getTaskList().size();
+
+        HttpResponse<String> response = post(ApiServer.COMMANDS_PATH, "addTodo desc/Write API docs");
+        assertEquals(503, response.statusCode());
+        assertTrue(response.body().contains(String.format(ApiServer.MESSAGE_TIMED_OUT, 0)));
+
+        // The command timed out before it was started, so it is not executed later
+        queuedCommands.forEach(Runnable::run);
+        assertEquals(taskCount, model.getAddressBook().getTaskList().size());
+    }
+
+    @Test
+    public void serve_wrongMethodOrPath_rejected() throws Exception {
+        assertEquals(405, get(ApiServer.COMMANDS_PATH).statusCode());
+        assertEquals(405, post(ApiServer.TASKS_PATH, "").statusCode());
+        assertEquals(404, get(ApiServer.TASKS_PATH + "/1").statusCode());
+    }
+
+    @Test
+    public void serve_missingOrWrongToken_unauthorizedAndCommandNotExecuted() throws Exception {
+        int taskCount = model.getAddressBook().getTaskList().size();
+        HttpRequest.Builder withoutToken = HttpRequest.newBuilder(request(ApiServer.COMMANDS_PATH).build().uri());
+
+        assertEquals(401, client.send(withoutToken.POST(HttpRequest.BodyPublishers.ofString("clear")).build(),
+                HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(401, client.send(request(ApiServer.COMMANDS_PATH).setHeader(ApiServer.TOKEN_HEADER, "wrong")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")).build(), HttpResponse.BodyHandlers.ofString())
+                .statusCode());
+        assertEquals(401, client.send(withoutToken.GET().build(), HttpResponse.BodyHandlers.ofString()).statusCode());
+        assertEquals(taskCount, model.getAddressBook().getTaskList().size());
+    }
+
+    @Test
+    public void serve_requestFromWebPage_forbiddenAndCommandNotExecuted() throws Exception {
+        int taskCount = model.getAddressBook().getTaskList().size();
+        HttpResponse<String> response = client.send(request(ApiServer.COMMANDS_PATH)
+                .header("Origin", "http://example.com").POST(HttpRequest.BodyPublishers.ofString("clear")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(403, response.statusCode());
+        assertTrue(response.body().contains(ApiServer.MESSAGE_CROSS_ORIGIN));
+        assertEquals(taskCount, model.getAddressBook().getTaskList().size());
+    }
+
+    @Test
+    public void serve_nonLoopbackHost_forbidden() throws Exception {
+        // The host of a request cannot be set through HttpClient, so the request is written to the socket as is
+        assertTrue(getStatusLine("example.com:" + server.getPort()).contains(" 403 "));
+        assertTrue(getStatusLine("127.0.0.1.example.com").contains(" 403 "));
+        assertTrue(getStatusLine("localhost:" + server.getPort()).contains(" 200 "));
+        assertTrue(getStatusLine("[::1]:" + server.getPort()).contains(" 200 "));
+    }
+
+    /**
+     * Sends a request for the employees with the token of the server and the given {@code Host} header, and returns
+     * the status line of the response.
+     */
+    private String getStatusLine(String host) throws Exception {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort())) {
+            OutputStream out = socket.getOutputStream();
+            out.write(("GET " + ApiServer.EMPLOYEES_PATH + " HTTP/1.1\r\nHost: " + host + "\r\n"
+                    + ApiServer.TOKEN_HEADER + ": " + server.getToken() + "\r\nConnection: close\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+        }
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return client.send(request(path).POST(HttpRequest.BodyPublishers.ofString(body)).build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://"
+                + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort() + path))
+                .header(ApiServer.TOKEN_HEADER, server.getToken());
+    }
+}
@@ -1,13 +1,23 @@
 package manageezpz.commons.util;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +30,69 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_existingFile_previousVersionKeptAsBackup() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("file.json");
+
+        FileUtil.writeToFileAtomically(file, "first");
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFileAtomically(file, "second");
+        assertEquals("second", FileUtil.readFromFile(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void writeToFileAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+
+        assertThrows(IOException.class, () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("dummy exception");
+        }));
+
+        assertEquals("first", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void backUpFile_existingFile_movedToBackup() throws Exception {
+        Path file = testFolder.resolve("file.log");
+        FileUtil.backUpFile(file);
+        assertFalse(FileUtil.isFileExists(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFile(file, "first");
+        FileUtil.backUpFile(file);
+        assertFalse(FileUtil.isFileExists(file));
+        assertEquals("first", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+
+        FileUtil.writeToFile(file, "second");
+        FileUtil.backUpFile(file);
+        assertEquals("second", FileUtil.readFromFile(FileUtil.getBackupFilePath(file)));
+    }
+
+    @Test
+    public void appendToFile_missingThenExistingFile_contentAppended() throws Exception {
+        Path file = testFolder.resolve("file.log");
+
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void restoreBackup_backupExists_backupRestored() throws Exception {
+        Path file = testFolder.resolve("file.json");
+        FileUtil.writeToFileAtomically(file, "first");
+        FileUtil.writeToFileAtomically(file, "second");
+        Files.delete(file);
+
+        assertTrue(FileUtil.restoreBackup(file));
+        assertEquals("first", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.restoreBackup(file));
+    }
+
 }
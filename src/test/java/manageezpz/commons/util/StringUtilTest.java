@@ -1,6 +1,7 @@
 package manageezpz.commons.util;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -123,6 +124,20 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_wordsEqualIgnoringCase_sameFoldedWord() {
+        assertEquals(StringUtil.foldCase("aBc"), StringUtil.foldCase("AbC"));
+        assertEquals("abc", StringUtil.foldCase("abc"));
+        assertFalse(StringUtil.foldCase("abc").equals(StringUtil.foldCase("abd")));
+    }
+
+    @Test
+    public void foldCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
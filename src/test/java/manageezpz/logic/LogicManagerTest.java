@@ -6,20 +6,42 @@ import static manageezpz.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static manageezpz.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static manageezpz.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static manageezpz.logic.commands.DeleteEmployeeCommand.MESSAGE_USAGE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_NAME;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
 import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.AMY;
+import static manageezpz.testutil.TypicalTasks.GEORGE_ID;
+import static manageezpz.testutil.TypicalTasks.READ_BOOK;
+import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
+import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
+import static manageezpz.testutil.TypicalTasks.getTypicalTask;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import manageezpz.logic.commands.AddEmployeeCommand;
+import manageezpz.logic.commands.AddTodoTaskCommand;
 import manageezpz.logic.commands.CommandResult;
+import manageezpz.logic.commands.DeleteEmployeeCommand;
+import manageezpz.logic.commands.DeleteTaskCommand;
+import manageezpz.logic.commands.FindEmployeeCommand;
+import manageezpz.logic.commands.FindTaskCommand;
+import manageezpz.logic.commands.HelpCommand;
+import manageezpz.logic.commands.ListEmployeeCommand;
 import manageezpz.logic.commands.ListTaskCommand;
+import manageezpz.logic.commands.MarkTaskCommand;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.logic.parser.exceptions.ParseException;
 import manageezpz.model.Model;
@@ -68,6 +90,85 @@ public class LogicManagerTest {
         assertCommandSuccess(listTaskCommand, ListTaskCommand.MESSAGE_ALL_SUCCESS, model);
     }
 
+    @Test
+    public void completeCommand_findEmployeeNamePrefix_completesName() {
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        String findEmployee = FindEmployeeCommand.COMMAND_WORD + " ";
+
+        assertEquals(findEmployee + "n/Alex", logic.completeCommand(findEmployee + "n/al"));
+        assertEquals(findEmployee + "n/Alex Yeoh", logic.completeCommand(findEmployee + "n/Alex ye"));
+        assertEquals(findEmployee + "n/Alex bo", logic.completeCommand(findEmployee + "n/Alex bo"));
+    }
+
+    @Test
+    public void completeCommand_nothingToComplete_commandUnchanged() {
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        String findEmployee = FindEmployeeCommand.COMMAND_WORD + " ";
+
+        assertEquals(findEmployee + "n/", logic.completeCommand(findEmployee + "n/"));
+        assertEquals(findEmployee + "n/Alex p/8", logic.completeCommand(findEmployee + "n/Alex p/8"));
+        assertEquals(findEmployee + "p/al", logic.completeCommand(findEmployee + "p/al"));
+        assertEquals(ListEmployeeCommand.COMMAND_WORD + " n/al",
+                logic.completeCommand(ListEmployeeCommand.COMMAND_WORD + " n/al"));
+    }
+
+    @Test
+    public void findTasks_options_returnsFoundTasksWithAssigneesAndKeepsFilter() throws Exception {
+        model.setAddressBook(getTypicalAddressBookTasks());
+        model.updateFilteredTaskList(task -> false);
+
+        FoundTasks found = logic.findTasks("desc/Book");
+        assertEquals(List.of(READ_BOOK, RETURN_BOOK), found.getTasks());
+        // GEORGE is the only person, and is returned as is, with all of their tasks counted
+        assertEquals(List.of(GEORGE_ID), found.getAssignees().stream().map(Person::getId)
+                .collect(Collectors.toList()));
+        assertEquals(model.getAddressBook().getPersonList(), found.getAssignees());
+        assertEquals(4, found.getAssignees().get(0).getNumOfTasks());
+        assertEquals(getTypicalTask().size(), logic.findTasks(" ").getTasks().size());
+        assertEquals(0, logic.getFilteredTaskList().size());
+
+        assertThrows(ParseException.class, () -> logic.findTasks("priority/URGENT"));
+    }
+
+    @Test
+    public void findPersons_options_returnsFoundPersonsAndKeepsFilter() throws Exception {
+        model.addPerson(new PersonBuilder().withName("Alex Yeoh").build());
+        model.addPerson(new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+                .withEmail("berniceyu@example.com").build());
+        model.updateFilteredPersonList(person -> false);
+
+        assertEquals(List.of("Bernice Yu"), logic.findPersons("n/bernice").stream()
+                .map(person -> person.getName().toString()).collect(Collectors.toList()));
+        assertEquals(2, logic.findPersons("").size());
+        assertEquals(0, logic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void findTasks_duringCommand_readsEarlierCommandWithoutWaiting() throws Exception {
+        List<Integer> numbersFoundDuringSave = new ArrayList<>();
+        // The command being executed is saving, so a find from another thread cannot publish its changes
+        SaveAction findFromOtherThread = () -> {
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                numbersFoundDuringSave.add(executor.submit(() -> logic.findTasks("desc/report").getTasks().size())
+                        .get(5, TimeUnit.SECONDS));
+            } finally {
+                executor.shutdownNow();
+            }
+        };
+        JsonAddressBookSaveActionStub addressBookStorage = new JsonAddressBookSaveActionStub(
+                temporaryFolder.resolve("actionAddressBook.json"), findFromOtherThread);
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("actionPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        logic.execute(AddTodoTaskCommand.COMMAND_WORD + " " + PREFIX_DESCRIPTION + "Write report");
+        assertEquals(1, logic.findTasks("desc/report").getTasks().size());
+        logic.execute(AddTodoTaskCommand.COMMAND_WORD + " " + PREFIX_DESCRIPTION + "Read report");
+
+        assertEquals(List.of(0, 1), numbersFoundDuringSave);
+        assertEquals(2, logic.findTasks("desc/report").getTasks().size());
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonAddressBookIoExceptionThrowingStub
@@ -87,6 +188,43 @@ public class LogicManagerTest {
         assertCommandFailure(addEmployeeCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commands_savesAddressBookOnlyWhenChanged() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("countingAddressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("countingUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // commands that do not change the address book
+        assertSaveCount(addressBookStorage, 0, HelpCommand.COMMAND_WORD);
+        assertSaveCount(addressBookStorage, 0, ListEmployeeCommand.COMMAND_WORD);
+        assertSaveCount(addressBookStorage, 0, ListTaskCommand.COMMAND_WORD);
+        assertSaveCount(addressBookStorage, 0, FindEmployeeCommand.COMMAND_WORD + " " + PREFIX_NAME + "Amy");
+        assertSaveCount(addressBookStorage, 0, FindTaskCommand.COMMAND_WORD + " " + PREFIX_TODO);
+
+        // commands that change the address book
+        assertSaveCount(addressBookStorage, 1,
+                AddEmployeeCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY);
+        assertSaveCount(addressBookStorage, 1, AddTodoTaskCommand.COMMAND_WORD + " " + PREFIX_DESCRIPTION + "Read");
+        assertSaveCount(addressBookStorage, 1, MarkTaskCommand.COMMAND_WORD + " 1");
+        assertSaveCount(addressBookStorage, 1, DeleteTaskCommand.COMMAND_WORD + " 1");
+        assertSaveCount(addressBookStorage, 1, DeleteEmployeeCommand.COMMAND_WORD + " 1");
+
+        // commands that fail without changing the address book
+        assertThrows(CommandException.class, () -> logic.execute(DeleteEmployeeCommand.COMMAND_WORD + " 9"));
+        assertEquals(0, addressBookStorage.getAndResetSaveCount());
+    }
+
+    /**
+     * Executes {@code inputCommand} and confirms that the address book was saved {@code expectedSaveCount} times.
+     */
+    private void assertSaveCount(JsonAddressBookSaveCountingStub addressBookStorage, int expectedSaveCount,
+                                 String inputCommand) throws CommandException, ParseException {
+        logic.execute(inputCommand);
+        assertEquals(expectedSaveCount, addressBookStorage.getAndResetSaveCount(), inputCommand);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -158,4 +296,56 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that counts how many times the save method is called.
+     */
+    private static class JsonAddressBookSaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+
+        private int getAndResetSaveCount() {
+            int count = saveCount;
+            saveCount = 0;
+            return count;
+        }
+    }
+
+    /**
+     * A stub class that runs an action each time the save method is called, before saving.
+     */
+    private static class JsonAddressBookSaveActionStub extends JsonAddressBookStorage {
+        private final SaveAction action;
+
+        private JsonAddressBookSaveActionStub(Path filePath, SaveAction action) {
+            super(filePath);
+            this.action = action;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            try {
+                action.run();
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * An action run by {@code JsonAddressBookSaveActionStub} when saving.
+     */
+    private interface SaveAction {
+        void run() throws Exception;
+    }
 }
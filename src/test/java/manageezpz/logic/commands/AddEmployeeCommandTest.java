@@ -7,26 +7,16 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
-import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.ObservableList;
-import manageezpz.commons.core.GuiSettings;
 import manageezpz.logic.commands.exceptions.CommandException;
 import manageezpz.model.AddressBook;
-import manageezpz.model.Model;
 import manageezpz.model.ReadOnlyAddressBook;
-import manageezpz.model.ReadOnlyUserPrefs;
 import manageezpz.model.person.Person;
-import manageezpz.model.task.Deadline;
-import manageezpz.model.task.Event;
-import manageezpz.model.task.Priority;
-import manageezpz.model.task.Task;
-import manageezpz.model.task.Todo;
+import manageezpz.testutil.ModelStub;
 import manageezpz.testutil.PersonBuilder;
 
 public class AddEmployeeCommandTest {
@@ -81,192 +71,6 @@ public class AddEmployeeCommandTest {
         assertFalse(addAliceCommand.equals(addBobCommand));
     }
 
-    /**
-     * A default model stub that have all of the methods failing.
-     */
-    private class ModelStub implements Model {
-        @Override
-        public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyUserPrefs getUserPrefs() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public GuiSettings getGuiSettings() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setGuiSettings(GuiSettings guiSettings) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Path getAddressBookFilePath() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setAddressBookFilePath(Path addressBookFilePath) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setAddressBook(ReadOnlyAddressBook newData) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ReadOnlyAddressBook getAddressBook() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPerson(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deletePerson(Person target) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setPerson(Person target, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void increaseNumOfTasks(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void decreaseNumOfTasks(Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Person> getFilteredPersonList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredPersonList(Predicate<Person> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addTask(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addTodo(Todo todo) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addEvent(Event event) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void addDeadline(Deadline deadline) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateFilteredTaskList(Predicate<Task> predicate) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public ObservableList<Task> getFilteredTaskList() {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasTask(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasTodo(Todo todo) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasDeadline(Deadline deadline) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasEvent(Event event) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean isEmployeeTaggedToTask(Task task, Person p) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public boolean hasPriority(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void setTask(Task target, Task editedTask) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void deleteTask(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public void updateTaskWithEditedPerson(Task task, int assigneesIndex, Person editedPerson) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Task markTask(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Task unmarkTask(Task task) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Task tagPriorityToTask(Task task, Priority priority) {
-            return null;
-        }
-
-        @Override
-        public Task tagEmployeeToTask(Task task, Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-        @Override
-        public Task untagEmployeeFromTask(Task task, Person person) {
-            throw new AssertionError("This method should not be called.");
-        }
-
-    }
-
     /**
      * A Model stub that contains a single person.
      */
@@ -44,11 +44,11 @@ public class DeleteEmployeeCommandTest {
         model = new ModelManager(new AddressBook(), new UserPrefs());
 
         // Create persons Alex, Bernice and Charlotte
-        Person personAlex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807")
+        Person personAlex = new PersonBuilder().withId(1).withName("Alex Yeoh").withPhone("87438807")
                 .withEmail("alexyeoh@example.com").build();
-        Person personBernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+        Person personBernice = new PersonBuilder().withId(2).withName("Bernice Yu").withPhone("99272758")
                 .withEmail("berniceyu@example.com").build();
-        Person personCharlotte = new PersonBuilder().withName("Charlotte Oliveiro").withPhone("93210283")
+        Person personCharlotte = new PersonBuilder().withId(3).withName("Charlotte Oliveiro").withPhone("93210283")
                 .withEmail("charlotte@example.com").build();
 
         // Create tasks
@@ -60,20 +60,14 @@ public class DeleteEmployeeCommandTest {
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
         // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personAlex.getId());
+        taskDeadline = taskDeadline.withAssignee(personAlex.getId());
+        taskEvent = taskEvent.withAssignee(personAlex.getId());
 
         // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personCharlotte.getId());
+        taskDeadline = taskDeadline.withAssignee(personCharlotte.getId());
+        taskEvent = taskEvent.withAssignee(personCharlotte.getId());
 
         // Add persons to the new address book
         model.addPerson(personAlex);
@@ -95,7 +89,7 @@ public class DeleteEmployeeCommandTest {
 
         assertEquals(model.getFilteredPersonList().size(), 3);
         assertEquals(personToDelete.getNumOfTasks(), 3);
-        assertEquals(modelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(model, modelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Alex Yeoh; Phone: 87438807; Email: alexyeoh@example.com, "
                         + "Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
@@ -106,7 +100,7 @@ public class DeleteEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToDelete))
+                .filter(task -> task.isAssignedTo(personToDelete.getId()))
                 .collect(Collectors.toList());
 
         for (Task task : affectedTaskList) {
@@ -116,11 +110,11 @@ public class DeleteEmployeeCommandTest {
         expectedModel.deletePerson(personToDelete);
 
         assertEquals(expectedModel.getFilteredPersonList().size(), 2);
-        assertEquals(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
         assertCommandSuccess(deleteEmployeeCommand, model, expectedMessage, expectedModel);
@@ -147,7 +141,7 @@ public class DeleteEmployeeCommandTest {
 
         assertEquals(model.getFilteredPersonList().size(), 1);
         assertEquals(personToDelete.getNumOfTasks(), 3);
-        assertEquals(modelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(model, modelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Alex Yeoh; Phone: 87438807; Email: alexyeoh@example.com, "
                         + "Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
@@ -158,7 +152,7 @@ public class DeleteEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToDelete))
+                .filter(task -> task.isAssignedTo(personToDelete.getId()))
                 .collect(Collectors.toList());
 
         for (Task task : affectedTaskList) {
@@ -169,11 +163,11 @@ public class DeleteEmployeeCommandTest {
         showNoPerson(expectedModel);
 
         assertEquals(expectedModel.getFilteredPersonList().size(), 0);
-        assertEquals(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
-        assertEquals(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()).getAssignees().toString(),
+        assertEquals(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())).toString(),
                 "[Charlotte Oliveiro; Phone: 93210283; Email: charlotte@example.com]");
 
         assertCommandSuccess(deleteEmployeeCommand, model, expectedMessage, expectedModel);
@@ -224,4 +218,8 @@ public class DeleteEmployeeCommandTest {
 
         assertTrue(model.getFilteredPersonList().isEmpty());
     }
+
+    private static List<Person> getAssignees(Model model, Task task) {
+        return model.getAddressBook().getAssignees(task);
+    }
 }
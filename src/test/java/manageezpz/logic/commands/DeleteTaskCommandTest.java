@@ -4,6 +4,7 @@ import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_IN
 import static manageezpz.logic.commands.CommandTestUtil.assertCommandFailure;
 import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static manageezpz.logic.commands.CommandTestUtil.showTaskAtIndex;
+import static manageezpz.logic.commands.DeleteTaskCommand.MESSAGE_DELETE_TASKS_SUCCESS;
 import static manageezpz.logic.commands.DeleteTaskCommand.MESSAGE_DELETE_TASK_SUCCESS;
 import static manageezpz.logic.commands.DeleteTaskCommand.MESSAGE_USAGE;
 import static manageezpz.testutil.TypicalIndexes.INDEX_FIRST;
@@ -43,11 +44,11 @@ public class DeleteTaskCommandTest {
         model = new ModelManager(new AddressBook(), new UserPrefs());
 
         // Create persons Alex, Bernice and Charlotte
-        Person personAlex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807")
+        Person personAlex = new PersonBuilder().withId(1).withName("Alex Yeoh").withPhone("87438807")
                 .withEmail("alexyeoh@example.com").build();
-        Person personBernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+        Person personBernice = new PersonBuilder().withId(2).withName("Bernice Yu").withPhone("99272758")
                 .withEmail("berniceyu@example.com").build();
-        Person personCharlotte = new PersonBuilder().withName("Charlotte Oliveiro").withPhone("93210283")
+        Person personCharlotte = new PersonBuilder().withId(3).withName("Charlotte Oliveiro").withPhone("93210283")
                 .withEmail("charlotte@example.com").build();
 
         // Create tasks
@@ -59,20 +60,14 @@ public class DeleteTaskCommandTest {
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
         // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personAlex.getId());
+        taskDeadline = taskDeadline.withAssignee(personAlex.getId());
+        taskEvent = taskEvent.withAssignee(personAlex.getId());
 
         // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personCharlotte.getId());
+        taskDeadline = taskDeadline.withAssignee(personCharlotte.getId());
+        taskEvent = taskEvent.withAssignee(personCharlotte.getId());
 
         // Add persons to the new address book
         model.addPerson(personAlex);
@@ -103,13 +98,6 @@ public class DeleteTaskCommandTest {
 
         List<Person> expectedModelFullPersonList = expectedModel.getAddressBook().getPersonList();
 
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
-
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = expectedModelFullPersonList.get(expectedModelFullPersonList.indexOf(person));
-            expectedModel.decreaseNumOfTasks(personToUpdate);
-        }
-
         expectedModel.deleteTask(taskToDelete);
 
         assertEquals(expectedModel.getFilteredTaskList().size(), 2);
@@ -120,6 +108,28 @@ public class DeleteTaskCommandTest {
         assertCommandSuccess(deleteTaskCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_indexRangeUnfilteredList_success() {
+        List<Task> tasksToDelete = List.of(model.getFilteredTaskList().get(INDEX_FIRST.getZeroBased()),
+                model.getFilteredTaskList().get(INDEX_SECOND.getZeroBased()));
+        DeleteTaskCommand deleteTaskCommand = new DeleteTaskCommand(List.of(INDEX_FIRST, INDEX_SECOND));
+
+        String expectedMessage = String.format(MESSAGE_DELETE_TASKS_SUCCESS, 2);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        List<Person> expectedModelFullPersonList = expectedModel.getAddressBook().getPersonList();
+
+        expectedModel.deleteTasks(tasksToDelete);
+
+        assertEquals(expectedModel.getFilteredTaskList().size(), 1);
+        assertEquals(expectedModelFullPersonList.get(INDEX_FIRST.getZeroBased()).getNumOfTasks(), 1);
+        assertEquals(expectedModelFullPersonList.get(INDEX_SECOND.getZeroBased()).getNumOfTasks(), 0);
+        assertEquals(expectedModelFullPersonList.get(INDEX_THIRD.getZeroBased()).getNumOfTasks(), 1);
+
+        assertCommandSuccess(deleteTaskCommand, model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTaskList().size() + 1);
@@ -150,13 +160,6 @@ public class DeleteTaskCommandTest {
 
         List<Person> expectedModelFullPersonList = expectedModel.getAddressBook().getPersonList();
 
-        List<Person> affectedPersonList = taskToDelete.getAssignees();
-
-        for (Person person : affectedPersonList) {
-            Person personToUpdate = expectedModelFullPersonList.get(expectedModelFullPersonList.indexOf(person));
-            expectedModel.decreaseNumOfTasks(personToUpdate);
-        }
-
         expectedModel.deleteTask(taskToDelete);
         showNoTask(expectedModel);
 
@@ -52,11 +52,11 @@ public class EditEmployeeCommandTest {
         model = new ModelManager(new AddressBook(), new UserPrefs());
 
         // Create persons Alex, Bernice and Charlotte
-        Person personAlex = new PersonBuilder().withName("Alex Yeoh").withPhone("87438807")
+        Person personAlex = new PersonBuilder().withId(1).withName("Alex Yeoh").withPhone("87438807")
                 .withEmail("alexyeoh@example.com").build();
-        Person personBernice = new PersonBuilder().withName("Bernice Yu").withPhone("99272758")
+        Person personBernice = new PersonBuilder().withId(2).withName("Bernice Yu").withPhone("99272758")
                 .withEmail("berniceyu@example.com").build();
-        Person personCharlotte = new PersonBuilder().withName("Charlotte Oliveiro").withPhone("93210283")
+        Person personCharlotte = new PersonBuilder().withId(3).withName("Charlotte Oliveiro").withPhone("93210283")
                 .withEmail("charlotte@example.com").build();
 
         // Create tasks
@@ -68,20 +68,14 @@ public class EditEmployeeCommandTest {
                 .withDate("2022-03-15").withStartTime("1300").withEndTime("1400").build();
 
         // Tag tasks to Alex
-        taskToDo.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskDeadline.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
-        taskEvent.assignedTo(personAlex);
-        personAlex.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personAlex.getId());
+        taskDeadline = taskDeadline.withAssignee(personAlex.getId());
+        taskEvent = taskEvent.withAssignee(personAlex.getId());
 
         // Tag tasks to Charlotte
-        taskToDo.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskDeadline.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
-        taskEvent.assignedTo(personCharlotte);
-        personCharlotte.increaseTaskCount();
+        taskToDo = taskToDo.withAssignee(personCharlotte.getId());
+        taskDeadline = taskDeadline.withAssignee(personCharlotte.getId());
+        taskEvent = taskEvent.withAssignee(personCharlotte.getId());
 
         // Add persons to the new address book
         model.addPerson(personAlex);
@@ -112,35 +106,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEdit))
+                .filter(task -> task.isAssignedTo(personToEdit.getId()))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEdit));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEdit));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEdit));
+
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -164,35 +147,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(lastPersonToEdit))
+                .filter(task -> task.isAssignedTo(lastPersonToEdit.getId()))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(lastPersonToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(lastPersonToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(lastPersonToEdit));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(lastPersonToEdit));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(lastPersonToEdit));
+
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -215,35 +187,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEdit))
+                .filter(task -> task.isAssignedTo(personToEdit.getId()))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEdit)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEdit));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEdit));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEdit));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEdit));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEdit));
+
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -269,35 +230,24 @@ public class EditEmployeeCommandTest {
         List<Task> expectedModelFullTaskList = expectedModel.getAddressBook().getTaskList();
 
         List<Task> affectedTaskList = expectedModelFullTaskList.stream()
-                .filter(task -> task.getAssignees().contains(personToEditInFilteredList))
+                .filter(task -> task.isAssignedTo(personToEditInFilteredList.getId()))
                 .collect(Collectors.toList());
 
         assertEquals(affectedTaskList.size(), 3);
 
-        for (Task task : affectedTaskList) {
-            List<Person> assignees = task.getAssignees();
-
-            for (Person assignee : assignees) {
-                if (assignee.equals(personToEditInFilteredList)) {
-                    Task taskToUpdate = expectedModelFullTaskList.get(expectedModelFullTaskList.indexOf(task));
-                    expectedModel.updateTaskWithEditedPerson(taskToUpdate, assignees.indexOf(assignee), editedPerson);
-                }
-            }
-        }
-
-        assertFalse(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-        assertFalse(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-        assertFalse(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(personToEditInFilteredList));
-
-        assertTrue(expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased())
-                .getAssignees().contains(editedPerson));
-        assertTrue(expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased())
-                .getAssignees().contains(editedPerson));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(personToEditInFilteredList));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(personToEditInFilteredList));
+        assertFalse(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(personToEditInFilteredList));
+
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_FIRST.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_SECOND.getZeroBased()))
+                .contains(editedPerson));
+        assertTrue(getAssignees(expectedModel, expectedModelFullTaskList.get(INDEX_THIRD.getZeroBased()))
+                .contains(editedPerson));
 
         assertCommandSuccess(editEmployeeCommand, model, expectedMessage, expectedModel);
     }
@@ -382,4 +332,8 @@ public class EditEmployeeCommandTest {
         // different descriptor -> returns false
         assertFalse(standardCommand.equals(new EditEmployeeCommand(INDEX_FIRST, DESC_BOB)));
     }
+
+    private static List<Person> getAssignees(Model model, Task task) {
+        return model.getAddressBook().getAssignees(task);
+    }
 }
@@ -32,6 +32,7 @@ import manageezpz.model.task.Date;
 import manageezpz.model.task.Priority;
 import manageezpz.model.task.Task;
 import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
 
 class FindTaskCommandTest {
     private Model model = new ModelManager(getTypicalAddressBookTasks(), new UserPrefs());
@@ -64,13 +65,16 @@ class FindTaskCommandTest {
 
         // Different description -> return false
         assertFalse(firstFindTaskCommand.equals(secondFindTaskCommand));
+
+        // Different explain option -> return false
+        assertFalse(firstFindTaskCommand.equals(new FindTaskCommand(firstPredicate, true)));
     }
 
     @Test
     void findCommand_findSpecificTaskType_showTaskOfSpecificType() {
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(PREFIX_TODO, null, null,
                 null, null, null);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 6);
         FindTaskCommand command = new FindTaskCommand(predicate);
         List<Task> expectedTasks = List.of(WEEKLY_QUIZ, READ_BOOK, RETURN_BOOK, GO_FOR_RUN, GET_HAIRCUT, GET_A_DRINK);
@@ -111,7 +115,7 @@ class FindTaskCommandTest {
         Date date = new Date("2022-04-01");
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
                 null, date, null, null, null);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE, MALAYSIA_BORDERS_OPEN);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -124,7 +128,7 @@ class FindTaskCommandTest {
     void findCommand_findTaskWithPriority_showTasksWithGivenPriority() {
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
                 null, null, Priority.HIGH, null, null);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
         List<Task> expectedTasks = List.of(WEEKLY_QUIZ, PROJECT_CAPSTONE, FYP_REPORT);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -137,7 +141,7 @@ class FindTaskCommandTest {
     void findCommand_findTaskWithAssignee_showTasksWithGivenAssignee() {
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
                 null, null, null, GEORGE.getName().fullName, null);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 4);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE, FYP_REPORT, RETURN_BOOK, HOUSE_VISTING);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -150,7 +154,7 @@ class FindTaskCommandTest {
     void findCommand_findTaskWithIsMarked_showsTasksWithGivenIsMarked() {
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
                 null, null, null, null, Boolean.TRUE);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 2);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE, RETURN_BOOK);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -165,7 +169,7 @@ class FindTaskCommandTest {
         Date date = new Date("2022-04-01");
         TaskMultiplePredicate predicate = new TaskMultiplePredicate(PREFIX_DEADLINE, keywords, date,
                 Priority.HIGH, GEORGE.getName().toString(), Boolean.TRUE);
-        expectedModel.updateFilteredTaskList(predicate);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
         String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1);
         List<Task> expectedTasks = List.of(PROJECT_CAPSTONE);
         FindTaskCommand command = new FindTaskCommand(predicate);
@@ -173,4 +177,18 @@ class FindTaskCommandTest {
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
         assertEquals(expectedTasks, model.getFilteredTaskList());
     }
+
+    @Test
+    void findCommand_explain_showsPlanAfterNumberOfTasks() {
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(PREFIX_TODO, null, null,
+                null, null, Boolean.TRUE);
+        expectedModel.updateFilteredTaskList(expectedModel.planTaskQuery(predicate));
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 1) + "\n"
+                + String.format(TaskQueryPlan.MESSAGE_PLAN_HEADER, 12)
+                + "\n1. isMarked/true todo/ by bitset index (estimated 2): 1 candidates";
+        FindTaskCommand command = new FindTaskCommand(predicate, true);
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(RETURN_BOOK), model.getFilteredTaskList());
+    }
 }
@@ -4,14 +4,18 @@ import static manageezpz.commons.core.Messages.MESSAGE_INVALID_TASK_DISPLAYED_IN
 import static manageezpz.logic.commands.CommandTestUtil.assertCommandFailure;
 import static manageezpz.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static manageezpz.logic.commands.CommandTestUtil.showTaskAtIndex;
+import static manageezpz.logic.commands.MarkTaskCommand.MESSAGE_MARK_TASKS_SUCCESS;
 import static manageezpz.logic.commands.MarkTaskCommand.MESSAGE_MARK_TASK_SUCCESS;
 import static manageezpz.logic.commands.MarkTaskCommand.MESSAGE_USAGE;
 import static manageezpz.testutil.TypicalIndexes.INDEX_FIRST;
 import static manageezpz.testutil.TypicalIndexes.INDEX_SECOND;
+import static manageezpz.testutil.TypicalIndexes.INDEX_THIRD;
 import static manageezpz.testutil.TypicalTasks.getTypicalAddressBookTasks;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import manageezpz.commons.core.index.Index;
@@ -41,6 +45,29 @@ public class MarkTaskCommandTest {
         assertCommandSuccess(markTaskCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_multipleIndexesUnfilteredList_success() {
+        List<Task> tasksToMark = List.of(model.getFilteredTaskList().get(INDEX_FIRST.getZeroBased()),
+                model.getFilteredTaskList().get(INDEX_THIRD.getZeroBased()));
+        MarkTaskCommand markTaskCommand = new MarkTaskCommand(List.of(INDEX_FIRST, INDEX_THIRD));
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.markTasks(tasksToMark);
+
+        String expectedMessage = String.format(MESSAGE_MARK_TASKS_SUCCESS, 2);
+
+        assertCommandSuccess(markTaskCommand, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_oneInvalidIndexUnfilteredList_marksNoTask() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTaskList().size() + 1);
+        MarkTaskCommand markTaskCommand = new MarkTaskCommand(List.of(INDEX_FIRST, outOfBoundIndex));
+
+        assertCommandFailure(markTaskCommand, model,
+                String.format(MESSAGE_INVALID_TASK_DISPLAYED_INDEX, MESSAGE_USAGE));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredTaskList().size() + 1);
@@ -102,5 +129,11 @@ public class MarkTaskCommandTest {
 
         // different task -> returns false
         assertFalse(markFirstTaskCommand.equals(markSecondTaskCommand));
+
+        // same indexes -> returns true
+        assertTrue(markFirstTaskCommand.equals(new MarkTaskCommand(List.of(INDEX_FIRST))));
+
+        // different indexes -> returns false
+        assertFalse(markFirstTaskCommand.equals(new MarkTaskCommand(List.of(INDEX_FIRST, INDEX_SECOND))));
     }
 }
@@ -33,10 +33,9 @@ public class TagTaskCommandTest {
 
         Todo sameTodo = new TodoBuilder().withDescription("Weekly Quiz").build();
         model.addPerson(BOB);
-        sameTodo.addAssignees(BOB);
         Index index = ParserUtil.parseIndex("1");
         Task task = model.getAddressBook().getTaskList().get(index.getZeroBased());
-        if (task.getAssignees().contains(BOB)) {
+        if (model.isEmployeeTaggedToTask(task, BOB)) {
             model.untagEmployeeFromTask(task, BOB);
         }
         TagTaskCommand tagTaskCommand = new TagTaskCommand(index, BOB.getName().toString());
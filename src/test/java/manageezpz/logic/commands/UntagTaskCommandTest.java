@@ -35,9 +35,6 @@ public class UntagTaskCommandTest {
         // Populate model's UniquePersonList
         model.addPerson(BOB);
 
-        // Add Bob to created Todo Task.
-        sameTodo.addAssignees(BOB);
-
         // Get the Same task in model's UniqueTaskList.
         Index index = ParserUtil.parseIndex("1");
         Task task = model.getAddressBook().getTaskList().get(index.getZeroBased());
@@ -46,7 +43,7 @@ public class UntagTaskCommandTest {
         model.tagEmployeeToTask(task, BOB);
 
         // Simulate untag task for both, compare results.
-        if (task.getAssignees().contains(BOB)) {
+        if (model.isEmployeeTaggedToTask(model.getAddressBook().getTaskList().get(index.getZeroBased()), BOB)) {
             UntagTaskCommand untagTaskCommand = new UntagTaskCommand(index, BOB.getName().toString());
             String expectedMessage = String.format(MESSAGE_UNTAG_TASK_SUCCESS,
                     BOB.getName().toString()) + sameTodo;
@@ -67,8 +64,8 @@ public class UntagTaskCommandTest {
         Task task = model.getAddressBook().getTaskList().get(index.getZeroBased());
 
         // If task is already assigned with Person Bob, untag first.
-        if (task.getAssignees().contains(BOB)) {
-            task.removeAssigned(BOB);
+        if (model.isEmployeeTaggedToTask(task, BOB)) {
+            model.untagEmployeeFromTask(task, BOB);
         }
 
         // Simulate untag task
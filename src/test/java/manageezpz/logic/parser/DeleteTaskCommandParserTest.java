@@ -4,6 +4,10 @@ import static manageezpz.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT_BI
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static manageezpz.testutil.TypicalIndexes.INDEX_FIRST;
+import static manageezpz.testutil.TypicalIndexes.INDEX_SECOND;
+import static manageezpz.testutil.TypicalIndexes.INDEX_THIRD;
+
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +22,18 @@ public class DeleteTaskCommandParserTest {
         assertParseSuccess(parser, "1", new DeleteTaskCommand(INDEX_FIRST));
     }
 
+    @Test
+    public void parse_validIndexRangeAndList_returnsDeleteTaskCommand() {
+        assertParseSuccess(parser, "1-2", new DeleteTaskCommand(List.of(INDEX_FIRST, INDEX_SECOND)));
+        assertParseSuccess(parser, "3,1", new DeleteTaskCommand(List.of(INDEX_THIRD, INDEX_FIRST)));
+    }
+
+    @Test
+    public void parse_invalidIndexRange_throwsParseException() {
+        assertParseFailure(parser, "2-1", String.format(ParserUtil.MESSAGE_INVALID_INDEX_RANGE, "2-1")
+                + "\n\n" + DeleteTaskCommand.MESSAGE_USAGE);
+    }
+
     @Test
     public void parse_invalidCommandEmpty_throwsParseException() {
         assertParseFailure(parser, "",
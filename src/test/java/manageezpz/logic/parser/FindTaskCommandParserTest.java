@@ -13,6 +13,7 @@ import static manageezpz.logic.parser.CliSyntax.PREFIX_ASSIGNEES;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DATE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EXPLAIN;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_IS_MARKED;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
@@ -55,6 +56,10 @@ class FindTaskCommandParserTest {
             String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
             FindTaskCommand.MORE_THAN_ONE_TASK_TYPE + FindTaskCommand.MESSAGE_USAGE);
 
+    private static final String INVALID_EXPLAIN_ERROR_MESSAGE =
+            String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+            FindTaskCommand.INVALID_EXPLAIN + FindTaskCommand.MESSAGE_USAGE);
+
     private FindTaskCommandParser parser;
 
     @BeforeEach
@@ -132,6 +137,35 @@ class FindTaskCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    void findTaskCommandParser_validDateRange_findTaskCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_DATE.toString(), "2022-01-01..2022-01-31");
+        TaskMultiplePredicate expectedPredicate = new TaskMultiplePredicate(null, null,
+                new Date("2022-01-01"), new Date("2022-01-31"), null, null, null);
+        assertParseSuccess(parser, userInput, new FindTaskCommand(expectedPredicate));
+    }
+
+    @Test
+    void findTaskCommandParser_openEndedDateRangeToToday_findTaskCommand() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_DATE.toString(), "..today");
+        TaskMultiplePredicate expectedPredicate = new TaskMultiplePredicate(null, null,
+                null, Date.getTodayDate(), null, null, null);
+        assertParseSuccess(parser, userInput, new FindTaskCommand(expectedPredicate));
+    }
+
+    @Test
+    void findTaskCommandParser_invalidDateRange_throwParseException() {
+        String reversedRange = String.join(" ", EMPTY_STRING, PREFIX_DATE.toString(), "2022-02-01..2022-01-01");
+        assertParseFailure(parser, reversedRange, String.format(Messages.MESSAGE_INVALID_COMMAND_FORMAT_BIND,
+                FindTaskCommand.INVALID_DATE_RANGE + FindTaskCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    void findTaskCommandParser_dateRangeWithoutDates_throwParseException() {
+        String noDates = String.join(" ", EMPTY_STRING, PREFIX_DATE.toString(), "..");
+        assertParseFailure(parser, noDates, INVALID_DATE_ERROR_MESSAGE);
+    }
+
     @Test
     void findTaskCommandParser_emptyPriority_throwParseException() {
         String userInput = String.join(" ", EMPTY_STRING, PREFIX_PRIORITY.toString());
@@ -207,4 +241,26 @@ class FindTaskCommandParserTest {
         FindTaskCommand expectedCommand = new FindTaskCommand(expectedPredicate);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    void findTaskCommandParser_explainOnly_throwParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_EXPLAIN.toString());
+        assertParseFailure(parser, userInput, NO_OPTIONS_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_explainWithValue_throwParseException() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_TODO.toString(), PREFIX_EXPLAIN.toString(), "yes");
+        assertParseFailure(parser, userInput, INVALID_EXPLAIN_ERROR_MESSAGE);
+    }
+
+    @Test
+    void findTaskCommandParser_explain_findTaskCommandWithExplain() {
+        String userInput = String.join(" ", EMPTY_STRING, PREFIX_PRIORITY.toString(), VALID_PRIORITY,
+                PREFIX_EXPLAIN.toString());
+        TaskMultiplePredicate expectedPredicate = new TaskMultiplePredicate(null, null,
+                null, Priority.valueOf(VALID_PRIORITY), null, null);
+        FindTaskCommand expectedCommand = new FindTaskCommand(expectedPredicate, true);
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
 }
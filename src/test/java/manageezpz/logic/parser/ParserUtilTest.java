@@ -1,10 +1,17 @@
 package manageezpz.logic.parser;
 
+import static manageezpz.logic.parser.ParserUtil.MAX_INDEXES;
 import static manageezpz.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
+import static manageezpz.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX_RANGE;
+import static manageezpz.logic.parser.ParserUtil.MESSAGE_TOO_MANY_INDEXES;
 import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalIndexes.INDEX_FIRST;
+import static manageezpz.testutil.TypicalIndexes.INDEX_SECOND;
+import static manageezpz.testutil.TypicalIndexes.INDEX_THIRD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import manageezpz.logic.parser.exceptions.ParseException;
@@ -43,6 +50,37 @@ public class ParserUtilTest {
         assertEquals(INDEX_FIRST, ParserUtil.parseIndex("  1  "));
     }
 
+    @Test
+    public void parseIndexes_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes(""));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1,"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("0-3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1--3"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INDEX, () -> ParserUtil.parseIndexes("1-a"));
+    }
+
+    @Test
+    public void parseIndexes_rangeEndsBeforeStart_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_INDEX_RANGE, "3-1"), ()
+            -> ParserUtil.parseIndexes("2,3-1"));
+    }
+
+    @Test
+    public void parseIndexes_tooManyIndexes_throwsParseException() throws Exception {
+        assertThrows(ParseException.class, String.format(MESSAGE_TOO_MANY_INDEXES, MAX_INDEXES), ()
+            -> ParserUtil.parseIndexes("1-" + Integer.MAX_VALUE));
+        assertEquals(MAX_INDEXES, ParserUtil.parseIndexes("1-" + MAX_INDEXES + ",1-3").size());
+    }
+
+    @Test
+    public void parseIndexes_validInput_success() throws Exception {
+        assertEquals(List.of(INDEX_FIRST), ParserUtil.parseIndexes("1"));
+        assertEquals(List.of(INDEX_FIRST, INDEX_SECOND, INDEX_THIRD), ParserUtil.parseIndexes(" 1-3 "));
+
+        // Repeated indexes are kept once, in the order they first appear
+        assertEquals(List.of(INDEX_THIRD, INDEX_FIRST, INDEX_SECOND), ParserUtil.parseIndexes("3,1,3,1-2"));
+    }
+
     @Test
     public void parseName_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseName((String) null));
@@ -11,7 +11,6 @@ import static manageezpz.logic.commands.CommandTestUtil.INVALID_TAG_PRIORITY_NO_
 import static manageezpz.logic.commands.CommandTestUtil.INVALID_TAG_PRIORITY_PREAMBLE;
 import static manageezpz.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
 import static manageezpz.logic.commands.CommandTestUtil.VALID_TAG_PRIORITY;
-import static manageezpz.logic.commands.CommandTestUtil.VALID_TASK_DESCRIPTION;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static manageezpz.logic.parser.CommandParserTestUtil.assertParseSuccess;
 import static manageezpz.logic.parser.TagTaskPriorityCommandParser.MESSAGE_EMPTY_PRIORITY;
@@ -29,8 +28,6 @@ import manageezpz.model.Model;
 import manageezpz.model.ModelManager;
 import manageezpz.model.UserPrefs;
 import manageezpz.model.task.Priority;
-import manageezpz.model.task.Todo;
-import manageezpz.testutil.TodoBuilder;
 import manageezpz.testutil.TypicalTasks;
 
 
@@ -46,9 +43,6 @@ public class TagTaskPriorityCommandParserTest {
         // Setup Priority
         Priority priority = Priority.valueOf("HIGH");
 
-        Todo expectedTodo = new TodoBuilder().withDescription(VALID_TASK_DESCRIPTION).build();
-        expectedTodo.setPriority(priority);
-
         // whitespace only preamble
         assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_TAG_PRIORITY,
                 new TagTaskPriorityCommand(ParserUtil.parseIndex("1"), priority));
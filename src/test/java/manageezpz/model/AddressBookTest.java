@@ -22,6 +22,7 @@ import manageezpz.model.person.exceptions.DuplicatePersonException;
 import manageezpz.model.task.Task;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
 import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
 
 public class AddressBookTest {
 
@@ -107,6 +108,11 @@ public class AddressBookTest {
         public ObservableList<Task> getTaskList() {
             return tasks;
         }
+
+        @Override
+        public List<Person> getAssignees(Task task) {
+            return Collections.emptyList();
+        }
     }
 
     //====================== Task Tests for ManageEZPZ ======================
@@ -141,4 +147,70 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getTaskList().remove(0));
     }
 
+    @Test
+    public void tagEmployeeToTask_personInAddressBook_updatesAssignedTasksAndNumOfTasks() {
+        Person person = new PersonBuilder().build();
+        Task task = new TodoBuilder().withDescription("write report").build();
+        addressBook.addPerson(person);
+        addressBook.addTask(task);
+
+        addressBook.tagEmployeeToTask(task, person);
+
+        assertEquals(Collections.singletonList(task), addressBook.getTasksAssignedTo(person));
+        assertEquals(1, addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void untagEmployeeFromTask_taggedPerson_updatesAssignedTasksAndNumOfTasks() {
+        Person person = new PersonBuilder().build();
+        Task task = new TodoBuilder().withDescription("write report").build();
+        addressBook.addPerson(person);
+        addressBook.addTask(task);
+        addressBook.tagEmployeeToTask(task, person);
+
+        addressBook.untagEmployeeFromTask(task, person);
+
+        assertTrue(addressBook.getTasksAssignedTo(person).isEmpty());
+        assertEquals(0, addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void removeTask_taskWithAssignee_updatesNumOfTasks() {
+        Person person = new PersonBuilder().build();
+        Task task = new TodoBuilder().withDescription("write report").build();
+        addressBook.addPerson(person);
+        addressBook.addTask(task);
+        addressBook.tagEmployeeToTask(task, person);
+
+        addressBook.removeTask(task);
+
+        assertTrue(addressBook.getTasksAssignedTo(person).isEmpty());
+        assertEquals(0, addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void resetData_tasksWithAssignees_derivesNumOfTasks() {
+        Person person = new PersonBuilder().build();
+        Task task = new TodoBuilder().withDescription("write report").build();
+        AddressBook newData = new AddressBook();
+        newData.addPerson(person);
+        task = task.withAssignee(newData.getPersonList().get(0).getId());
+        newData.addTask(task);
+
+        addressBook.resetData(newData);
+
+        assertEquals(Collections.singletonList(task), addressBook.getTasksAssignedTo(person));
+        assertEquals(1, addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void getVersion_afterChange_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.getVersion() > initialVersion);
+    }
+
 }
@@ -1,11 +1,16 @@
 package manageezpz.model.person;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import manageezpz.testutil.RandomStrings;
+
 public class EmailTest {
 
     @Test
@@ -65,4 +70,23 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
         assertTrue(Email.isValidEmail("e1234567@u.nus.edu")); // more than one period in domain
     }
+
+    @Test
+    public void isValidEmail_randomStrings_sameAsValidationRegex() {
+        String[] tokens = {"a", "bc", "Z9", "0", "-", ".", "_", "+", "@", "@", "--", "..", " ", "\u00e9", "/"};
+        List<String> emails = RandomStrings.fromTokens(2, 50_000, tokens, 10);
+        emails.addAll(RandomStrings.fromAlphabet(3, 20_000, RandomStrings.ALPHABET, 8));
+        String[] parts = {"a", "bc", "Z9", "0", "a-b", "-", ".", "_", "+", "--", "..", "\u00e9"};
+        String[] localParts = RandomStrings.fromTokens(4, 200, parts, 4).toArray(new String[0]);
+        String[] domains = RandomStrings.fromTokens(5, 200, parts, 4).toArray(new String[0]);
+        emails.addAll(RandomStrings.fromParts(6, 50_000, localParts, new String[] {"@", "@", "@@", ""}, domains));
+
+        int numOfValidEmails = 0;
+        for (String email : emails) {
+            boolean isValid = email.matches(Email.VALIDATION_REGEX);
+            assertEquals(isValid, Email.isValidEmail(email), email);
+            numOfValidEmails += isValid ? 1 : 0;
+        }
+        assertTrue(numOfValidEmails > 300);
+    }
 }
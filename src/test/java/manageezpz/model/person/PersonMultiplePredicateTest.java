@@ -2,6 +2,8 @@ package manageezpz.model.person;
 
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BENSON;
+import static manageezpz.testutil.TypicalPersons.CARL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -137,4 +139,18 @@ class PersonMultiplePredicateTest {
                 ALICE.getPhone().toString(), ALICE.getEmail().toString());
         assertTrue(predicate1.test(ALICE));
     }
+
+    @Test
+    void personalMultiplePredicate_withNameIndex_sameResultAsWithoutIndex() {
+        UniquePersonList persons = new UniquePersonList();
+        persons.add(ALICE);
+        persons.add(BENSON);
+        PersonMultiplePredicate predicate = new PersonMultiplePredicate(List.of("aLiCe", "Meier"), null, null);
+        PersonMultiplePredicate indexedPredicate = predicate.withNameIndex(persons::getNamesWithWord);
+
+        assertTrue(indexedPredicate.test(ALICE));
+        assertTrue(indexedPredicate.test(BENSON));
+        assertFalse(indexedPredicate.test(CARL));
+        assertEquals(predicate, indexedPredicate);
+    }
 }
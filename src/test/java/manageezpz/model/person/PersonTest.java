@@ -5,7 +5,6 @@ import static manageezpz.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static manageezpz.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
-import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -75,17 +74,4 @@ public class PersonTest {
         assertFalse(ALICE.equals(editedAlice));
 
     }
-
-    @Test
-    public void increaseTaskCount_validPerson_success() {
-        ALICE.increaseTaskCount();
-        assertEquals(1, ALICE.getNumOfTasks());
-    }
-
-    @Test
-    public void decreaseTaskCount_validPerson_success() {
-        ALICE.increaseTaskCount();
-        ALICE.decreaseTaskCount();
-        assertEquals(0, ALICE.getNumOfTasks());
-    }
 }
@@ -1,11 +1,16 @@
 package manageezpz.model.person;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import manageezpz.testutil.RandomStrings;
+
 public class PhoneTest {
 
     @Test
@@ -37,4 +42,12 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhone_randomStrings_sameAsValidationRegex() {
+        List<String> phones = RandomStrings.fromAlphabet(1, 20_000, "0123456789" + RandomStrings.ALPHABET, 6);
+        for (String phone : phones) {
+            assertEquals(phone.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone), phone);
+        }
+    }
 }
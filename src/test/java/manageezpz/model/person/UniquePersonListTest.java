@@ -5,11 +5,14 @@ import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +47,86 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedOrEdited_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BOB);
+        Person editedAlice = new PersonBuilder().withName("Zack Tan").withPhone("81234567")
+                .withEmail("zack@example.com").build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+        assertTrue(uniquePersonList.contains(editedAlice));
+    }
+
+    @Test
+    public void containsOtherThan_onlyExcludedPersonMatches_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertFalse(uniquePersonList.containsOtherThan(editedAlice, ALICE));
+    }
+
+    @Test
+    public void containsOtherThan_otherPersonSharesPhone_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertTrue(uniquePersonList.containsOtherThan(editedAlice, ALICE));
+    }
+
+    @Test
+    public void getPersonWithPhoneAndEmail_indexedPerson_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonWithPhone(ALICE.getPhone()));
+        assertEquals(Optional.of(ALICE), uniquePersonList.getPersonWithEmail(ALICE.getEmail()));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonWithPhone(BOB.getPhone()));
+        assertEquals(Optional.empty(), uniquePersonList.getPersonWithEmail(BOB.getEmail()));
+    }
+
+    @Test
+    public void getNamesWithWord_wordInNames_returnsNamesIgnoringCase() {
+        Person aliceTan = new PersonBuilder().withName("Alice Tan").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceTan);
+        uniquePersonList.add(BOB);
+
+        assertEquals(Set.of(ALICE.getName(), aliceTan.getName()), uniquePersonList.getNamesWithWord("aLICE"));
+        assertEquals(Set.of(aliceTan.getName()), uniquePersonList.getNamesWithWord("tan"));
+        assertEquals(Set.of(), uniquePersonList.getNamesWithWord("Ali"));
+    }
+
+    @Test
+    public void getNamesWithWord_personRemovedOrRenamed_nameNotReturned() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person renamedBob = new PersonBuilder(BOB).withName("Robert Choo").build();
+        uniquePersonList.setPerson(BOB, renamedBob);
+        uniquePersonList.remove(ALICE);
+
+        assertEquals(Set.of(), uniquePersonList.getNamesWithWord("Alice"));
+        assertEquals(Set.of(), uniquePersonList.getNamesWithWord("Bob"));
+        assertEquals(Set.of(renamedBob.getName()), uniquePersonList.getNamesWithWord("choo"));
+    }
+
+    @Test
+    public void getNamesWithWordPrefix_prefixOfWords_returnsNamesOrderedByWordWithinLimit() {
+        Person alan = new PersonBuilder().withName("Alan Bee").withPhone("81111111").withEmail("alan@example.com")
+                .build();
+        Person zack = new PersonBuilder().withName("Zack Alston").withPhone("82222222")
+                .withEmail("zack@example.com").build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(zack);
+        uniquePersonList.add(alan);
+        uniquePersonList.add(BOB);
+
+        assertEquals(List.of(alan.getName(), ALICE.getName(), zack.getName()),
+                uniquePersonList.getNamesWithWordPrefix("AL", 10));
+        assertEquals(List.of(alan.getName(), ALICE.getName()), uniquePersonList.getNamesWithWordPrefix("al", 2));
+        assertEquals(List.of(), uniquePersonList.getNamesWithWordPrefix("alx", 10));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -105,6 +188,14 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonSharesPhoneWithAnotherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().value).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -158,6 +249,31 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePhone_throwsDuplicatePersonException() {
+        Person bobWithAlicePhone = new PersonBuilder(BOB).withPhone(ALICE.getPhone().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAlicePhone);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithSameEmail_throwsDuplicatePersonException() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAliceEmail);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_indexesUnchanged() {
+        uniquePersonList.add(ALICE);
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().value).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(Arrays.asList(BOB, bobWithAliceEmail)));
+
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -165,13 +281,66 @@ public class UniquePersonListTest {
     }
 
     @Test
-    public void increaseNumOfTasks_nullPerson_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.increaseNumOfTasks(null));
+    public void setNumOfTasks_nullPerson_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.setNumOfTasks(null, 0));
+    }
+
+    @Test
+    public void setNumOfTasks_personInList_updatesNumOfTasks() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setNumOfTasks(ALICE, 5);
+        assertEquals(5, uniquePersonList.asUnmodifiableObservableList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void setNumOfTasks_personInList_indexesUpdatedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setNumOfTasks(ALICE, 5);
+        Person updatedAlice = uniquePersonList.asUnmodifiableObservableList().get(0);
+        assertSame(updatedAlice, uniquePersonList.getPersonWithName(ALICE.getName()).get());
+        assertSame(updatedAlice, uniquePersonList.getPersonWithId(updatedAlice.getId()).get());
+    }
+
+    @Test
+    public void setNumOfTasks_earlierPersonRemoved_updatesMovedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        uniquePersonList.setNumOfTasks(BOB, 5);
+        assertEquals(5, uniquePersonList.asUnmodifiableObservableList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void setNumOfTasks_personNotInList_listUnchanged() {
+        uniquePersonList.setNumOfTasks(ALICE, 5);
+        assertTrue(uniquePersonList.asUnmodifiableObservableList().isEmpty());
+    }
+
+    @Test
+    public void add_personsWithoutIds_assignsIncreasingIds() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(BOB);
+        uniquePersonList.add(BOB);
+        assertEquals(1, uniquePersonList.getPersonWithName(ALICE.getName()).get().getId());
+        assertEquals(3, uniquePersonList.getPersonWithName(BOB.getName()).get().getId());
+        assertEquals(Optional.empty(), uniquePersonList.getPersonWithId(2));
+    }
+
+    @Test
+    public void setPerson_editedPerson_keepsId() {
+        uniquePersonList.add(ALICE.withId(7));
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").withId(Person.UNASSIGNED_ID).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(editedAlice, uniquePersonList.getPersonWithId(7).get());
+        assertEquals(Optional.empty(), uniquePersonList.getPersonWithName(ALICE.getName()));
     }
 
     @Test
-    public void decreaseNumOfTasks_nullPerson_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniquePersonList.decreaseNumOfTasks(null));
+    public void setPersons_listWithClashingIds_assignsNewIds() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE.withId(4), BOB.withId(4)));
+        assertEquals(ALICE, uniquePersonList.getPersonWithId(4).get());
+        assertEquals(5, uniquePersonList.getPersonWithName(BOB.getName()).get().getId());
     }
 
 }
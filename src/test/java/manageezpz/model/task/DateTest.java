@@ -6,9 +6,13 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import manageezpz.testutil.RandomStrings;
+
 public class DateTest {
 
     @Test
@@ -48,4 +52,40 @@ public class DateTest {
         Date testDate = new Date(LocalDate.now().toString());
         assertEquals(testDate, Date.getTodayDate());
     }
+
+    @Test
+    public void compareTo_differentDates_comparesByDay() {
+        assertTrue(new Date("2022-04-30").compareTo(new Date("2022-05-01")) < 0);
+        assertTrue(new Date("2023-01-01").compareTo(new Date("2022-12-31")) > 0);
+        assertEquals(0, new Date("2022-04-01").compareTo(new Date("2022-04-01")));
+    }
+
+    @Test
+    public void getDisplayDate_validDate_formattedDate() {
+        Date date = new Date("2022-04-01");
+        assertEquals(LocalDate.of(2022, 4, 1), date.getParsedDate());
+        assertEquals(LocalDate.of(2022, 4, 1).toEpochDay(), date.getEpochDay());
+        assertEquals(date.format(DateTimeFormatter.ofPattern("MMM dd yyyy")), date.getDisplayDate());
+    }
+
+    @Test
+    public void isValidDate_randomStrings_sameAsValidationRegexAndParse() {
+        String[] tokens = {"0", "1", "2", "9", "00", "02", "12", "13", "28", "29", "30", "31", "2000", "1900", "2024",
+            "0000", "-", "-", "/", "\u0663"};
+        List<String> dates = RandomStrings.fromTokens(4, 100_000, tokens, 7);
+        dates.addAll(RandomStrings.fromAlphabet(5, 20_000, "0123-" + RandomStrings.ALPHABET, 11));
+        String[] separators = {"-", "-", "-", "/", "", "--"};
+        dates.addAll(RandomStrings.fromParts(6, 50_000,
+                new String[] {"0000", "0001", "1900", "2000", "2023", "2024", "999", "20245", "2O24", "\u0662024"},
+                separators, new String[] {"00", "01", "02", "04", "09", "12", "13", "1", "1a", "\uff11\uff12"},
+                separators, new String[] {"00", "01", "09", "28", "29", "30", "31", "32", "1", "3\u0661"}));
+
+        int numOfValidDates = 0;
+        for (String date : dates) {
+            boolean isValid = date.matches(Date.VALIDATION_REGEX) && Date.validCheckDate(date);
+            assertEquals(isValid, Date.isValidDate(date), date);
+            numOfValidDates += isValid ? 1 : 0;
+        }
+        assertTrue(numOfValidDates > 1_000);
+    }
 }
@@ -2,6 +2,7 @@ package manageezpz.model.task;
 
 import static manageezpz.testutil.Assert.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import org.junit.jupiter.api.Test;
 
@@ -42,21 +43,36 @@ public class DeadlineTest {
     }
 
     @Test
-    public void setDescription_validDescription_success() {
-        testDeadline.setDescription(new Description("Finish Report"));
-        assertEquals(testDeadline.getDescription().toString(), "Finish Report");
+    public void getDateTime_withDateAndTime_showsNewDateTime() {
+        testDeadline.getDateTime();
+        Deadline newDeadline = testDeadline.withDate(new Date("2022-08-08")).withTime(new Time("0930"));
+        assertEquals("by Aug 08 2022 9:30 AM", newDeadline.getDateTime());
+        assertEquals("by Nov 08 2022 6:00 PM", testDeadline.getDateTime());
     }
 
     @Test
-    public void setDate_validDate_success() {
-        testDeadline.setDate(new Date("2022-08-08"));
-        assertEquals(testDeadline.getDate().getDate(), "2022-08-08");
+    public void withDescription_validDescription_success() {
+        Deadline newDeadline = testDeadline.withDescription(new Description("Finish Report"));
+        assertEquals(newDeadline.getDescription().toString(), "Finish Report");
+        assertEquals(testDeadline.getDescription().toString(), "testing");
     }
 
     @Test
-    public void setTime_validTime_success() {
-        testDeadline.setTime(new Time("1800"));
-        assertEquals(testDeadline.getTime().getTime(), "1800");
+    public void withDate_validDate_success() {
+        Deadline newDeadline = testDeadline.withDate(new Date("2022-08-08"));
+        assertEquals(newDeadline.getDate().getDate(), "2022-08-08");
+        assertEquals(newDeadline.getTime(), testDeadline.getTime());
+    }
+
+    @Test
+    public void withTime_validTime_success() {
+        Deadline newDeadline = testDeadline.withTime(new Time("1800"));
+        assertEquals(newDeadline.getTime().getTime(), "1800");
+    }
+
+    @Test
+    public void withTime_sameTime_returnsSameDeadline() {
+        assertSame(testDeadline, testDeadline.withTime(new Time(testDeadline.getTime().getTime())));
     }
 
 
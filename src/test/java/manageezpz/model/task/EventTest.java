@@ -47,27 +47,24 @@ public class EventTest {
     }
 
     @Test
-    public void setDescription_validDescription_success() {
-        testEvent.setDescription(new Description("Finish Report"));
-        assertEquals(testEvent.getDescription().toString(), "Finish Report");
+    public void withDescription_validDescription_success() {
+        Event newEvent = testEvent.withDescription(new Description("Finish Report"));
+        assertEquals(newEvent.getDescription().toString(), "Finish Report");
+        assertEquals(testEvent.getDescription().toString(), "testing");
     }
 
     @Test
-    public void setDate_validDate_success() {
-        testEvent.setDate(new Date("2022-08-08"));
-        assertEquals(testEvent.getDate().getDate(), "2022-08-08");
+    public void withDate_validDate_success() {
+        Event newEvent = testEvent.withDate(new Date("2022-08-08"));
+        assertEquals(newEvent.getDate().getDate(), "2022-08-08");
     }
 
     @Test
-    public void setStartTime_validTime_success() {
-        testEvent.setStartTime(new Time("1700"));
-        assertEquals(testEvent.getStartTime().getTime(), "1700");
-    }
-
-    @Test
-    public void setEndTime_validTime_success() {
-        testEvent.setEndTime(new Time("1800"));
-        assertEquals(testEvent.getEndTime().getTime(), "1800");
+    public void withTimes_validTimes_success() {
+        Event newEvent = testEvent.withTimes(new Time("1700"), new Time("1800"));
+        assertEquals(newEvent.getStartTime().getTime(), "1700");
+        assertEquals(newEvent.getEndTime().getTime(), "1800");
+        assertEquals("at Nov 08 2022 5:00 PM to 6:00 PM", newEvent.getDateTime());
     }
 
     @Test
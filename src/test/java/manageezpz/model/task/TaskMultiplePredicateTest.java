@@ -11,14 +11,19 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
 import manageezpz.testutil.DeadlineBuilder;
 
 class TaskMultiplePredicateTest {
     private static final String userInput = "Play Genshin Impact";
+    private static final List<Person> PERSONS = List.of(ALICE.withId(1), BENSON.withId(2), CARL.withId(3),
+            DANIEL.withId(4));
     private Deadline deadline;
 
     @BeforeEach
@@ -212,66 +217,83 @@ class TaskMultiplePredicateTest {
 
     @Test
     void taskMultiplePredicate_containsSamePriority_true() {
-        deadline.setPriority("HIGH");
+        Task task = deadline.withPriority(Priority.HIGH);
 
         // Same priority
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
                 null, null, Priority.HIGH, null, null);
-        assertTrue(predicateCombo1.test(deadline));
+        assertTrue(predicateCombo1.test(task));
     }
 
     @Test
     void taskMultiplePredicate_containsDifferentPriority_false() {
-        deadline.setPriority("HIGH");
+        Task task = deadline.withPriority(Priority.HIGH);
 
         // Different priority
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
                 null, null, Priority.LOW, null, null);
-        assertFalse(predicateCombo1.test(deadline));
+        assertFalse(predicateCombo1.test(task));
     }
 
     @Test
     void taskMultiplePredicate_containsAssignee_true() {
-        deadline.addAssignees(ALICE);
-        deadline.addAssignees(BENSON);
-        deadline.addAssignees(CARL);
+        Task task = deadline.withAssignee(1).withAssignee(2).withAssignee(3);
 
         // Same assignee
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
-                null, null, null, ALICE.getName().toString(), null);
-        assertTrue(predicateCombo1.test(deadline));
+                null, null, null, ALICE.getName().toString(), null)
+                .withAssigneeLookup(TaskMultiplePredicateTest::findPerson);
+        assertTrue(predicateCombo1.test(task));
     }
 
     @Test
     void taskMultiplePredicate_noContainAssignee_false() {
-        deadline.addAssignees(ALICE);
-        deadline.addAssignees(BENSON);
-        deadline.addAssignees(CARL);
+        Task task = deadline.withAssignee(1).withAssignee(2).withAssignee(3);
 
         // Different assignee
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
-                null, null, null, DANIEL.getName().toString(), null);
-        assertFalse(predicateCombo1.test(deadline));
+                null, null, null, DANIEL.getName().toString(), null)
+                .withAssigneeLookup(TaskMultiplePredicateTest::findPerson);
+        assertFalse(predicateCombo1.test(task));
+    }
+
+    @Test
+    void taskMultiplePredicate_assigneeNotLookedUpOrUnknown_false() {
+        Task task = deadline.withAssignee(1);
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null,
+                null, null, null, ALICE.getName().toString(), null);
+
+        // Assignee id not looked up
+        assertFalse(predicate.test(task));
+
+        // No person with the name, or an invalid name
+        assertFalse(predicate.withAssigneeLookup(name -> Optional.empty()).test(task));
+        assertFalse(new TaskMultiplePredicate(null, null, null, null, "Alice*", null)
+                .withAssigneeLookup(TaskMultiplePredicateTest::findPerson).test(task));
+    }
+
+    private static Optional<Person> findPerson(Name name) {
+        return PERSONS.stream().filter(person -> person.getName().equals(name)).findFirst();
     }
 
     @Test
     void taskMultiplePredicate_containsSameIsMarked_true() {
-        deadline.setTaskDone();
+        Task task = deadline.withDone(true);
 
         // Is Marked is the same
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
                 null, null, null, null, Boolean.TRUE);
-        assertTrue(predicateCombo1.test(deadline));
+        assertTrue(predicateCombo1.test(task));
     }
 
     @Test
     void taskMultiplePredicate_containsDifferentIsMarked_false() {
-        deadline.setTaskDone();
+        Task task = deadline.withDone(true);
 
         // Is Marked boolean different
         TaskMultiplePredicate predicateCombo1 = new TaskMultiplePredicate(null,
                 null, null, null, null, Boolean.FALSE);
-        assertFalse(predicateCombo1.test(deadline));
+        assertFalse(predicateCombo1.test(task));
     }
 
     @Test
@@ -280,4 +302,15 @@ class TaskMultiplePredicateTest {
                 List.of("Genshin"), new Date("2022-04-01"), Priority.NONE, null, Boolean.FALSE);
         assertTrue(predicateCombo1.test(deadline));
     }
+
+    @Test
+    void test_dateRange_matchesDatesInRangeInclusive() {
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, null, new Date("2022-03-01"),
+                new Date("2022-04-01"), null, null, null);
+        TaskMultiplePredicate openEndedPredicate = new TaskMultiplePredicate(null, null, new Date("2022-04-02"),
+                null, null, null, null);
+
+        assertTrue(predicate.test(deadline));
+        assertFalse(openEndedPredicate.test(deadline));
+    }
 }
@@ -0,0 +1,118 @@
+package manageezpz.model.task;
+
+import static manageezpz.logic.parser.CliSyntax.PREFIX_DEADLINE;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_EVENT;
+import static manageezpz.logic.parser.CliSyntax.PREFIX_TODO;
+import static manageezpz.testutil.TypicalPersons.GEORGE;
+import static manageezpz.testutil.TypicalTasks.GEORGE_ID;
+import static manageezpz.testutil.TypicalTasks.READ_BOOK;
+import static manageezpz.testutil.TypicalTasks.getTypicalTask;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskQueryPlanTest {
+    private final UniqueTaskList taskList = new UniqueTaskList();
+
+    @BeforeEach
+    void setTasks() {
+        taskList.setTasks(getTypicalTask());
+    }
+
+    @Test
+    void planQuery_keywordsMoreSelective_looksUpKeywordsFirst() {
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, List.of("Book"), null, null,
+                null, false);
+        TaskQueryPlan plan = planQuery(predicate);
+
+        assertEquals(List.of("desc/Book", "isMarked/false"), getOptions(plan));
+        assertEquals(List.of(2, 10), getEstimates(plan));
+        assertEquals(List.of(2, 1), getCandidatesLeft(plan));
+        assertEquals(List.of(READ_BOOK), getMatchingTasks(plan));
+    }
+
+    @Test
+    void planQuery_bitsetOptionMostSelective_intersectsAllBitsetOptions() {
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(PREFIX_DEADLINE, null, null,
+                Priority.HIGH, GEORGE.getName().fullName, null);
+        TaskQueryPlan plan = planQuery(predicate);
+
+        assertEquals(List.of("deadline/ priority/HIGH", "assignees/George Best"), getOptions(plan));
+        assertEquals(List.of(3, 4), getEstimates(plan));
+        assertEquals(List.of(2, 2), getCandidatesLeft(plan));
+    }
+
+    @Test
+    void planQuery_variousOptions_sameTasksAsPredicate() {
+        List<TaskMultiplePredicate> predicates = List.of(
+                new TaskMultiplePredicate(PREFIX_TODO, null, null, null, null, true),
+                new TaskMultiplePredicate(PREFIX_EVENT, null, new Date("2022-04-01"), null, null, null),
+                new TaskMultiplePredicate(null, List.of("get", "report"), null, null, null, null),
+                new TaskMultiplePredicate(null, null, new Date("2022-04-01"), new Date("2022-05-13"),
+                        Priority.HIGH, null, null),
+                new TaskMultiplePredicate(null, List.of("Capstone"), new Date("2022-04-01"), Priority.HIGH,
+                        GEORGE.getName().fullName, true),
+                new TaskMultiplePredicate(null, null, null, null, "Nobody", null));
+
+        for (TaskMultiplePredicate unresolvedPredicate : predicates) {
+            TaskMultiplePredicate predicate = withGeorgeLookup(unresolvedPredicate);
+            TaskQueryPlan plan = taskList.planQuery(predicate, this::getDescriptionsAssignedTo);
+            for (Task task : taskList) {
+                assertEquals(predicate.test(task), plan.test(task), predicate.toString() + task);
+            }
+        }
+    }
+
+    @Test
+    void explain_keywordsAndMarked_describesEachStep() {
+        TaskMultiplePredicate predicate = new TaskMultiplePredicate(null, List.of("Book"), null, null,
+                null, false);
+
+        String expectedExplanation = String.format(TaskQueryPlan.MESSAGE_PLAN_HEADER, 12)
+                + "\n1. desc/Book by word index (estimated 2): 2 candidates"
+                + "\n2. isMarked/false by checking candidates (estimated 10): 1 candidates";
+        assertEquals(expectedExplanation, planQuery(predicate).explain());
+    }
+
+    private TaskQueryPlan planQuery(TaskMultiplePredicate predicate) {
+        return taskList.planQuery(withGeorgeLookup(predicate), this::getDescriptionsAssignedTo);
+    }
+
+    private Set<Description> getDescriptionsAssignedTo(int personId) {
+        return taskList.asUnmodifiableObservableList().stream()
+                .filter(task -> task.isAssignedTo(personId))
+                .map(Task::getDescription)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns {@code predicate} resolving its assignee with GEORGE as the only employee.
+     */
+    private static TaskMultiplePredicate withGeorgeLookup(TaskMultiplePredicate predicate) {
+        return predicate.withAssigneeLookup(name -> name.equals(GEORGE.getName())
+                ? Optional.of(GEORGE.withId(GEORGE_ID))
+                : Optional.empty());
+    }
+
+    private static List<String> getOptions(TaskQueryPlan plan) {
+        return plan.getSteps().stream().map(TaskQueryPlan.Step::getOptions).collect(Collectors.toList());
+    }
+
+    private static List<Integer> getEstimates(TaskQueryPlan plan) {
+        return plan.getSteps().stream().map(TaskQueryPlan.Step::getEstimatedMatches).collect(Collectors.toList());
+    }
+
+    private static List<Integer> getCandidatesLeft(TaskQueryPlan plan) {
+        return plan.getSteps().stream().map(TaskQueryPlan.Step::getCandidatesLeft).collect(Collectors.toList());
+    }
+
+    private List<Task> getMatchingTasks(TaskQueryPlan plan) {
+        return taskList.asUnmodifiableObservableList().filtered(plan);
+    }
+}
@@ -1,12 +1,16 @@
 package manageezpz.model.task;
 
 import static manageezpz.logic.commands.CommandTestUtil.VALID_TASK_DESCRIPTION;
-import static manageezpz.testutil.TypicalTasks.GET_A_DRINK;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import manageezpz.testutil.TodoBuilder;
@@ -52,21 +56,43 @@ public class TaskTest {
     }
 
     @Test
-    public void isDone() {
-        READ_BOOK.setTaskDone();
-        assertTrue(READ_BOOK.isDone);
+    public void withDone() {
+        Task doneTask = READ_BOOK.withDone(true);
+        assertTrue(doneTask.isDone());
+        assertFalse(READ_BOOK.isDone());
+        assertSame(doneTask, doneTask.withDone(true));
+
+        Task notDoneTask = doneTask.withDone(false);
+        assertFalse(notDoneTask.isDone());
+        assertEquals(READ_BOOK, notDoneTask);
+    }
 
-        GET_A_DRINK.setTaskDone();
-        assertTrue(GET_A_DRINK.isDone);
+    @Test
+    public void withAssignee() {
+        Task assignedTask = READ_BOOK.withAssignee(1).withAssignee(2);
+        assertArrayEquals(new int[] {1, 2}, assignedTask.getAssigneeIds());
+        assertFalse(READ_BOOK.hasAssignees());
+        assertSame(assignedTask, assignedTask.withAssignee(1));
+
+        Task unassignedTask = assignedTask.withoutAssignee(1);
+        assertArrayEquals(new int[] {2}, unassignedTask.getAssigneeIds());
+        assertSame(unassignedTask, unassignedTask.withoutAssignee(1));
     }
 
     @Test
-    public void isNotDone() {
-        READ_BOOK.setTaskNotDone();
-        assertFalse(READ_BOOK.isDone);
+    public void withPriority_sharesOtherFields() {
+        Task assignedTask = READ_BOOK.withAssignee(1);
+        Task prioritisedTask = assignedTask.withPriority(Priority.HIGH);
+        assertEquals(Priority.HIGH, prioritisedTask.getPriority());
+        assertEquals(Priority.NONE, assignedTask.getPriority());
+        assertSame(assignedTask.getAssignees(), prioritisedTask.getAssignees());
+    }
 
-        GET_A_DRINK.setTaskNotDone();
-        assertFalse(GET_A_DRINK.isDone);
+    @Test
+    public void hashCode_equalTasks_sameHashCode() {
+        assertEquals(READ_BOOK.hashCode(), new TodoBuilder(READ_BOOK).build().hashCode());
+        assertEquals(READ_BOOK.hashCode(), READ_BOOK.withPriority(Priority.HIGH).hashCode());
+        assertTrue(Set.of(READ_BOOK, RETURN_BOOK).contains(new TodoBuilder(READ_BOOK).build()));
     }
 
 }
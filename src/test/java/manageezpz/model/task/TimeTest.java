@@ -1,11 +1,18 @@
 package manageezpz.model.task;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import manageezpz.testutil.RandomStrings;
+
 public class TimeTest {
 
     @Test
@@ -39,4 +46,33 @@ public class TimeTest {
         assertTrue(Time.isValidTime("2000"));
         assertTrue(Time.isValidTime("1423"));
     }
+
+    @Test
+    public void compareTo_differentTimes_comparesByMinute() {
+        assertTrue(new Time("0959").compareTo(new Time("1000")) < 0);
+        assertTrue(new Time("2359").compareTo(new Time("0000")) > 0);
+        assertEquals(0, new Time("1200").compareTo(new Time("1200")));
+    }
+
+    @Test
+    public void getDisplayTime_validTime_formattedTime() {
+        Time time = new Time("1805");
+        assertEquals(18 * 60 + 5, time.getMinuteOfDay());
+        assertEquals(LocalTime.of(18, 5), time.getParsedTime());
+        assertEquals(time.format(DateTimeFormatter.ofPattern("h:mm a")), time.getDisplayTime());
+    }
+
+    @Test
+    public void isValidTime_randomStrings_sameAsValidationRegexes() {
+        List<String> times = RandomStrings.fromAlphabet(6, 50_000, "0123456789012345" + RandomStrings.ALPHABET, 5);
+
+        int numOfValidTimes = 0;
+        for (String time : times) {
+            boolean isValid = time.matches(Time.VALIDATION_REGEX)
+                    && time.matches("([01]?[0-9]|2[0-3])[0-5][0-9]");
+            assertEquals(isValid, Time.isValidTime(time), time);
+            numOfValidTimes += isValid ? 1 : 0;
+        }
+        assertTrue(numOfValidTimes > 100);
+    }
 }
@@ -1,19 +1,31 @@
 package manageezpz.model.task;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalTasks.GET_DRINK;
+import static manageezpz.testutil.TypicalTasks.GET_HAIRCUT;
+import static manageezpz.testutil.TypicalTasks.GO_FOR_RUN;
+import static manageezpz.testutil.TypicalTasks.HOUSE_VISTING;
+import static manageezpz.testutil.TypicalTasks.PROJECT_CAPSTONE;
 import static manageezpz.testutil.TypicalTasks.READ_BOOK;
 import static manageezpz.testutil.TypicalTasks.RETURN_BOOK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import manageezpz.model.task.exceptions.DuplicateTaskException;
 import manageezpz.model.task.exceptions.TaskNotFoundException;
+import manageezpz.testutil.DeadlineBuilder;
 
 public class UniqueTaskListTest {
 
@@ -35,6 +47,139 @@ public class UniqueTaskListTest {
         assertTrue(uniqueTaskList.contains(READ_BOOK));
     }
 
+    @Test
+    public void indexOf_taskNotInList_returnsMinusOne() {
+        uniqueTaskList.add(GO_FOR_RUN);
+        assertEquals(-1, uniqueTaskList.indexOf(READ_BOOK));
+    }
+
+    @Test
+    public void indexOf_taskInList_returnsPosition() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        assertEquals(1, uniqueTaskList.indexOf(GO_FOR_RUN));
+    }
+
+    @Test
+    public void getDescriptionsWithWord_wordInDescriptions_returnsMatchesIgnoringCase() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(RETURN_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        assertEquals(Set.of(READ_BOOK.getDescription(), RETURN_BOOK.getDescription()),
+                uniqueTaskList.getDescriptionsWithWord("bOOk"));
+        assertTrue(uniqueTaskList.getDescriptionsWithWord("Boo").isEmpty());
+    }
+
+    @Test
+    public void getDescriptionsWithWord_afterSetTaskAndRemove_indexUpdated() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.setTask(READ_BOOK, GET_HAIRCUT);
+        uniqueTaskList.remove(GO_FOR_RUN);
+
+        assertTrue(uniqueTaskList.getDescriptionsWithWord("book").isEmpty());
+        assertTrue(uniqueTaskList.getDescriptionsWithWord("run").isEmpty());
+        assertEquals(Set.of(GET_HAIRCUT.getDescription()), uniqueTaskList.getDescriptionsWithWord("haircut"));
+    }
+
+    @Test
+    public void getTasksInDateRange_datedTasks_returnsTasksInRangeByDate() {
+        uniqueTaskList.add(HOUSE_VISTING);
+        uniqueTaskList.add(GET_DRINK);
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(PROJECT_CAPSTONE);
+
+        assertEquals(List.of(PROJECT_CAPSTONE, GET_DRINK),
+                uniqueTaskList.getTasksInDateRange(LocalDate.of(2022, 4, 1), LocalDate.of(2022, 5, 13)));
+        assertEquals(List.of(GET_DRINK, HOUSE_VISTING),
+                uniqueTaskList.getTasksInDateRange(LocalDate.of(2022, 4, 2), null));
+        assertEquals(List.of(PROJECT_CAPSTONE), uniqueTaskList.getTasksInDateRange(null, LocalDate.of(2022, 4, 1)));
+        assertTrue(uniqueTaskList.getTasksInDateRange(LocalDate.of(2022, 5, 1), LocalDate.of(2022, 4, 1)).isEmpty());
+    }
+
+    @Test
+    public void getTasksInDateRange_afterSetTaskAndRemove_indexUpdated() {
+        uniqueTaskList.add(GET_DRINK);
+        uniqueTaskList.add(PROJECT_CAPSTONE);
+        Deadline postponedDrink = new DeadlineBuilder().withDescription("Get Drink").withDate("2023-01-01")
+                .withTime("1800").build();
+        uniqueTaskList.setTask(GET_DRINK, postponedDrink);
+        uniqueTaskList.remove(PROJECT_CAPSTONE);
+
+        assertEquals(List.of(postponedDrink), uniqueTaskList.getTasksInDateRange(null, null));
+    }
+
+    @Test
+    public void getTaskPositions_afterEditsAndRemove_positionsUpdated() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GET_DRINK);
+        uniqueTaskList.add(HOUSE_VISTING);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.markTask(GET_DRINK);
+        uniqueTaskList.tagPriorityToTask(GO_FOR_RUN, Priority.HIGH);
+        uniqueTaskList.remove(READ_BOOK);
+
+        assertEquals(BitSet.valueOf(new long[] {0b100}),
+                uniqueTaskList.getTaskPositions(Todo.class, Priority.HIGH, null));
+        assertEquals(BitSet.valueOf(new long[] {0b001}),
+                uniqueTaskList.getTaskPositions(Deadline.class, null, true));
+        assertEquals(BitSet.valueOf(new long[] {0b110}), uniqueTaskList.getTaskPositions(null, null, false));
+        assertEquals(BitSet.valueOf(new long[] {0b111}), uniqueTaskList.getTaskPositions(null, null, null));
+        assertTrue(uniqueTaskList.getTaskPositions(Event.class, Priority.HIGH, null).isEmpty());
+    }
+
+    @Test
+    public void markTask_alreadyMarked_sameTaskKept() {
+        uniqueTaskList.add(RETURN_BOOK);
+        assertSame(RETURN_BOOK, uniqueTaskList.markTask(RETURN_BOOK));
+        assertSame(RETURN_BOOK, uniqueTaskList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void markTasks_multipleTasks_listenersNotifiedOnce() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.add(GET_HAIRCUT);
+        List<Integer> replacedSizes = recordChanges();
+
+        List<Task> markedTasks = uniqueTaskList.markTasks(List.of(GET_HAIRCUT, READ_BOOK));
+
+        assertEquals(List.of(2), replacedSizes);
+        assertTrue(markedTasks.get(0).isSameTask(GET_HAIRCUT) && markedTasks.get(0).isDone());
+        assertTrue(markedTasks.get(1).isSameTask(READ_BOOK) && markedTasks.get(1).isDone());
+        assertEquals(BitSet.valueOf(new long[] {0b101}), uniqueTaskList.getTaskPositions(null, null, true));
+    }
+
+    @Test
+    public void markTasks_taskNotInList_listUnchanged() {
+        uniqueTaskList.add(READ_BOOK);
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.markTasks(List.of(READ_BOOK, GO_FOR_RUN)));
+        assertSame(READ_BOOK, uniqueTaskList.asUnmodifiableObservableList().get(0));
+    }
+
+    @Test
+    public void tagEmployeeToTasks_multipleTasks_allTasksTagged() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.tagEmployeeToTasks(List.of(READ_BOOK, GO_FOR_RUN), 5);
+
+        assertTrue(uniqueTaskList.asUnmodifiableObservableList().stream().allMatch(task -> task.isAssignedTo(5)));
+    }
+
+    @Test
+    public void tagEmployeeToTask_thenMark_assigneesKept() {
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.tagEmployeeToTask(GO_FOR_RUN, 5);
+        Task markedTask = uniqueTaskList.markTask(GO_FOR_RUN);
+
+        assertTrue(markedTask.isAssignedTo(5));
+        assertFalse(GO_FOR_RUN.isAssignedTo(5));
+        assertTrue(uniqueTaskList.getTask(GO_FOR_RUN.getDescription()).isAssignedTo(5));
+
+        uniqueTaskList.untagEmployeeFromTask(markedTask, 5);
+        assertFalse(uniqueTaskList.getTask(GO_FOR_RUN.getDescription()).isAssignedTo(5));
+    }
+
     @Test
     public void add_nullTask_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.add(null));
@@ -64,6 +209,14 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void setTask_editedTaskHasDifferentIdentity_updatesIndex() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.setTask(READ_BOOK, GO_FOR_RUN);
+        assertFalse(uniqueTaskList.contains(READ_BOOK));
+        assertEquals(0, uniqueTaskList.indexOf(GO_FOR_RUN));
+    }
+
     @Test
     public void setTask_editedTaskHasNonUniqueIdentity_throwsDuplicateTaskException() {
         uniqueTaskList.add(READ_BOOK);
@@ -89,6 +242,45 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_taskBeforeOtherTasks_updatesPositionsOfLaterTasks() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.add(GET_HAIRCUT);
+        uniqueTaskList.remove(READ_BOOK);
+        assertFalse(uniqueTaskList.contains(READ_BOOK));
+        assertEquals(0, uniqueTaskList.indexOf(GO_FOR_RUN));
+        assertEquals(1, uniqueTaskList.indexOf(GET_HAIRCUT));
+    }
+
+    @Test
+    public void removeAll_tasksAcrossList_listenersNotifiedOnceAndIndexesUpdated() {
+        uniqueTaskList.add(READ_BOOK);
+        uniqueTaskList.add(GET_DRINK);
+        uniqueTaskList.add(GO_FOR_RUN);
+        uniqueTaskList.add(HOUSE_VISTING);
+        uniqueTaskList.add(GET_HAIRCUT);
+        List<Integer> removedSizes = recordChanges();
+
+        uniqueTaskList.removeAll(List.of(GET_HAIRCUT, READ_BOOK, GO_FOR_RUN, READ_BOOK));
+
+        assertEquals(List.of(3), removedSizes);
+        assertEquals(List.of(GET_DRINK, HOUSE_VISTING), uniqueTaskList.asUnmodifiableObservableList());
+        assertEquals(0, uniqueTaskList.indexOf(GET_DRINK));
+        assertEquals(1, uniqueTaskList.indexOf(HOUSE_VISTING));
+        assertEquals(BitSet.valueOf(new long[] {0b01}), uniqueTaskList.getTaskPositions(Deadline.class, null, null));
+        assertEquals(BitSet.valueOf(new long[] {0b10}), uniqueTaskList.getTaskPositions(Event.class, null, null));
+        assertTrue(uniqueTaskList.getTaskPositions(Todo.class, null, null).isEmpty());
+        assertTrue(uniqueTaskList.getDescriptionsWithWord("book").isEmpty());
+    }
+
+    @Test
+    public void removeAll_taskNotInList_listUnchanged() {
+        uniqueTaskList.add(READ_BOOK);
+        assertThrows(TaskNotFoundException.class, () -> uniqueTaskList.removeAll(List.of(READ_BOOK, GO_FOR_RUN)));
+        assertTrue(uniqueTaskList.contains(READ_BOOK));
+    }
+
     @Test
     public void setTask_nullUniqueTaskList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueTaskList.setTasks((UniqueTaskList) null));
@@ -105,4 +297,20 @@ public class UniqueTaskListTest {
         assertThrows(UnsupportedOperationException.class, () ->
                 uniqueTaskList.asUnmodifiableObservableList().remove(0));
     }
+
+    /**
+     * Records each change to {@code uniqueTaskList} from now on as the total number of tasks that the change
+     * replaced or removed.
+     */
+    private List<Integer> recordChanges() {
+        List<Integer> sizes = new ArrayList<>();
+        uniqueTaskList.asUnmodifiableObservableList().addListener((ListChangeListener<Task>) change -> {
+            int size = 0;
+            while (change.next()) {
+                size += change.getRemovedSize();
+            }
+            sizes.add(size);
+        });
+        return sizes;
+    }
 }
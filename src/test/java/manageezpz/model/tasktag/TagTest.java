@@ -0,0 +1,27 @@
+package manageezpz.model.tasktag;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import manageezpz.testutil.RandomStrings;
+
+public class TagTest {
+
+    @Test
+    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new Tag(""));
+        assertThrows(IllegalArgumentException.class, () -> new Tag("urgent!"));
+    }
+
+    @Test
+    public void isValidTagName_randomStrings_sameAsValidationRegex() {
+        List<String> tagNames = RandomStrings.fromAlphabet(7, 20_000, RandomStrings.ALPHABET, 5);
+        for (String tagName : tagNames) {
+            assertEquals(tagName.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(tagName), tagName);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployeesEdit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.model.AddressBook;
+import manageezpz.testutil.TodoBuilder;
+
+public class DeferredSaveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new DeferredSaveStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_beforeFlush_nothingWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        DeferredSaveStorage storage = createStorage(filePath);
+
+        storage.saveAddressBook(getTypicalAddressBookEmployeesEdit());
+
+        assertTrue(storage.hasDeferredSave());
+        assertFalse(new JsonChangeLogAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void flush_severalSaves_latestChangesWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        DeferredSaveStorage storage = createStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        original.addTask(new TodoBuilder().withDescription("Write minutes").build());
+        storage.saveAddressBook(original);
+        original.addTask(new TodoBuilder().withDescription("Send minutes").build());
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertFalse(storage.hasDeferredSave());
+        assertEquals(original, new AddressBook(new JsonChangeLogAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_deferredSave_writtenFirst() throws Exception {
+        DeferredSaveStorage storage = createStorage(testFolder.resolve("ab.json"));
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+
+        storage.saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(storage.hasDeferredSave());
+    }
+
+    private DeferredSaveStorage createStorage(Path filePath) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new DeferredSaveStorage(new StorageManager(new JsonChangeLogAddressBookStorage(filePath),
+                userPrefsStorage));
+    }
+}
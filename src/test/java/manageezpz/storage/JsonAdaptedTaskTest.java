@@ -4,31 +4,36 @@ import static manageezpz.testutil.Assert.assertThrows;
 import static manageezpz.testutil.TypicalPersons.ALICE;
 import static manageezpz.testutil.TypicalPersons.BOB;
 import static manageezpz.testutil.TypicalPersons.CARL;
+import static manageezpz.testutil.TypicalPersons.GEORGE;
+import static manageezpz.testutil.TypicalTasks.GEORGE_ID;
 import static manageezpz.testutil.TypicalTasks.GET_DRINK;
 import static manageezpz.testutil.TypicalTasks.HOUSE_VISTING;
 import static manageezpz.testutil.TypicalTasks.WEEKLY_QUIZ;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import manageezpz.commons.exceptions.IllegalValueException;
+import manageezpz.commons.util.JsonUtil;
 import manageezpz.model.person.Person;
-import manageezpz.model.task.Todo;
+import manageezpz.model.task.Task;
 
 
 public class JsonAdaptedTaskTest {
 
-    private static final Person VALID_ASSIGNEE_ALICE = ALICE;
-    private static final Person VALID_ASSIGNEE_BOB = BOB;
-    private static final Person VALID_ASSIGNEE_CARL = CARL;
+    private static final Person VALID_ASSIGNEE_ALICE = ALICE.withId(2);
+    private static final Person VALID_ASSIGNEE_BOB = BOB.withId(3);
+    private static final Person VALID_ASSIGNEE_CARL = CARL.withId(4);
+    private static final Person VALID_ASSIGNEE_GEORGE = GEORGE.withId(GEORGE_ID);
     private static final List<Person> PERSON_LIST = Arrays.asList(VALID_ASSIGNEE_ALICE,
-            VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_CARL);
-    private static final ObservableList<Person> VALID_PERSON_LIST = FXCollections.observableArrayList(PERSON_LIST);
+            VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_CARL, VALID_ASSIGNEE_GEORGE);
 
     private static final String VALID_STATUS = " ";
     private static final String VALID_TAG = "";
@@ -60,20 +65,20 @@ public class JsonAdaptedTaskTest {
     @Test
     public void toModelType_validTodoTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(WEEKLY_QUIZ);
-        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(WEEKLY_QUIZ, loadTask(todoTask));
     }
 
     @Test
     public void toModelType_validDeadlineTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(GET_DRINK);
-        assertEquals(GET_DRINK, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(GET_DRINK, loadTask(todoTask));
     }
 
 
     @Test
     public void toModelType_validEventTaskDetails_constructor() throws Exception {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(HOUSE_VISTING);
-        assertEquals(HOUSE_VISTING, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(HOUSE_VISTING, loadTask(todoTask, VALID_ASSIGNEE_GEORGE));
     }
 
     @Test
@@ -81,9 +86,8 @@ public class JsonAdaptedTaskTest {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, "X",
                 VALID_TODO_DESCRIPTION, null, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        Todo quizTaskMarked = new Todo(WEEKLY_QUIZ);
-        quizTaskMarked.setTaskDone();
-        assertEquals(quizTaskMarked, todoTask.toModelType(VALID_PERSON_LIST));
+        Task quizTaskMarked = WEEKLY_QUIZ.withDone(true);
+        assertEquals(quizTaskMarked, loadTask(todoTask));
     }
 
     @Test
@@ -91,7 +95,7 @@ public class JsonAdaptedTaskTest {
         JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, VALID_STATUS,
                 VALID_TODO_DESCRIPTION, null, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        assertEquals(WEEKLY_QUIZ, todoTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(WEEKLY_QUIZ, loadTask(todoTask));
     }
 
     @Test
@@ -100,7 +104,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE,
                 VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
-        assertEquals(GET_DRINK, deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(GET_DRINK, loadTask(deadlineTask));
     }
 
     @Test
@@ -109,7 +113,46 @@ public class JsonAdaptedTaskTest {
                 VALID_STATUS, VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE,
                 null, VALID_EVENT_STARTTIME, VALID_EVENT_ENDTIME,
                 VALID_TAG, VALID_PRIORITY);
-        assertEquals(HOUSE_VISTING, eventTask.toModelType(VALID_PERSON_LIST));
+        assertEquals(HOUSE_VISTING, loadTask(eventTask));
+    }
+
+    @Test
+    public void toModelType_assigneeIds_returnsTaskWithSameAssignees() throws Exception {
+        Task todo = WEEKLY_QUIZ.withAssignee(VALID_ASSIGNEE_BOB.getId()).withAssignee(VALID_ASSIGNEE_ALICE.getId());
+        Task task = loadTask(new JsonAdaptedTask(todo), VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_ALICE);
+        assertArrayEquals(new int[] {VALID_ASSIGNEE_BOB.getId(), VALID_ASSIGNEE_ALICE.getId()},
+                task.getAssigneeIds());
+    }
+
+    @Test
+    public void constructor_withAssignees_savesAssigneeNamesInTag() throws Exception {
+        Task todo = WEEKLY_QUIZ.withAssignee(VALID_ASSIGNEE_BOB.getId()).withAssignee(VALID_ASSIGNEE_ALICE.getId());
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(todo, List.of(VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_ALICE));
+
+        assertTrue(JsonUtil.toJsonString(todoTask).contains("\"tag\" : \"" + VALID_ASSIGNEE_BOB.getName() + ", "
+                + VALID_ASSIGNEE_ALICE.getName() + "\""));
+        assertArrayEquals(todo.getAssigneeIds(),
+                loadTask(todoTask, VALID_ASSIGNEE_BOB, VALID_ASSIGNEE_ALICE).getAssigneeIds());
+    }
+
+    @Test
+    public void toModelType_legacyTagOfNames_assignsPersonIds() throws Exception {
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, VALID_STATUS,
+                VALID_TODO_DESCRIPTION, null, null, null, null,
+                VALID_ASSIGNEE_CARL.getName() + "," + VALID_ASSIGNEE_ALICE.getName() + ",Unknown Person",
+                VALID_PRIORITY);
+        Task task = loadTask(todoTask, VALID_ASSIGNEE_CARL, VALID_ASSIGNEE_ALICE);
+        assertArrayEquals(new int[] {VALID_ASSIGNEE_CARL.getId(), VALID_ASSIGNEE_ALICE.getId()},
+                task.getAssigneeIds());
+    }
+
+    @Test
+    public void toModelType_unknownAssigneeId_throwsIllegalValueException() {
+        JsonAdaptedTask todoTask = new JsonAdaptedTask(VALID_TYPE_TODO, VALID_STATUS,
+                VALID_TODO_DESCRIPTION, null, null, null, null, null, List.of(VALID_ASSIGNEE_ALICE.getId(), 99),
+                VALID_PRIORITY);
+        String expectedMessage = String.format(JsonAdaptedTask.UNKNOWN_ASSIGNEE_MESSAGE_FORMAT, 99);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -118,7 +161,7 @@ public class JsonAdaptedTaskTest {
                 INVALID_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DESCRIPTION_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -127,7 +170,7 @@ public class JsonAdaptedTaskTest {
                 null, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DESCRIPTION_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -136,7 +179,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INCORRECT_TYPE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -145,7 +188,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_TYPE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -154,7 +197,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_STATUS_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -163,7 +206,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_STATUS_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -172,7 +215,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", null, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_TAG_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -181,7 +224,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, null);
         String expectedMessage = JsonAdaptedTask.NULL_PRIORITY_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -190,7 +233,7 @@ public class JsonAdaptedTaskTest {
                 VALID_TODO_DESCRIPTION, "", "", "",
                 "", VALID_TAG, INVALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_PRIORITY_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> todoTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(todoTask));
     }
 
     @Test
@@ -199,7 +242,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, null, VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DEADLINE_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(deadlineTask));
     }
 
     @Test
@@ -208,7 +251,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, INVALID_DATE, VALID_DEADLINE_TIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DEADLINE_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(deadlineTask));
     }
 
     @Test
@@ -217,7 +260,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE, null, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_DEADLINE_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(deadlineTask));
     }
 
     @Test
@@ -226,7 +269,7 @@ public class JsonAdaptedTaskTest {
                 VALID_DEADLINE_DESCRIPTION, VALID_DEADLINE_DATE, INVALID_DEADLINETIME, null,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_DEADLINE_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> deadlineTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(deadlineTask));
     }
 
     @Test
@@ -235,7 +278,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, null, null, VALID_EVENT_STARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
     @Test
@@ -244,7 +287,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, INVALID_DATE, null, VALID_EVENT_STARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_DATE_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
     @Test
@@ -253,7 +296,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, null,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_START_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
     @Test
@@ -262,7 +305,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, INVALID_EVENTSTARTTIME,
                 VALID_EVENT_ENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_START_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
     @Test
@@ -271,7 +314,7 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, VALID_EVENT_STARTTIME,
                 null, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.NULL_EVENT_END_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
     @Test
@@ -280,7 +323,22 @@ public class JsonAdaptedTaskTest {
                 VALID_EVENT_DESCRIPTION, VALID_EVENT_DATE, null, VALID_EVENT_STARTTIME,
                 INVALID_EVENTENDTIME, VALID_TAG, VALID_PRIORITY);
         String expectedMessage = JsonAdaptedTask.INVALID_EVENT_END_TIME_MESSAGE_FORMAT;
-        assertThrows(IllegalValueException.class, expectedMessage, () -> eventTask.toModelType(VALID_PERSON_LIST));
+        assertThrows(IllegalValueException.class, expectedMessage, () -> loadTask(eventTask));
     }
 
+    /**
+     * Loads {@code task} through an {@code AddressBookLoader} together with the valid assignees, of which only
+     * {@code assignees} are counted as assigned to it.
+     */
+    private static Task loadTask(JsonAdaptedTask task, Person... assignees) throws IllegalValueException {
+        Set<Integer> assigneeIds = Arrays.stream(assignees).map(Person::getId).collect(Collectors.toSet());
+        AddressBookLoader loader = new AddressBookLoader();
+        for (Person person : PERSON_LIST) {
+            int numOfTasks = assigneeIds.contains(person.getId()) ? 1 : 0;
+            loader.addPerson(new JsonAdaptedPerson(new Person(person.getId(), person.getName(), person.getPhone(),
+                    person.getEmail(), numOfTasks)));
+        }
+        loader.addTask(task);
+        return loader.getAddressBook().getTaskList().get(0);
+    }
 }
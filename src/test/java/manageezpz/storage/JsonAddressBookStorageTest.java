@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.util.JsonUtil;
 import manageezpz.model.AddressBook;
 import manageezpz.model.ReadOnlyAddressBook;
 
@@ -59,6 +60,23 @@ public class JsonAddressBookStorageTest {
         assertThrows(DataConversionException.class, () -> readAddressBook("invalidAndValidPersonAddressBook.json"));
     }
 
+    @Test
+    public void readAddressBook_tasksBeforePersons_success() throws Exception {
+        ReadOnlyAddressBook addressBook = readAddressBook("tasksBeforePersonsAddressBook.json").get();
+        assertEquals(1, addressBook.getTaskList().size());
+        assertEquals(1, addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void saveAddressBook_sameFormatAsSerializableAddressBook_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+
+        JsonSerializableAddressBook readBack = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class).get();
+        assertEquals(original, readBack.toModelType());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.resolve("TempAddressBook.json");
@@ -0,0 +1,231 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployeesEdit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.commons.exceptions.DataConversionException;
+import manageezpz.commons.util.FileUtil;
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Task;
+import manageezpz.testutil.DeadlineBuilder;
+import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
+
+public class JsonChangeLogAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonChangeLogAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook(null));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new JsonChangeLogAddressBookStorage(testFolder.resolve("ab.json")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new JsonChangeLogAddressBookStorage(testFolder.resolve("ab.json")).saveAddressBook(null));
+    }
+
+    @Test
+    public void saveAddressBook_afterMutations_appendsChangesWithoutRewritingSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        mutate(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertEquals(original, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_changeLogUnchanged() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        List<String> changeLog = readChangeLog(filePath);
+
+        storage.saveAddressBook(original);
+
+        assertEquals(changeLog, readChangeLog(filePath));
+    }
+
+    @Test
+    public void saveAddressBook_changeLogOverThreshold_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+
+        mutate(original);
+        storage.saveAddressBook(original);
+
+        assertEquals(1, readChangeLog(filePath).size());
+        assertEquals(original, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void prepareSaveAddressBook_mergedSaves_changesWrittenTogether() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        PendingAddressBookSave snapshotSave = storage.prepareSaveAddressBook(original);
+        original.addTask(new TodoBuilder().withDescription("Book room").build());
+        PendingAddressBookSave firstChanges = storage.prepareSaveAddressBook(original);
+        mutate(original);
+        PendingAddressBookSave secondChanges = storage.prepareSaveAddressBook(original);
+
+        PendingAddressBookSave mergedChanges = firstChanges.mergeWith(secondChanges).get();
+        assertFalse(mergedChanges.isComplete());
+        snapshotSave.mergeWith(mergedChanges).get().write();
+
+        assertEquals(original, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void saveAddressBookSnapshot_pendingChanges_compactsIntoSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        mutate(original);
+        storage.saveAddressBook(original);
+
+        storage.saveAddressBookSnapshot(original);
+
+        assertEquals(1, readChangeLog(filePath).size());
+        assertEquals(original, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void saveAddressBookSnapshot_pendingChanges_changeLogBackedUpWithSnapshot() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        mutate(original);
+        storage.saveAddressBook(original);
+        AddressBook lastSaved = new AddressBook(original);
+
+        original.addTask(new TodoBuilder().withDescription("Backed up").build());
+        storage.saveAddressBookSnapshot(original);
+
+        // Restoring both backups gives the address book as it was before the new snapshot
+        Files.delete(filePath);
+        FileUtil.restoreBackup(filePath);
+        FileUtil.restoreBackup(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath));
+        assertEquals(lastSaved, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_changeLogOfOlderSnapshot_ignoresChangeLog() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        mutate(original);
+        storage.saveAddressBook(original);
+        List<String> staleChangeLog = readChangeLog(filePath);
+
+        // Simulates a compaction that was interrupted after the new snapshot was written
+        storage.saveAddressBookSnapshot(original);
+        Files.write(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath), staleChangeLog);
+
+        assertEquals(original, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastChange_skipsLastChange() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+        AddressBook expected = new AddressBook(original);
+
+        original.addTask(new TodoBuilder().withDescription("Write minutes").build());
+        storage.saveAddressBook(original);
+        List<String> changeLog = readChangeLog(filePath);
+        String lastChange = changeLog.get(changeLog.size() - 1);
+        changeLog.set(changeLog.size() - 1, lastChange.substring(0, lastChange.length() / 2));
+        Files.write(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath), changeLog);
+
+        assertEquals(expected, new AddressBook(readBack(filePath)));
+    }
+
+    @Test
+    public void readAddressBook_invalidChange_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        FileUtil.appendToFile(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath),
+                "{\"list\":\"persons\",\"from\":3,\"removed\":1}" + System.lineSeparator()
+                + "{\"list\":\"tasks\",\"from\":0,\"removed\":0}" + System.lineSeparator());
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_changeRemovesAssignee_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        JsonChangeLogAddressBookStorage storage = new JsonChangeLogAddressBookStorage(filePath);
+        AddressBook addressBook = new AddressBook();
+        Person person = new PersonBuilder().withName("Zack Tan").build();
+        Task todo = new TodoBuilder().withDescription("Write minutes").build();
+        addressBook.addPerson(person);
+        addressBook.addTask(todo);
+        addressBook.tagEmployeeToTask(todo, person);
+        storage.saveAddressBook(addressBook);
+        FileUtil.appendToFile(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath),
+                "{\"list\":\"persons\",\"from\":0,\"removed\":1}" + System.lineSeparator());
+
+        assertThrows(DataConversionException.class, () -> storage.readAddressBook());
+    }
+
+    /**
+     * Adds, edits and removes persons and tasks in {@code addressBook}.
+     */
+    private void mutate(AddressBook addressBook) {
+        Person person = new PersonBuilder().withName("Zack Tan").withPhone("81234567")
+                .withEmail("zack@example.com").build();
+        Task todo = new TodoBuilder().withDescription("Write minutes").build();
+        Task deadline = new DeadlineBuilder().withDescription("Submit report").build();
+
+        addressBook.addPerson(person);
+        addressBook.addTask(todo);
+        addressBook.addTask(deadline);
+        addressBook.tagEmployeeToTask(todo, person);
+        addressBook.markTask(deadline);
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.removeTask(addressBook.getTaskList().get(1));
+    }
+
+    private ReadOnlyAddressBook readBack(Path filePath) throws Exception {
+        return new JsonChangeLogAddressBookStorage(filePath).readAddressBook().get();
+    }
+
+    private List<String> readChangeLog(Path filePath) throws Exception {
+        return Files.readAllLines(JsonChangeLogAddressBookStorage.getChangeLogFilePath(filePath));
+    }
+}
@@ -1,10 +1,13 @@
 package manageezpz.storage;
 
 import static manageezpz.testutil.Assert.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,4 +47,52 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_moreTasksThanOneBatch_tasksInFileOrder() throws Exception {
+        List<JsonAdaptedTask> tasks = createTodos(2 * AddressBookLoader.TASK_BATCH_SIZE + 1);
+        List<JsonAdaptedPerson> persons = List.of(new JsonAdaptedPerson("Alice Pauline", "94351253",
+                "alice@example.com", tasks.size()));
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, tasks).toModelType();
+
+        assertEquals(tasks.size(), addressBook.getTaskList().size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals("Task " + i, addressBook.getTaskList().get(i).getDescription().toString());
+        }
+        assertEquals(tasks.size(), addressBook.getPersonList().get(0).getNumOfTasks());
+    }
+
+    @Test
+    public void toModelType_personWithoutIdBeforePersonWithId_idAfterLargestId() throws Exception {
+        List<JsonAdaptedPerson> persons = List.of(
+                new JsonAdaptedPerson("Alice Pauline", "94351253", "alice@example.com", 1),
+                new JsonAdaptedPerson(1, "Benson Meier", "98765432", "johnd@example.com", 0));
+
+        AddressBook addressBook = new JsonSerializableAddressBook(persons, createTodos(1)).toModelType();
+
+        assertEquals(2, addressBook.getPersonList().get(0).getId());
+        assertEquals(1, addressBook.getPersonList().get(1).getId());
+        assertArrayEquals(new int[] {2}, addressBook.getTaskList().get(0).getAssigneeIds());
+    }
+
+    @Test
+    public void toModelType_duplicateTaskBeforeInvalidTask_throwsDuplicateTaskMessage() {
+        List<JsonAdaptedTask> tasks = new ArrayList<>(createTodos(1000));
+        tasks.set(5, tasks.get(4));
+        tasks.set(100, new JsonAdaptedTask("todo", "done", "Invalid",
+                "", "", "", "", "", "NONE"));
+        JsonSerializableAddressBook data = new JsonSerializableAddressBook(List.of(), tasks);
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_TASKS,
+                data::toModelType);
+    }
+
+    private static List<JsonAdaptedTask> createTodos(int count) {
+        List<JsonAdaptedTask> tasks = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tasks.add(new JsonAdaptedTask("todo", " ", "Task " + i, "", "", "", "", "Alice Pauline", "NONE"));
+        }
+        return tasks;
+    }
+
 }
@@ -0,0 +1,237 @@
+package manageezpz.storage;
+
+import static manageezpz.testutil.Assert.assertThrows;
+import static manageezpz.testutil.TypicalPersons.getTypicalAddressBookEmployeesEdit;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import manageezpz.model.AddressBook;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.testutil.PersonBuilder;
+import manageezpz.testutil.TodoBuilder;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_thenFlush_addressBookWritten() throws Exception {
+        WriteBehindStorage storage = createStorage(new JsonAddressBookStorage(testFolder.resolve("ab.json")));
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changeLogStorage_changesWritten() throws Exception {
+        Path filePath = testFolder.resolve("ab.json");
+        WriteBehindStorage storage = createStorage(new JsonChangeLogAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBookEmployeesEdit();
+        storage.saveAddressBook(original);
+
+        original.addPerson(new PersonBuilder().withName("Zack Tan").withPhone("81234567")
+                .withEmail("zack@example.com").build());
+        storage.saveAddressBook(original);
+        original.addTask(new TodoBuilder().withDescription("Write minutes").build());
+        storage.saveAddressBook(original);
+        storage.flush();
+
+        assertEquals(original, new AddressBook(new JsonChangeLogAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_savesQueuedDuringWrite_onlyLatestCompleteSaveWritten() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        RecordingAddressBookStorage addressBookStorage = new RecordingAddressBookStorage(
+                testFolder.resolve("ab.json"), firstWriteStarted, firstWriteReleased);
+        WriteBehindStorage storage = createStorage(addressBookStorage);
+        AddressBook addressBook = new AddressBook();
+
+        storage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(List.of(0, 3), addressBookStorage.writtenSaves);
+    }
+
+    @Test
+    public void saveAddressBook_changesQueuedDuringWrite_changesMergedIntoOneWrite() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        MergingAddressBookStorage addressBookStorage = new MergingAddressBookStorage(
+                testFolder.resolve("ab.json"), firstWriteStarted, firstWriteReleased);
+        WriteBehindStorage storage = createStorage(addressBookStorage);
+        AddressBook addressBook = new AddressBook();
+
+        storage.saveAddressBook(addressBook);
+        firstWriteStarted.await();
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        storage.saveAddressBook(addressBook);
+        firstWriteReleased.countDown();
+        storage.flush();
+
+        assertEquals(List.of(List.of(0), List.of(1, 2, 3)), addressBookStorage.writes);
+    }
+
+    @Test
+    public void throwIfSaveFailed_writeFailed_throwsOnce() throws Exception {
+        WriteBehindStorage storage = createStorage(new FailingAddressBookStorage(testFolder.resolve("ab.json")));
+
+        storage.saveAddressBook(new AddressBook());
+        storage.flush();
+
+        assertThrows(IOException.class, storage::throwIfSaveFailed);
+        storage.throwIfSaveFailed();
+    }
+
+    private WriteBehindStorage createStorage(AddressBookStorage addressBookStorage) {
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs.json"));
+        return new WriteBehindStorage(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    /**
+     * A stub that numbers the saves it prepares, records which of them are written, and blocks in the first write
+     * until released.
+     */
+    private static class RecordingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<Integer> writtenSaves = new ArrayList<>();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch firstWriteReleased;
+        private int preparedSaves;
+
+        private RecordingAddressBookStorage(Path filePath, CountDownLatch firstWriteStarted,
+                                            CountDownLatch firstWriteReleased) {
+            super(filePath);
+            this.firstWriteStarted = firstWriteStarted;
+            this.firstWriteReleased = firstWriteReleased;
+        }
+
+        @Override
+        public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+            int saveNumber = preparedSaves++;
+            return new PendingAddressBookSave() {
+                @Override
+                public boolean isComplete() {
+                    return true;
+                }
+
+                @Override
+                public void write() {
+                    if (saveNumber == 0) {
+                        firstWriteStarted.countDown();
+                        try {
+                            firstWriteReleased.await();
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    writtenSaves.add(saveNumber);
+                }
+            };
+        }
+    }
+
+    /**
+     * A stub whose first save is complete and later saves are changes that can be merged. It records the saves
+     * written by each write, and blocks in the first write until released.
+     */
+    private static class MergingAddressBookStorage extends JsonAddressBookStorage {
+        private final List<List<Integer>> writes = new ArrayList<>();
+        private final CountDownLatch firstWriteStarted;
+        private final CountDownLatch firstWriteReleased;
+        private int preparedSaves;
+
+        private MergingAddressBookStorage(Path filePath, CountDownLatch firstWriteStarted,
+                                          CountDownLatch firstWriteReleased) {
+            super(filePath);
+            this.firstWriteStarted = firstWriteStarted;
+            this.firstWriteReleased = firstWriteReleased;
+        }
+
+        @Override
+        public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+            return new MergeableSave(List.of(preparedSaves++));
+        }
+
+        private class MergeableSave implements PendingAddressBookSave {
+            private final List<Integer> saveNumbers;
+
+            private MergeableSave(List<Integer> saveNumbers) {
+                this.saveNumbers = saveNumbers;
+            }
+
+            @Override
+            public boolean isComplete() {
+                return saveNumbers.get(0) == 0;
+            }
+
+            @Override
+            public void write() {
+                if (saveNumbers.get(0) == 0) {
+                    firstWriteStarted.countDown();
+                    try {
+                        firstWriteReleased.await();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                writes.add(saveNumbers);
+            }
+
+            @Override
+            public Optional<PendingAddressBookSave> mergeWith(PendingAddressBookSave next) {
+                List<Integer> mergedNumbers = new ArrayList<>(saveNumbers);
+                mergedNumbers.addAll(((MergeableSave) next).saveNumbers);
+                return Optional.of(new MergeableSave(mergedNumbers));
+            }
+        }
+    }
+
+    /**
+     * A stub whose prepared saves always fail to be written.
+     */
+    private static class FailingAddressBookStorage extends JsonAddressBookStorage {
+        private FailingAddressBookStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public PendingAddressBookSave prepareSaveAddressBook(ReadOnlyAddressBook addressBook) {
+            return new PendingAddressBookSave() {
+                @Override
+                public boolean isComplete() {
+                    return true;
+                }
+
+                @Override
+                public void write() throws IOException {
+                    throw new IOException("dummy exception");
+                }
+            };
+        }
+    }
+}
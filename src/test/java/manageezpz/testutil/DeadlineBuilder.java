@@ -1,8 +1,10 @@
 package manageezpz.testutil;
 
+import manageezpz.model.task.Assignees;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Deadline;
 import manageezpz.model.task.Description;
+import manageezpz.model.task.Priority;
 import manageezpz.model.task.Time;
 
 public class DeadlineBuilder {
@@ -13,6 +15,9 @@ public class DeadlineBuilder {
     private Description description;
     private Date date;
     private Time time;
+    private boolean isDone;
+    private Priority priority;
+    private Assignees assignees;
 
     /**
      * Creates a {@code DeadlineBuilder} with the default details.
@@ -21,6 +26,9 @@ public class DeadlineBuilder {
         description = new Description(TASK_DESCRIPTION);
         date = new Date(TASK_DATE);
         time = new Time(TASK_TIME);
+        isDone = false;
+        priority = Priority.NONE;
+        assignees = Assignees.EMPTY;
     }
 
     /**
@@ -48,7 +56,31 @@ public class DeadlineBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the {@code Task} that we are building is done.
+     */
+    public DeadlineBuilder withDone(boolean isDone) {
+        this.isDone = isDone;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public DeadlineBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Sets the ids of the assignees of the {@code Task} that we are building.
+     */
+    public DeadlineBuilder withAssignees(int... assigneeIds) {
+        this.assignees = Assignees.of(assigneeIds);
+        return this;
+    }
+
     public Deadline build() {
-        return new Deadline(description, date, time);
+        return new Deadline(description, date, time, isDone, priority, assignees);
     }
 }
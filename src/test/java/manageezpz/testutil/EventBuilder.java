@@ -1,8 +1,10 @@
 package manageezpz.testutil;
 
+import manageezpz.model.task.Assignees;
 import manageezpz.model.task.Date;
 import manageezpz.model.task.Description;
 import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
 import manageezpz.model.task.Time;
 
 
@@ -17,6 +19,9 @@ public class EventBuilder {
     private Date date;
     private Time startTime;
     private Time endTime;
+    private boolean isDone;
+    private Priority priority;
+    private Assignees assignees;
 
     /**
      * Creates a {@code EventBuilder} with the default details.
@@ -26,6 +31,9 @@ public class EventBuilder {
         date = new Date(TASK_DATE);
         startTime = new Time(TASK_START_TIME);
         endTime = new Time(TASK_END_TIME);
+        isDone = false;
+        priority = Priority.NONE;
+        assignees = Assignees.EMPTY;
     }
 
     /**
@@ -60,7 +68,31 @@ public class EventBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the {@code Task} that we are building is done.
+     */
+    public EventBuilder withDone(boolean isDone) {
+        this.isDone = isDone;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public EventBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Sets the ids of the assignees of the {@code Task} that we are building.
+     */
+    public EventBuilder withAssignees(int... assigneeIds) {
+        this.assignees = Assignees.of(assigneeIds);
+        return this;
+    }
+
     public Event build() {
-        return new Event(description, date, startTime, endTime);
+        return new Event(description, date, startTime, endTime, isDone, priority, assignees);
     }
 }
@@ -0,0 +1,242 @@
+package manageezpz.testutil;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.ObservableList;
+import manageezpz.commons.core.GuiSettings;
+import manageezpz.model.Model;
+import manageezpz.model.ReadOnlyAddressBook;
+import manageezpz.model.ReadOnlyUserPrefs;
+import manageezpz.model.person.Name;
+import manageezpz.model.person.Person;
+import manageezpz.model.task.Deadline;
+import manageezpz.model.task.Event;
+import manageezpz.model.task.Priority;
+import manageezpz.model.task.Task;
+import manageezpz.model.task.TaskMultiplePredicate;
+import manageezpz.model.task.TaskQueryPlan;
+import manageezpz.model.task.Todo;
+
+/**
+ * A default model stub that have all of the methods failing.
+ * Tests extend it and override only the methods they expect to be called.
+ */
+public class ModelStub implements Model {
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook newData) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPersonOtherThan(Person person, Person excludedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> getTasksAssignedTo(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Set<Name> getPersonNamesWithWord(String word) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Name> getPersonNamesWithWordPrefix(String prefix, int limit) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public TaskQueryPlan planTaskQuery(TaskMultiplePredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addTodo(Todo todo) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addEvent(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addDeadline(Deadline deadline) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void updateFilteredTaskList(Predicate<Task> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Task> getFilteredTaskList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasTodo(Todo todo) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasDeadline(Deadline deadline) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasEvent(Event event) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isEmployeeTaggedToTask(Task task, Person p) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasPriority(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setTask(Task target, Task editedTask) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteTasks(List<Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Task markTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Task unmarkTask(Task task) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> markTasks(List<Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> unmarkTasks(List<Task> tasks) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Task tagPriorityToTask(Task task, Priority priority) {
+        return null;
+    }
+
+    @Override
+    public Task tagEmployeeToTask(Task task, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Task> tagEmployeeToTasks(List<Task> tasks, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Task untagEmployeeFromTask(Task task, Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
+}
@@ -0,0 +1,68 @@
+package manageezpz.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates reproducible random strings for property-based tests of validators.
+ */
+public class RandomStrings {
+
+    /** Characters that validators treat specially, plus non-ASCII letters and digits that regexes reject. */
+    public static final String ALPHABET = "aZ09+_.-@/: \n\u00e9\u0663\uff21";
+
+    private RandomStrings() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} strings of up to {@code maxLength} characters chosen from {@code alphabet}.
+     */
+    public static List<String> fromAlphabet(long seed, int count, String alphabet, int maxLength) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(maxLength + 1);
+            for (int j = 0; j < length; j++) {
+                builder.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+
+    /**
+     * Returns {@code count} strings that each join up to {@code maxTokens} tokens chosen from {@code tokens}.
+     * Choosing tokens that are close to valid input makes valid and almost valid strings common.
+     */
+    public static List<String> fromTokens(long seed, int count, String[] tokens, int maxTokens) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder();
+            int numOfTokens = random.nextInt(maxTokens + 1);
+            for (int j = 0; j < numOfTokens; j++) {
+                builder.append(tokens[random.nextInt(tokens.length)]);
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+
+    /**
+     * Returns {@code count} strings that each join one option chosen from every part of {@code parts}, in order.
+     * Splitting input into parts keeps strings with a valid overall shape common, e.g. dates with two separators.
+     */
+    public static List<String> fromParts(long seed, int count, String[]... parts) {
+        Random random = new Random(seed);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder builder = new StringBuilder();
+            for (String[] options : parts) {
+                builder.append(options[random.nextInt(options.length)]);
+            }
+            strings.add(builder.toString());
+        }
+        return strings;
+    }
+}
@@ -1,17 +1,25 @@
 package manageezpz.testutil;
 
+import manageezpz.model.task.Assignees;
 import manageezpz.model.task.Description;
+import manageezpz.model.task.Priority;
 import manageezpz.model.task.Todo;
 
 public class TodoBuilder {
 
     public static final String TASK_DESCRIPTION = "read book";
     private Description description;
+    private boolean isDone;
+    private Priority priority;
+    private Assignees assignees;
     /**
      * Creates a {@code TaskBuilder} with the default details.
      */
     public TodoBuilder() {
         description = new Description(TASK_DESCRIPTION);
+        isDone = false;
+        priority = Priority.NONE;
+        assignees = Assignees.EMPTY;
     }
 
     /**
@@ -19,6 +27,9 @@ public class TodoBuilder {
      */
     public TodoBuilder(Todo taskToCopy) {
         description = taskToCopy.getDescription();
+        isDone = taskToCopy.isDone();
+        priority = taskToCopy.getPriority();
+        assignees = taskToCopy.getAssignees();
     }
 
     /**
@@ -29,7 +40,31 @@ public class TodoBuilder {
         return this;
     }
 
+    /**
+     * Sets whether the {@code Task} that we are building is done.
+     */
+    public TodoBuilder withDone(boolean isDone) {
+        this.isDone = isDone;
+        return this;
+    }
+
+    /**
+     * Sets the {@code Priority} of the {@code Task} that we are building.
+     */
+    public TodoBuilder withPriority(String priority) {
+        this.priority = Priority.valueOf(priority);
+        return this;
+    }
+
+    /**
+     * Sets the ids of the assignees of the {@code Task} that we are building.
+     */
+    public TodoBuilder withAssignees(int... assigneeIds) {
+        this.assignees = Assignees.of(assigneeIds);
+        return this;
+    }
+
     public Todo build() {
-        return new Todo(description);
+        return new Todo(description, isDone, priority, assignees);
     }
 }
@@ -15,19 +15,25 @@ import manageezpz.model.task.Todo;
 
 public class TypicalTasks {
 
+    // The id of GEORGE, who is assigned to some of the typical tasks, in the address book with the typical tasks
+    public static final int GEORGE_ID = 1;
+
     public static final Todo READ_BOOK = new TodoBuilder().withDescription("Read Book").build();
-    public static final Todo RETURN_BOOK = new TodoBuilder().withDescription("Return Book").build();
+    public static final Todo RETURN_BOOK = new TodoBuilder().withDescription("Return Book")
+            .withAssignees(GEORGE_ID).withDone(true).build();
     public static final Todo GO_FOR_RUN = new TodoBuilder().withDescription("Go for run").build();
     public static final Todo GET_HAIRCUT = new TodoBuilder().withDescription("Get Haircut").build();
-    public static final Todo WEEKLY_QUIZ = new TodoBuilder().withDescription("Weekly Quiz").build();
+    public static final Todo WEEKLY_QUIZ = new TodoBuilder().withDescription("Weekly Quiz")
+            .withPriority("HIGH").build();
     public static final Deadline GET_DRINK = new DeadlineBuilder().withDescription("Get Drink")
             .withDate("2022-05-13").withTime("1800").build();
     public static final Deadline PROJECT_CAPSTONE = new DeadlineBuilder().withDescription("Project capstone")
-            .withDate("2022-04-01").withTime("2359").build();
+            .withDate("2022-04-01").withTime("2359").withPriority("HIGH").withAssignees(GEORGE_ID).withDone(true)
+            .build();
     public static final Deadline FYP_REPORT = new DeadlineBuilder().withDescription("FYP Report").withDate("2024-05-02")
-            .withTime("2359").build();
+            .withTime("2359").withPriority("HIGH").withAssignees(GEORGE_ID).build();
     public static final Event HOUSE_VISTING = new EventBuilder().withDescription("House Visiting")
-            .withDate("2022-09-15").withStartTime("1800").withEndTime("2000").build();
+            .withDate("2022-09-15").withStartTime("1800").withEndTime("2000").withAssignees(GEORGE_ID).build();
     public static final Event MALAYSIA_BORDERS_OPEN = new EventBuilder().withDescription("Malaysia Borders open")
             .withDate("2022-04-01").withStartTime("0000").withEndTime("2359").build();
     public static final Event CS2103_PRACTICAL_EXAM = new EventBuilder().withDescription("CS2103 Practical Exam")
@@ -36,14 +42,14 @@ public class TypicalTasks {
     // Manually added - Task's details found in {@code CommandTestUtil}
     public static final Todo GET_A_DRINK = new TodoBuilder().withDescription(VALID_TASK_DESCRIPTION).build();
 
-
     private TypicalTasks() {} // prevents instantiation
 
     /**
-     * Returns an {@code AddressBook} with all the typical tasks.
+     * Returns an {@code AddressBook} with all the typical tasks and their assignee GEORGE.
      */
     public static AddressBook getTypicalAddressBookTasks() {
         AddressBook ab = new AddressBook();
+        ab.addPerson(GEORGE.withId(GEORGE_ID));
         for (Task task : getTypicalTask()) {
             ab.addTask(task);
         }
@@ -51,21 +57,6 @@ public class TypicalTasks {
     }
 
     public static List<Task> getTypicalTask() {
-        // Set Priority
-        WEEKLY_QUIZ.setPriority("HIGH");
-        PROJECT_CAPSTONE.setPriority("HIGH");
-        FYP_REPORT.setPriority("HIGH");
-
-        // Set Assignee
-        RETURN_BOOK.addAssignees(GEORGE);
-        PROJECT_CAPSTONE.addAssignees(GEORGE);
-        FYP_REPORT.addAssignees(GEORGE);
-        HOUSE_VISTING.addAssignees(GEORGE);
-
-        // Set marked
-        RETURN_BOOK.setTaskDone();
-        PROJECT_CAPSTONE.setTaskDone();
-
         return new ArrayList<>(Arrays.asList(WEEKLY_QUIZ, PROJECT_CAPSTONE, FYP_REPORT, READ_BOOK, RETURN_BOOK,
                 GO_FOR_RUN, GET_HAIRCUT, GET_A_DRINK, GET_DRINK, HOUSE_VISTING, MALAYSIA_BORDERS_OPEN,
                 CS2103_PRACTICAL_EXAM));